@@ -1,6 +1,8 @@
 package src.actions;
 
 import src.entities.Entity;
+import src.events.DamageType;
+import src.events.GameEvents;
 import src.game.Battle;
 import src.items.Weapon;
 
@@ -35,26 +37,63 @@ public class AttackAction extends BattleAction {
             return false;
         }
 
-        Weapon equippedWeapon = actor.getEquipedWeapon();
+        double strengthRoll = random.nextDouble();
+        double weaponRoll = random.nextDouble();
+        int totalDamage = computeDamage(actor.getStrength(), getWeaponDamage(), strengthRoll, weaponRoll);
 
-        // Randomized strength contribution (80% - 100% of base)
-        int strength = actor.getStrength();
-        int strengthContribution = (int) (strength * (0.8 + (random.nextDouble() * 0.2)));
+        target.takeDamage(totalDamage);
+        GameEvents.damageDealt(actor, target, totalDamage, DamageType.ATTACK);
 
-        // Randomized weapon damage contribution (90% - 110% of base)
-        int weaponDamage = equippedWeapon != null ? equippedWeapon.getAttackPower() : 0;
-        int weaponContribution = (int) (weaponDamage * (0.9 + (random.nextDouble() * 0.2)));
+        return true;
+    }
 
-        // Total randomized damage
-        int totalDamage = strengthContribution + weaponContribution;
+    /**
+     * Computes the damage of an attack from its random rolls, before any
+     * reduction by the target.
+     *
+     * @param strength     The strength of the attacker.
+     * @param weaponDamage The attack power of its weapon, 0 without one.
+     * @param strengthRoll The roll of the strength contribution, from 0 (80% of
+     *                     the strength) to 1 (100%).
+     * @param weaponRoll   The roll of the weapon contribution, from 0 (90% of the
+     *                     attack power) to 1 (110%).
+     * @return The damage dealt.
+     */
+    public static int computeDamage(int strength, int weaponDamage, double strengthRoll, double weaponRoll) {
+        int strengthContribution = (int) (strength * (0.8 + (strengthRoll * 0.2)));
+        int weaponContribution = (int) (weaponDamage * (0.9 + (weaponRoll * 0.2)));
+        return strengthContribution + weaponContribution;
+    }
 
-        target.takeDamage(totalDamage);
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out
-                .println( "⚔️ " + actor.getName() + " attacks " + target.getName() + " with " + "⚡ " +totalDamage
-                        + " total damage!");
+    /**
+     * Computes the damage dealt by this action when both of its rolls land on the
+     * same value, before any reduction by the target.
+     *
+     * @param roll The roll, from 0 for the lowest damage to 1 for the highest.
+     * @return The damage dealt.
+     */
+    public int getDamageForRoll(double roll) {
+        return computeDamage(actor.getStrength(), getWeaponDamage(), roll, roll);
+    }
 
-        return true;
+    /**
+     * Estimates the average damage dealt by this action, before any reduction by
+     * the target.
+     *
+     * @return The expected damage.
+     */
+    public double getExpectedDamage() {
+        return actor.getStrength() * 0.9 + getWeaponDamage();
+    }
+
+    /**
+     * Gets the attack power of the actor's weapon.
+     *
+     * @return The attack power, 0 without a weapon.
+     */
+    private int getWeaponDamage() {
+        Weapon equippedWeapon = actor.getEquipedWeapon();
+        return equippedWeapon != null ? equippedWeapon.getAttackPower() : 0;
     }
 
     /**
@@ -16,6 +16,8 @@ public abstract class BattleAction {
     protected final Entity actor;
     protected final Random random;
     private int disabledTurns = 0;
+    // Position of the action in its actor's action list, -1 until added
+    private int slot = -1;
 
     /**
      * Constructs a BattleAction with a specified name and actor.
@@ -45,6 +47,15 @@ public abstract class BattleAction {
         return this.name;
     }
 
+    /**
+     * Retrieves the entity performing the action.
+     *
+     * @return The actor.
+     */
+    public Entity getActor() {
+        return this.actor;
+    }
+
     /**
      * Executes the action in battle.
      * 
@@ -72,6 +83,15 @@ public abstract class BattleAction {
         return disabledTurns > 0;
     }
 
+    /**
+     * Gets the number of turns the action remains disabled.
+     *
+     * @return The remaining cooldown, 0 if the action can be used.
+     */
+    public int getDisabledTurns() {
+        return disabledTurns;
+    }
+
     /**
      * Disables the action for a specified number of turns.
      *
@@ -79,7 +99,11 @@ public abstract class BattleAction {
      */
 
     public void disable(int turns) {
+        boolean wasDisabled = isDisabled();
         disabledTurns = turns;
+        if (wasDisabled != isDisabled()) {
+            notifyActor();
+        }
     }
 
     /**
@@ -89,6 +113,32 @@ public abstract class BattleAction {
     public void endTurn() {
         if (disabledTurns > 0) {
             disabledTurns--;
+            if (disabledTurns == 0) {
+                notifyActor();
+            }
+        }
+    }
+
+    /**
+     * Records the position of the action in its actor's action list. Called by
+     * the actor when the action is added.
+     *
+     * @param slot The position of the action.
+     * @throws IllegalStateException if the action was already added.
+     */
+    public void assignSlot(int slot) {
+        if (this.slot >= 0) {
+            throw new IllegalStateException("Action " + name + " was already added to an entity.");
+        }
+        this.slot = slot;
+    }
+
+    /**
+     * Tells the actor the action became ready or disabled.
+     */
+    private void notifyActor() {
+        if (slot >= 0) {
+            actor.setActionReady(slot, !isDisabled());
         }
     }
 }
@@ -1,7 +1,9 @@
 package src.actions;
 
 import src.entities.Entity;
+import src.events.GameEvents;
 import src.game.Battle;
+import src.game.GameOutput;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,7 +12,9 @@ import java.util.List;
  * Represents a hacking action that can be performed on electronic entities during battle.
  */
 public class HackAction extends BattleAction {
-    private static final int SUCCESS_RATE = 33;
+    public static final int SUCCESS_RATE = 33;
+    public static final int SUCCESS_COOLDOWN_TURNS = 5;
+    public static final int FAILURE_COOLDOWN_TURNS = 1;
 
     /**
      * Constructs a HackAction for a given entity.
@@ -33,29 +37,28 @@ public class HackAction extends BattleAction {
     @Override
     public boolean execute(Battle battle, Entity target) {
         if (target == null) {
-            System.out.println("❌ No target selected for hacking!");
+            GameOutput.println("❌ No target selected for hacking!");
             return false;
         }
 
         if (!target.isElectronic()) {
-            System.out.println("❌ " + target.getName() + " cannot be hacked!");
+            GameOutput.println("❌ " + target.getName() + " cannot be hacked!");
             return false;
         }
 
         int roll = random.nextInt(100);
 
         if (roll < SUCCESS_RATE) {
-            System.out.println("✅ " + this.actor.getName() + " has been able to hack " + target.getName() + "!");
             battle.moveToAllies(target);
             // Disable the target for 1 turn
-            System.out.println(target.getName() + " won't be able to attack this turn.");
             target.disable(1);
+            GameEvents.hacked(this.actor, target, true);
 
             // Disable action for 5 turns
-            this.disable(5);
+            this.disable(SUCCESS_COOLDOWN_TURNS);
         } else {
-            System.out.println("❌ " + this.actor.getName() + " failed to hack " + target.getName() + "!");
-            this.disable(1);
+            this.disable(FAILURE_COOLDOWN_TURNS);
+            GameEvents.hacked(this.actor, target, false);
         }
 
         return true;
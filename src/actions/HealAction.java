@@ -1,15 +1,21 @@
 package src.actions;
 
 import src.entities.Entity;
+import src.events.GameEvents;
+import src.events.HealType;
 import src.game.Battle;
+import src.game.GameOutput;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Represents a healing action that can be performed on allies during battle.
  */
 public class HealAction extends BattleAction {
+    public static final int COOLDOWN_TURNS = 2;
+    private static final int BASE_HEAL = 15;
 
     /**
      * Constructs a HealAction for a given entity.
@@ -32,19 +38,48 @@ public class HealAction extends BattleAction {
     @Override
     public boolean execute(Battle battle, Entity target) {
         if (target == null) {
-            System.out.println("❌ No target selected for healing!");
+            GameOutput.println("❌ No target selected for healing!");
             return false;
         }
 
-        int healAmount = this.random.nextInt(actor.getStrength()) + 15;
+        int healAmount = rollHeal(actor.getStrength(), this.random);
         target.heal(healAmount);
-        System.out.println(actor.getName() + " heals " + target.getName() + " for " + healAmount + " HP! "
-                + target.getName() + " now has " + target.getCurrentHp() + " HP.");
+        GameEvents.healed(actor, target, healAmount, HealType.HEAL_ACTION);
         // Disable action for 2 turns
-        this.disable(2);
+        this.disable(COOLDOWN_TURNS);
         return true;
     }
 
+    /**
+     * Draws the amount of HP restored by a heal.
+     *
+     * @param strength The strength of the healer.
+     * @param random   The random instance to draw from.
+     * @return The HP restored, from 15 to 14 + strength.
+     */
+    public static int rollHeal(int strength, Random random) {
+        return random.nextInt(strength) + BASE_HEAL;
+    }
+
+    /**
+     * Computes the amount of HP restored by this action for a given roll.
+     *
+     * @param roll The roll, from 0 for the lowest heal to 1 for the highest.
+     * @return The HP restored.
+     */
+    public int getHealForRoll(double roll) {
+        return (int) ((actor.getStrength() - 1) * roll) + BASE_HEAL;
+    }
+
+    /**
+     * Estimates the average amount of HP restored by this action.
+     *
+     * @return The expected heal amount.
+     */
+    public double getExpectedHeal() {
+        return (actor.getStrength() - 1) / 2.0 + BASE_HEAL;
+    }
+
     /**
      * Retrieves valid healable targets from the battle.
      *
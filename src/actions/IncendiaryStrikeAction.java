@@ -1,6 +1,7 @@
 package src.actions;
 
 import src.entities.Entity;
+import src.events.GameEvents;
 import src.game.Battle;
 import src.status.Burning;
 
@@ -10,6 +11,9 @@ import java.util.List;
  * Represents an incendiary strike action that applies a burning status effect to all enemies.
  */
 public class IncendiaryStrikeAction extends BattleAction {
+    public static final int COOLDOWN_TURNS = 10;
+    public static final int BURN_DURATION = 3;
+    public static final int BURN_DAMAGE = 25;
 
     /**
      * Constructs an IncendiaryStrikeAction for a given entity.
@@ -33,13 +37,13 @@ public class IncendiaryStrikeAction extends BattleAction {
     public boolean execute(Battle battle, Entity target) {
         List<Entity> enemies = battle.getEnemies(this.actor);
 
-        System.out.println(this.actor.getName() + " unleashes a fiery attack on all enemies!");
+        GameEvents.areaAttack(this.actor);
         for (Entity entity : enemies) {
-            entity.applyStatus(new Burning(3, 25));
+            entity.applyStatus(new Burning(BURN_DURATION, BURN_DAMAGE));
         }
 
         // Disable action for 10 turns
-        this.disable(10);
+        this.disable(COOLDOWN_TURNS);
         return true;
     }
 
@@ -1,6 +1,8 @@
 package src.actions;
 
 import src.entities.Entity;
+import src.events.DamageType;
+import src.events.GameEvents;
 import src.game.Battle;
 import src.items.Weapon;
 
@@ -10,6 +12,7 @@ import java.util.List;
  * Represents a special attack action that deals increased damage to a single target.
  */
 public class SpecialAttackAction extends BattleAction {
+    public static final int COOLDOWN_TURNS = 5;
 
     /**
      * Constructs a SpecialAttackAction for a given entity.
@@ -35,28 +38,67 @@ public class SpecialAttackAction extends BattleAction {
             return false;
         }
 
-        Weapon equippedWeapon = actor.getEquipedWeapon();
-
-        // Randomized strength contribution (100% - 120% of base)
-        int strength = actor.getStrength();
-        int strengthContribution = (int) (strength * (1 + (random.nextDouble() * 0.2)));
-
-        // Randomized weapon damage contribution (100% - 150% of base)
-        int weaponDamage = equippedWeapon != null ? equippedWeapon.getAttackPower() : 0;
-        int weaponContribution = (int) (weaponDamage * (1 + (random.nextDouble() * 0.5)));
-
-        // Total randomized damage
-        int totalDamage = strengthContribution + weaponContribution;
+        double strengthRoll = random.nextDouble();
+        double weaponRoll = random.nextDouble();
+        int totalDamage = computeDamage(actor.getStrength(), getWeaponDamage(), strengthRoll, weaponRoll);
         target.takeDamage(totalDamage);
 
-        System.out.println("\n" + actor.getName() + " releases a devastating attack on " + target.getName() + " with "
-                + totalDamage + " total damage!🙀");
+        GameEvents.damageDealt(actor, target, totalDamage, DamageType.SPECIAL_ATTACK);
 
         // Disable action for 5 turns
-        this.disable(5);
+        this.disable(COOLDOWN_TURNS);
         return true;
     }
 
+    /**
+     * Computes the damage of a special attack from its random rolls, before any
+     * reduction by the target.
+     *
+     * @param strength     The strength of the attacker.
+     * @param weaponDamage The attack power of its weapon, 0 without one.
+     * @param strengthRoll The roll of the strength contribution, from 0 (100% of
+     *                     the strength) to 1 (120%).
+     * @param weaponRoll   The roll of the weapon contribution, from 0 (100% of the
+     *                     attack power) to 1 (150%).
+     * @return The damage dealt.
+     */
+    public static int computeDamage(int strength, int weaponDamage, double strengthRoll, double weaponRoll) {
+        int strengthContribution = (int) (strength * (1 + (strengthRoll * 0.2)));
+        int weaponContribution = (int) (weaponDamage * (1 + (weaponRoll * 0.5)));
+        return strengthContribution + weaponContribution;
+    }
+
+    /**
+     * Computes the damage dealt by this action when both of its rolls land on the
+     * same value, before any reduction by the target.
+     *
+     * @param roll The roll, from 0 for the lowest damage to 1 for the highest.
+     * @return The damage dealt.
+     */
+    public int getDamageForRoll(double roll) {
+        return computeDamage(actor.getStrength(), getWeaponDamage(), roll, roll);
+    }
+
+    /**
+     * Estimates the average damage dealt by this action, before any reduction by
+     * the target.
+     *
+     * @return The expected damage.
+     */
+    public double getExpectedDamage() {
+        return actor.getStrength() * 1.1 + getWeaponDamage() * 1.25;
+    }
+
+    /**
+     * Gets the attack power of the actor's weapon.
+     *
+     * @return The attack power, 0 without a weapon.
+     */
+    private int getWeaponDamage() {
+        Weapon equippedWeapon = actor.getEquipedWeapon();
+        return equippedWeapon != null ? equippedWeapon.getAttackPower() : 0;
+    }
+
     /**
      * Retrieves valid targets for the special attack action.
      *
@@ -3,7 +3,7 @@ package src.actions;
 import src.entities.Entity;
 import src.entities.Hero;
 import src.game.Battle;
-import src.game.GameScanner;
+import src.game.GameOutput;
 import src.items.Item;
 import src.items.ItemBattle;
 import src.items.ItemHero;
@@ -45,23 +45,20 @@ public class UseItemAction extends BattleAction {
         Hero player = (Hero) actor;
 
         if (player.getInventory().getSize() == 0) {
-            System.out.println("❌ You have no items in your inventory!");
+            GameOutput.println("❌ You have no items in your inventory!");
             return false;
         }
 
-        player.getInventory().showInventory();
-
-        System.out.println("\nChoose an item to use (or 0 to cancel):");
-        int itemChoice = GameScanner.getInt();
+        int itemChoice = battle.getHeroController().chooseItem(battle, player);
 
         if (itemChoice == 0) {
-            System.out.println("❌ Action canceled.");
+            GameOutput.println("❌ Action canceled.");
             return false;
         }
 
         // Validate selection
         if (itemChoice < 1 || itemChoice > player.getInventory().getSize()) {
-            System.out.println("❌ Invalid selection! Please choose a valid item.");
+            GameOutput.println("❌ Invalid selection! Please choose a valid item.");
             return false;
         }
 
@@ -80,7 +77,7 @@ public class UseItemAction extends BattleAction {
                     }
                 }
                 default -> {
-                    System.out.println("❌ You can't use this at the moment.");
+                    GameOutput.println("❌ You can't use this at the moment.");
                     return false;
                 }
             }
@@ -88,7 +85,7 @@ public class UseItemAction extends BattleAction {
             player.getInventory().removeItem(selectedItem);
             return true;
         } else {
-            System.out.println("❌ Something went wrong! Could not use item.");
+            GameOutput.println("❌ Something went wrong! Could not use item.");
         }
         return false;
     }
@@ -0,0 +1,19 @@
+package src.ai;
+
+import src.entities.Entity;
+import src.game.Battle;
+
+/**
+ * Decides what enemies and friendly NPCs do on their turn.
+ */
+public interface BattleAI {
+
+    /**
+     * Chooses the action and target for an entity's turn.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The entity about to act.
+     * @return The decision, or null if the entity cannot do anything this turn.
+     */
+    Decision decide(Battle battle, Entity actor);
+}
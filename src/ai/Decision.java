@@ -0,0 +1,14 @@
+package src.ai;
+
+import src.actions.BattleAction;
+import src.entities.Entity;
+
+/**
+ * An action chosen by an AI together with its target.
+ *
+ * @param action The action to execute.
+ * @param target The target of the action (may be null for actions without a
+ *               target).
+ */
+public record Decision(BattleAction action, Entity target) {
+}
@@ -0,0 +1,88 @@
+package src.ai;
+
+import src.actions.BattleAction;
+import src.entities.Entity;
+import src.game.Battle;
+import src.game.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Picks a random executable action and always targets the weakest entity.
+ * Every available action is checked once, so a decision takes a bounded amount
+ * of work. The action is drawn once among the executable actions only, rather
+ * than redrawn among all the available ones until it has a target, so every
+ * decision takes exactly one random draw.
+ */
+public class RandomBattleAI implements BattleAI {
+    private final Random random;
+    // Reused for every decision: the executable actions and their targets
+    private final ArrayList<BattleAction> executableActions;
+    private final ArrayList<List<Entity>> executableTargets;
+
+    /**
+     * Constructs a random AI using the game's random instance.
+     */
+    public RandomBattleAI() {
+        this.random = GameRandom.getInstance();
+        this.executableActions = new ArrayList<>();
+        this.executableTargets = new ArrayList<>();
+    }
+
+    /**
+     * Picks one of the executable actions at random.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The entity about to act.
+     * @return The decision, or null if no action has a valid target.
+     */
+    @Override
+    public Decision decide(Battle battle, Entity actor) {
+        collectExecutableActions(battle, actor);
+        if (executableActions.isEmpty()) {
+            return null;
+        }
+
+        int choice = this.random.nextInt(executableActions.size());
+        return new Decision(executableActions.get(choice), getWeakest(executableTargets.get(choice)));
+    }
+
+    /**
+     * Finds the actions an entity can execute this turn, that is, the available
+     * actions that have at least one valid target.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The entity about to act.
+     */
+    private void collectExecutableActions(Battle battle, Entity actor) {
+        executableActions.clear();
+        executableTargets.clear();
+        List<BattleAction> actions = actor.getAvailableActions();
+        for (int i = 0; i < actions.size(); i++) {
+            BattleAction action = actions.get(i);
+            List<Entity> targets = action.getValidTargets(battle);
+            if (targets != null && !targets.isEmpty()) {
+                executableActions.add(action);
+                executableTargets.add(targets);
+            }
+        }
+    }
+
+    /**
+     * Finds the target with the lowest HP.
+     *
+     * @param targets The valid targets.
+     * @return The weakest target.
+     */
+    private static Entity getWeakest(List<Entity> targets) {
+        Entity selectedTarget = null;
+        for (Entity target : targets) {
+            if (selectedTarget == null || target.getCurrentHp() < selectedTarget.getCurrentHp()) {
+                selectedTarget = target;
+            }
+        }
+        return selectedTarget;
+    }
+}
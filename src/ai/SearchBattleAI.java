@@ -0,0 +1,509 @@
+package src.ai;
+
+import src.actions.AttackAction;
+import src.actions.BattleAction;
+import src.actions.HealAction;
+import src.actions.SpecialAttackAction;
+import src.entities.Entity;
+import src.game.Battle;
+import src.game.Faction;
+import src.game.GameClock;
+import src.game.GameSession;
+import src.status.EndOfTurnStatus;
+import src.status.TimedStatus;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Expectimax search for bosses.
+ * The boss looks several turns ahead, averaging over low, average and high
+ * damage rolls, while every other entity is assumed to play a simple greedy
+ * policy. The search deepens one turn at a time until the time budget runs out
+ * and returns the best move of the deepest completed search, so it always
+ * answers within the budget. If not even one turn can be searched in time, the
+ * utility AI decides instead.
+ */
+public class SearchBattleAI implements BattleAI {
+    public static final long DEFAULT_BUDGET_NANOS = 10_000_000;
+    public static final int DEFAULT_MAX_DEPTH = 8;
+
+    private static final int ATTACK = 0;
+    private static final int SPECIAL = 1;
+    private static final int HEAL = 2;
+    // Probability of the low, average and high roll outcomes
+    private static final double[] OUTCOME_PROBABILITY = { 0.25, 0.5, 0.25 };
+    private static final int AVERAGE_OUTCOME = 1;
+    private static final double WIN_SCORE = 10;
+    // Marks statuses without an end in SearchState.statusTurns
+    private static final int PERMANENT_STATUS_TURNS = -1;
+    // The clock is only read every this many nodes
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+    private static final SearchTimeout TIMEOUT = new SearchTimeout();
+
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final SearchMetrics metrics;
+    private final GameClock clock;
+    private final BattleAI fallback;
+    private final SearchState root;
+    // One state per search level, reused for every node of that level
+    private final ArrayList<SearchState> levels;
+    private final IdentityHashMap<Entity, Integer> indexes;
+    private final ArrayList<BattleAction> rootActions;
+    private final ArrayList<Entity> rootTargets;
+    private int bossIndex;
+    private byte bossSide;
+    private long deadline;
+    private long nodes;
+
+    /**
+     * Constructs a search AI with the default budget and its own metrics.
+     */
+    public SearchBattleAI() {
+        this(DEFAULT_BUDGET_NANOS, DEFAULT_MAX_DEPTH, new SearchMetrics());
+    }
+
+    /**
+     * Constructs a search AI.
+     *
+     * @param budgetNanos The maximum time per decision, Long.MAX_VALUE for no
+     *                    limit (the search then only stops at the max depth,
+     *                    which makes decisions reproducible).
+     * @param maxDepth    The maximum number of turns to look ahead.
+     * @param metrics     Where decision statistics are recorded.
+     */
+    public SearchBattleAI(long budgetNanos, int maxDepth, SearchMetrics metrics) {
+        this.budgetNanos = budgetNanos;
+        this.maxDepth = maxDepth;
+        this.metrics = metrics;
+        this.clock = GameSession.current().getClock();
+        this.fallback = new UtilityBattleAI();
+        this.root = new SearchState(8);
+        this.levels = new ArrayList<>();
+        this.indexes = new IdentityHashMap<>();
+        this.rootActions = new ArrayList<>();
+        this.rootTargets = new ArrayList<>();
+    }
+
+    /**
+     * Gets the statistics of the decisions made so far.
+     *
+     * @return The search metrics.
+     */
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Searches deeper and deeper until the budget runs out, and returns the best
+     * move of the deepest completed search.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The boss about to act.
+     * @return The best decision found.
+     */
+    @Override
+    public Decision decide(Battle battle, Entity actor) {
+        long start = clock.nanoTime();
+        deadline = budgetNanos >= Long.MAX_VALUE - start ? Long.MAX_VALUE : start + budgetNanos;
+        nodes = 0;
+
+        buildRoot(battle, actor);
+        collectRootMoves(battle, actor);
+        if (rootActions.isEmpty()) {
+            return null;
+        }
+
+        int bestMove = -1;
+        int depthReached = 0;
+        try {
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                bestMove = searchRoot(depth);
+                depthReached = depth;
+            }
+        } catch (SearchTimeout ignored) {
+            // Keep the best move of the deepest completed search
+        }
+
+        Decision decision = depthReached > 0
+                ? new Decision(rootActions.get(bestMove), rootTargets.get(bestMove))
+                : fallback.decide(battle, actor);
+        metrics.record(budgetNanos, clock.nanoTime() - start, depthReached, nodes);
+        return decision;
+    }
+
+    /**
+     * Evaluates every move of the boss at the given depth.
+     *
+     * @param depth The number of turns to look ahead.
+     * @return The position of the best move.
+     */
+    private int searchRoot(int depth) {
+        int bestMove = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int move = 0; move < rootActions.size(); move++) {
+            double value = chanceNode(root, getKind(rootActions.get(move)), indexes.get(rootTargets.get(move)),
+                    depth, 0);
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * The boss chooses its best move.
+     *
+     * @param state The current position.
+     * @param depth The remaining turns to look ahead.
+     * @param level The search level, used to pick a reusable state.
+     * @return The value of the position for the boss.
+     */
+    private double maxNode(SearchState state, int depth, int level) {
+        if (state.isOver() || !state.isAlive(bossIndex)) {
+            return evaluate(state);
+        }
+        if (!state.canAct(bossIndex)) {
+            SearchState next = getLevel(level);
+            next.copyFrom(state);
+            return finishTurn(next, depth, level + 1);
+        }
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (int target = 0; target < state.size; target++) {
+            if (!state.isAlive(target)) {
+                continue;
+            }
+            if (state.side[target] != bossSide) {
+                best = Math.max(best, chanceNode(state, ATTACK, target, depth, level));
+                if (state.specialCooldown[bossIndex] == 0) {
+                    best = Math.max(best, chanceNode(state, SPECIAL, target, depth, level));
+                }
+            } else if (state.healCooldown[bossIndex] == 0 && state.hp[target] < state.maxHp[target]) {
+                best = Math.max(best, chanceNode(state, HEAL, target, depth, level));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Averages the value of a boss move over its roll outcomes.
+     *
+     * @param state  The position before the move.
+     * @param kind   The kind of move.
+     * @param target The target of the move.
+     * @param depth  The remaining turns to look ahead.
+     * @param level  The search level, used to pick a reusable state.
+     * @return The expected value of the move.
+     */
+    private double chanceNode(SearchState state, int kind, int target, int depth, int level) {
+        double value = 0;
+        SearchState next = getLevel(level);
+        for (int outcome = 0; outcome < SearchState.OUTCOMES; outcome++) {
+            next.copyFrom(state);
+            applyMove(next, bossIndex, kind, target, outcome);
+            value += OUTCOME_PROBABILITY[outcome] * finishTurn(next, depth, level + 1);
+        }
+        return value;
+    }
+
+    /**
+     * Plays the rest of the turn after the boss acted and continues with the
+     * boss's next decision.
+     *
+     * @param state The position, modified in place.
+     * @param depth The remaining turns to look ahead, including this one.
+     * @param level The search level of the next decision.
+     * @return The value of the position for the boss.
+     */
+    private double finishTurn(SearchState state, int depth, int level) {
+        countNode();
+
+        playSide(state, bossSide, bossIndex);
+        if (bossSide == SearchState.ALLY) {
+            playSide(state, SearchState.ENEMY, -1);
+        }
+        if (!state.isOver()) {
+            state.endTurn();
+        }
+        if (depth <= 1 || state.isOver()) {
+            return evaluate(state);
+        }
+
+        // Next turn, up to the boss's decision
+        if (bossSide == SearchState.ENEMY) {
+            playSide(state, SearchState.ALLY, -1);
+        }
+        return maxNode(state, depth - 1, level);
+    }
+
+    /**
+     * Lets every entity of a side act with the greedy policy.
+     *
+     * @param state   The position, modified in place.
+     * @param team    The side acting.
+     * @param skipped An entity that does not act (the boss), or -1.
+     */
+    private void playSide(SearchState state, byte team, int skipped) {
+        for (int i = 0; i < state.size; i++) {
+            if (state.isOver()) {
+                return;
+            }
+            if (i != skipped && state.side[i] == team && state.canAct(i)) {
+                playGreedy(state, i);
+            }
+        }
+    }
+
+    /**
+     * The policy assumed for every entity except the boss: heal an ally below
+     * half HP if possible, otherwise hit the weakest opponent with the strongest
+     * attack available. Rolls are assumed to be average.
+     *
+     * @param state The position, modified in place.
+     * @param actor The entity acting.
+     */
+    private void playGreedy(SearchState state, int actor) {
+        byte team = state.side[actor];
+
+        if (state.healCooldown[actor] == 0) {
+            int healTarget = -1;
+            for (int i = 0; i < state.size; i++) {
+                if (state.side[i] == team && state.isAlive(i) && state.hp[i] * 2 < state.maxHp[i]
+                        && (healTarget < 0 || state.hp[i] < state.hp[healTarget])) {
+                    healTarget = i;
+                }
+            }
+            if (healTarget >= 0) {
+                applyMove(state, actor, HEAL, healTarget, AVERAGE_OUTCOME);
+                return;
+            }
+        }
+
+        int target = -1;
+        for (int i = 0; i < state.size; i++) {
+            if (state.side[i] != team && state.isAlive(i) && (target < 0 || state.hp[i] < state.hp[target])) {
+                target = i;
+            }
+        }
+        if (target >= 0) {
+            int kind = state.specialCooldown[actor] == 0 ? SPECIAL : ATTACK;
+            applyMove(state, actor, kind, target, AVERAGE_OUTCOME);
+        }
+    }
+
+    /**
+     * Applies a move to a position.
+     *
+     * @param state   The position, modified in place.
+     * @param actor   The entity acting.
+     * @param kind    The kind of move.
+     * @param target  The target of the move.
+     * @param outcome The roll outcome.
+     */
+    private static void applyMove(SearchState state, int actor, int kind, int target, int outcome) {
+        int roll = actor * SearchState.OUTCOMES + outcome;
+        switch (kind) {
+            case SPECIAL -> {
+                state.damage(target, state.specialDamage[roll]);
+                state.specialCooldown[actor] = SpecialAttackAction.COOLDOWN_TURNS;
+            }
+            case HEAL -> {
+                state.heal(target, state.healAmount[roll]);
+                state.healCooldown[actor] = HealAction.COOLDOWN_TURNS;
+            }
+            default -> state.damage(target, state.attackDamage[roll]);
+        }
+    }
+
+    /**
+     * Scores a position for the boss: the share of HP its side kept minus the
+     * share of HP the other side kept, or a fixed score once the battle is over.
+     *
+     * @param state The position.
+     * @return The value of the position, higher is better for the boss.
+     */
+    private double evaluate(SearchState state) {
+        countNode();
+
+        if (state.isOver()) {
+            byte winner = state.hp[0] <= 0 ? SearchState.ENEMY : SearchState.ALLY;
+            return winner == bossSide ? WIN_SCORE : -WIN_SCORE;
+        }
+
+        long ownHp = 0;
+        long ownMaxHp = 0;
+        long otherHp = 0;
+        long otherMaxHp = 0;
+        for (int i = 0; i < state.size; i++) {
+            if (state.side[i] == bossSide) {
+                ownHp += state.hp[i];
+                ownMaxHp += state.maxHp[i];
+            } else {
+                otherHp += state.hp[i];
+                otherMaxHp += state.maxHp[i];
+            }
+        }
+        return (double) ownHp / Math.max(1, ownMaxHp) - (double) otherHp / Math.max(1, otherMaxHp);
+    }
+
+    /**
+     * Counts a node and stops the search when the deadline has passed.
+     */
+    private void countNode() {
+        if (++nodes % CLOCK_CHECK_INTERVAL == 0 && deadline != Long.MAX_VALUE && clock.nanoTime() - deadline > 0) {
+            throw TIMEOUT;
+        }
+    }
+
+    /**
+     * Gets the reusable state of a search level.
+     *
+     * @param level The search level.
+     * @return The state for that level.
+     */
+    private SearchState getLevel(int level) {
+        while (levels.size() <= level) {
+            levels.add(new SearchState(root.size));
+        }
+        return levels.get(level);
+    }
+
+    /**
+     * Copies the alive entities of the battle into the root state. The player is
+     * always entity 0.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The boss about to act.
+     */
+    private void buildRoot(Battle battle, Entity actor) {
+        List<Entity> allies = battle.getAllies(battle.getPlayer());
+        List<Entity> enemies = battle.getEnemies();
+        root.ensureCapacity(allies.size() + enemies.size());
+        root.size = 0;
+        indexes.clear();
+
+        for (Entity ally : allies) {
+            addToRoot(ally, SearchState.ALLY);
+        }
+        for (Entity enemy : enemies) {
+            addToRoot(enemy, SearchState.ENEMY);
+        }
+
+        bossIndex = indexes.get(actor);
+        bossSide = battle.getFaction(actor) == Faction.ALLY ? SearchState.ALLY : SearchState.ENEMY;
+    }
+
+    /**
+     * Copies an entity into the root state.
+     *
+     * @param entity The entity.
+     * @param team   The side of the entity.
+     */
+    private void addToRoot(Entity entity, byte team) {
+        if (indexes.containsKey(entity)) {
+            // The same entity can be in the battle twice, it is modelled once
+            return;
+        }
+        int i = root.size++;
+        indexes.put(entity, i);
+
+        root.hp[i] = entity.getCurrentHp();
+        root.maxHp[i] = entity.getMaxHp();
+        root.side[i] = team;
+        root.damageTakenMultiplier[i] = entity.getDamageTakenMultiplier();
+        root.disabledTurns[i] = entity.getDisabledTurns();
+
+        // Low, average and high rolls of the actions, as the actions compute them
+        root.specialCooldown[i] = -1;
+        root.healCooldown[i] = -1;
+        for (BattleAction action : entity.getActions()) {
+            for (int outcome = 0; outcome < SearchState.OUTCOMES; outcome++) {
+                double roll = outcome / (double) (SearchState.OUTCOMES - 1);
+                int slot = i * SearchState.OUTCOMES + outcome;
+                switch (action) {
+                    case AttackAction attack -> root.attackDamage[slot] = attack.getDamageForRoll(roll);
+                    case SpecialAttackAction special -> root.specialDamage[slot] = special.getDamageForRoll(roll);
+                    case HealAction heal -> root.healAmount[slot] = heal.getHealForRoll(roll);
+                    default -> {
+                        // Not modelled by the search
+                    }
+                }
+            }
+            if (action instanceof SpecialAttackAction) {
+                root.specialCooldown[i] = action.getDisabledTurns();
+            } else if (action instanceof HealAction) {
+                root.healCooldown[i] = action.getDisabledTurns();
+            }
+        }
+
+        double hpPerTurn = 0;
+        int statusTurns = 0;
+        for (TimedStatus status : entity.getStatuses()) {
+            if (status instanceof EndOfTurnStatus endOfTurnStatus) {
+                hpPerTurn += endOfTurnStatus.getExpectedHpChangePerTurn();
+                statusTurns = status.isPermanent() || statusTurns < 0 ? PERMANENT_STATUS_TURNS
+                        : Math.max(statusTurns, status.getRemainingTurns());
+            }
+        }
+        root.statusHpPerTurn[i] = (int) Math.round(hpPerTurn);
+        root.statusTurns[i] = statusTurns;
+    }
+
+    /**
+     * Lists the real actions and targets the boss can choose from.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The boss about to act.
+     */
+    private void collectRootMoves(Battle battle, Entity actor) {
+        rootActions.clear();
+        rootTargets.clear();
+        List<BattleAction> actions = actor.getAvailableActions();
+        for (int i = 0; i < actions.size(); i++) {
+            BattleAction action = actions.get(i);
+            if (!(action instanceof AttackAction || action instanceof SpecialAttackAction
+                    || action instanceof HealAction)) {
+                continue;
+            }
+            List<Entity> targets = action.getValidTargets(battle);
+            if (targets == null) {
+                continue;
+            }
+            for (Entity target : targets) {
+                if (indexes.containsKey(target)) {
+                    rootActions.add(action);
+                    rootTargets.add(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the kind of move an action is modelled as.
+     *
+     * @param action The action.
+     * @return The kind of move.
+     */
+    private static int getKind(BattleAction action) {
+        return switch (action) {
+            case SpecialAttackAction ignored -> SPECIAL;
+            case HealAction ignored -> HEAL;
+            default -> ATTACK;
+        };
+    }
+
+    /**
+     * Thrown to stop the search when the time budget runs out.
+     */
+    private static class SearchTimeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SearchTimeout() {
+            super("Search budget exhausted", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package src.ai;
+
+/**
+ * Collects statistics about the decisions made by the search AI: how long they
+ * took compared to the budget and how deep the search got.
+ * Not thread-safe: AIs running on different threads record into metrics of
+ * their own, which are merged once the threads are done.
+ */
+public class SearchMetrics {
+    private long decisions;
+    private long fallbacks;
+    private long totalNodes;
+    private long totalDepth;
+    private int maxDepth;
+    private int minDepth = Integer.MAX_VALUE;
+    private long totalElapsedNanos;
+    private long maxElapsedNanos;
+    private long maxBudgetNanos;
+
+    /**
+     * Records a single decision.
+     *
+     * @param budgetNanos  The time budget of the decision.
+     * @param elapsedNanos The time the decision took.
+     * @param depth        The deepest fully searched depth (0 if none).
+     * @param nodes        The number of positions evaluated.
+     */
+    public void record(long budgetNanos, long elapsedNanos, int depth, long nodes) {
+        decisions++;
+        if (depth == 0) {
+            fallbacks++;
+        }
+        totalNodes += nodes;
+        totalDepth += depth;
+        maxDepth = Math.max(maxDepth, depth);
+        minDepth = Math.min(minDepth, depth);
+        totalElapsedNanos += elapsedNanos;
+        maxElapsedNanos = Math.max(maxElapsedNanos, elapsedNanos);
+        maxBudgetNanos = Math.max(maxBudgetNanos, budgetNanos);
+    }
+
+    /**
+     * Adds the decisions recorded by other metrics to these ones.
+     *
+     * @param other The metrics to merge.
+     * @return These metrics, for chaining.
+     */
+    public SearchMetrics merge(SearchMetrics other) {
+        decisions += other.decisions;
+        fallbacks += other.fallbacks;
+        totalNodes += other.totalNodes;
+        totalDepth += other.totalDepth;
+        maxDepth = Math.max(maxDepth, other.maxDepth);
+        minDepth = Math.min(minDepth, other.minDepth);
+        totalElapsedNanos += other.totalElapsedNanos;
+        maxElapsedNanos = Math.max(maxElapsedNanos, other.maxElapsedNanos);
+        maxBudgetNanos = Math.max(maxBudgetNanos, other.maxBudgetNanos);
+        return this;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Gets the number of decisions where not even one depth could be searched
+     * within the budget, so the fallback AI decided.
+     *
+     * @return The number of fallback decisions.
+     */
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public double getAverageDepth() {
+        return decisions == 0 ? 0 : (double) totalDepth / decisions;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public double getAverageNodes() {
+        return decisions == 0 ? 0 : (double) totalNodes / decisions;
+    }
+
+    public double getAverageElapsedNanos() {
+        return decisions == 0 ? 0 : (double) totalElapsedNanos / decisions;
+    }
+
+    public long getMaxElapsedNanos() {
+        return maxElapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        if (decisions == 0) {
+            return "no search decisions";
+        }
+        String budget = maxBudgetNanos == Long.MAX_VALUE ? "unlimited"
+                : String.format("%.2f ms", maxBudgetNanos / 1e6);
+        return String.format(
+                "%d decisions | budget %s | avg %.3f ms, max %.3f ms | depth avg %.2f, min %d, max %d | avg %.0f nodes | %d fallbacks",
+                decisions, budget, totalElapsedNanos / 1e6 / decisions, maxElapsedNanos / 1e6,
+                (double) totalDepth / decisions, minDepth, maxDepth, (double) totalNodes / decisions, fallbacks);
+    }
+}
@@ -0,0 +1,170 @@
+package src.ai;
+
+/**
+ * Compact copy of the parts of a battle the search AI reasons about.
+ * All values live in primitive arrays so a state can be copied into another one
+ * without allocating, which lets the search explore thousands of positions per
+ * decision.
+ */
+class SearchState {
+    // Number of damage/heal roll outcomes modelled per action: low, average, high
+    static final int OUTCOMES = 3;
+    static final byte ALLY = 0;
+    static final byte ENEMY = 1;
+
+    int size;
+    int[] hp;
+    int[] maxHp;
+    byte[] side;
+    // Share of incoming damage actually taken
+    double[] damageTakenMultiplier;
+    // Damage of every roll outcome, OUTCOMES entries per entity
+    int[] attackDamage;
+    int[] specialDamage;
+    int[] healAmount;
+    // Remaining cooldown of each action, -1 if the entity does not have it
+    int[] specialCooldown;
+    int[] healCooldown;
+    int[] disabledTurns;
+    // Expected HP change per turn caused by statuses, and for how many turns
+    int[] statusHpPerTurn;
+    int[] statusTurns;
+
+    /**
+     * Constructs an empty state able to hold the given number of entities.
+     *
+     * @param capacity The number of entities.
+     */
+    SearchState(int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Makes sure the state can hold the given number of entities.
+     *
+     * @param capacity The number of entities.
+     */
+    void ensureCapacity(int capacity) {
+        if (hp.length < capacity) {
+            allocate(capacity);
+        }
+    }
+
+    private void allocate(int capacity) {
+        hp = new int[capacity];
+        maxHp = new int[capacity];
+        side = new byte[capacity];
+        damageTakenMultiplier = new double[capacity];
+        attackDamage = new int[capacity * OUTCOMES];
+        specialDamage = new int[capacity * OUTCOMES];
+        healAmount = new int[capacity * OUTCOMES];
+        specialCooldown = new int[capacity];
+        healCooldown = new int[capacity];
+        disabledTurns = new int[capacity];
+        statusHpPerTurn = new int[capacity];
+        statusTurns = new int[capacity];
+    }
+
+    /**
+     * Copies another state into this one.
+     *
+     * @param other The state to copy.
+     */
+    void copyFrom(SearchState other) {
+        ensureCapacity(other.size);
+        int n = other.size;
+        size = n;
+        System.arraycopy(other.hp, 0, hp, 0, n);
+        System.arraycopy(other.maxHp, 0, maxHp, 0, n);
+        System.arraycopy(other.side, 0, side, 0, n);
+        System.arraycopy(other.damageTakenMultiplier, 0, damageTakenMultiplier, 0, n);
+        System.arraycopy(other.attackDamage, 0, attackDamage, 0, n * OUTCOMES);
+        System.arraycopy(other.specialDamage, 0, specialDamage, 0, n * OUTCOMES);
+        System.arraycopy(other.healAmount, 0, healAmount, 0, n * OUTCOMES);
+        System.arraycopy(other.specialCooldown, 0, specialCooldown, 0, n);
+        System.arraycopy(other.healCooldown, 0, healCooldown, 0, n);
+        System.arraycopy(other.disabledTurns, 0, disabledTurns, 0, n);
+        System.arraycopy(other.statusHpPerTurn, 0, statusHpPerTurn, 0, n);
+        System.arraycopy(other.statusTurns, 0, statusTurns, 0, n);
+    }
+
+    boolean isAlive(int index) {
+        return hp[index] > 0;
+    }
+
+    boolean canAct(int index) {
+        return hp[index] > 0 && disabledTurns[index] == 0;
+    }
+
+    /**
+     * Deals damage to an entity, applying its damage reduction.
+     *
+     * @param index  The entity hit.
+     * @param damage The damage dealt.
+     */
+    void damage(int index, int damage) {
+        hp[index] = Math.max(0, hp[index] - (int) (damage * damageTakenMultiplier[index]));
+    }
+
+    /**
+     * Heals an entity without exceeding its max HP.
+     *
+     * @param index  The entity healed.
+     * @param amount The HP restored.
+     */
+    void heal(int index, int amount) {
+        hp[index] = Math.min(maxHp[index], hp[index] + amount);
+    }
+
+    /**
+     * Checks if the battle is over: the player (always entity 0) is knocked
+     * out, or no enemy is left.
+     *
+     * @return True if the battle has ended.
+     */
+    boolean isOver() {
+        return hp[0] <= 0 || countAlive(ENEMY) == 0;
+    }
+
+    /**
+     * Counts the alive entities of a side.
+     *
+     * @param team The side.
+     * @return The number of alive entities on it.
+     */
+    int countAlive(byte team) {
+        int alive = 0;
+        for (int i = 0; i < size; i++) {
+            if (side[i] == team && hp[i] > 0) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * Applies the end of turn: statuses, disabled turns and cooldowns.
+     */
+    void endTurn() {
+        for (int i = 0; i < size; i++) {
+            if (hp[i] <= 0) {
+                continue;
+            }
+            if (statusTurns[i] != 0) {
+                hp[i] = Math.max(0, Math.min(maxHp[i], hp[i] + statusHpPerTurn[i]));
+                if (statusTurns[i] > 0) {
+                    statusTurns[i]--;
+                }
+            }
+            if (disabledTurns[i] > 0) {
+                disabledTurns[i]--;
+            }
+            if (specialCooldown[i] > 0) {
+                specialCooldown[i]--;
+            }
+            if (healCooldown[i] > 0) {
+                healCooldown[i]--;
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package src.ai;
+
+import src.actions.AttackAction;
+import src.actions.BattleAction;
+import src.actions.HackAction;
+import src.actions.HealAction;
+import src.actions.SpecialAttackAction;
+import src.entities.Entity;
+import src.game.Battle;
+import src.game.Faction;
+import src.items.Weapon;
+import src.status.EndOfTurnStatus;
+import src.status.TimedStatus;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Chooses actions by scoring every (action, target) pair and picking the best.
+ * Scores are measured in HP: expected damage dealt or healed, plus a bonus for
+ * removing threats, minus the value lost while the action is on cooldown.
+ * Values that only change between turns (threat, damage over time) are cached
+ * per entity for the whole turn.
+ */
+public class UtilityBattleAI implements BattleAI {
+    // HP value of every turn an action stays disabled after being used
+    private static final double COOLDOWN_COST = 1.0;
+    // Turns of damage saved by knocking out or converting an enemy
+    private static final double THREAT_TURNS = 2.0;
+    // Small preference for hitting the most dangerous targets
+    private static final double THREAT_WEIGHT = 0.1;
+    // Damage on a target that statuses will knock out anyway is worth less
+    private static final double DOOMED_TARGET_FACTOR = 0.25;
+    // Permanent statuses are counted for this many turns
+    private static final int PERMANENT_STATUS_TURNS = 3;
+
+    private final IdentityHashMap<Entity, Evaluation> evaluations = new IdentityHashMap<>();
+    private final double[] maxThreat = new double[Faction.values().length];
+    private Battle evaluatedBattle;
+    private int evaluatedTurn = -1;
+
+    /**
+     * Picks the (action, target) pair with the highest score.
+     *
+     * @param battle The current battle instance.
+     * @param actor  The entity about to act.
+     * @return The best decision, or null if no action has a valid target.
+     */
+    @Override
+    public Decision decide(Battle battle, Entity actor) {
+        startTurn(battle);
+
+        BattleAction bestAction = null;
+        Entity bestTarget = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        List<BattleAction> actions = actor.getAvailableActions();
+        for (int i = 0; i < actions.size(); i++) {
+            BattleAction action = actions.get(i);
+            List<Entity> targets = action.getValidTargets(battle);
+            if (targets == null) {
+                continue;
+            }
+            for (Entity target : targets) {
+                double score = score(battle, action, target);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestAction = action;
+                    bestTarget = target;
+                }
+            }
+        }
+
+        return bestAction != null ? new Decision(bestAction, bestTarget) : null;
+    }
+
+    /**
+     * Scores a single (action, target) pair.
+     *
+     * @param battle The current battle instance.
+     * @param action The action to score.
+     * @param target The target of the action.
+     * @return The utility of the pair, in HP.
+     */
+    private double score(Battle battle, BattleAction action, Entity target) {
+        return switch (action) {
+            case SpecialAttackAction special -> damageValue(special.getExpectedDamage(), target)
+                    - SpecialAttackAction.COOLDOWN_TURNS * COOLDOWN_COST;
+            case AttackAction attack -> damageValue(attack.getExpectedDamage(), target);
+            case HealAction heal -> healValue(battle, heal.getExpectedHeal(), target)
+                    - HealAction.COOLDOWN_TURNS * COOLDOWN_COST;
+            case HackAction ignored -> hackValue(target) - getExpectedHackCooldown() * COOLDOWN_COST;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Values dealing damage to a target.
+     *
+     * @param damage The expected damage.
+     * @param target The target being hit.
+     * @return The utility of the hit.
+     */
+    private double damageValue(double damage, Entity target) {
+        Evaluation evaluation = evaluate(target);
+        double dealt = Math.min(damage, target.getCurrentHp());
+
+        // HP the target would have left once its statuses run out
+        double expectedHp = target.getCurrentHp() + evaluation.hpTrend;
+        if (expectedHp <= 0) {
+            return dealt * DOOMED_TARGET_FACTOR;
+        }
+
+        double value = dealt + evaluation.threat * THREAT_WEIGHT;
+        if (damage >= expectedHp) {
+            value += evaluation.threat * THREAT_TURNS;
+        }
+        return value;
+    }
+
+    /**
+     * Values healing an ally. Allies in danger of being knocked out next turn
+     * are the most urgent.
+     *
+     * @param battle The current battle instance.
+     * @param heal   The expected amount healed.
+     * @param target The ally being healed.
+     * @return The utility of the heal.
+     */
+    private double healValue(Battle battle, double heal, Entity target) {
+        int missing = target.getMaxHp() - target.getCurrentHp();
+        if (missing <= 0) {
+            return 0;
+        }
+
+        double restored = Math.min(heal, missing);
+        double value = restored * (1.0 + (double) missing / target.getMaxHp());
+
+        Faction faction = battle.getFaction(target);
+        if (faction != null && target.getCurrentHp() <= maxThreat[faction.opposite().ordinal()]) {
+            value += evaluate(target).threat * THREAT_TURNS;
+        }
+        return value;
+    }
+
+    /**
+     * Values trying to hack a target. A successful hack removes an enemy and
+     * adds an ally.
+     *
+     * @param target The entity being hacked.
+     * @return The utility of the hack attempt.
+     */
+    private double hackValue(Entity target) {
+        Evaluation evaluation = evaluate(target);
+        double successChance = HackAction.SUCCESS_RATE / 100.0;
+        return successChance * (target.getCurrentHp() + evaluation.threat * THREAT_TURNS * 2);
+    }
+
+    /**
+     * Gets the average number of turns the hack action is disabled after use.
+     *
+     * @return The expected cooldown of a hack attempt.
+     */
+    private static double getExpectedHackCooldown() {
+        double successChance = HackAction.SUCCESS_RATE / 100.0;
+        return successChance * HackAction.SUCCESS_COOLDOWN_TURNS
+                + (1 - successChance) * HackAction.FAILURE_COOLDOWN_TURNS;
+    }
+
+    /**
+     * Refreshes the per-turn values when a new turn (or a new battle) starts.
+     *
+     * @param battle The current battle instance.
+     */
+    private void startTurn(Battle battle) {
+        if (battle != evaluatedBattle) {
+            evaluations.clear();
+            evaluatedBattle = battle;
+            evaluatedTurn = -1;
+        }
+        if (battle.getTurnCount() == evaluatedTurn) {
+            return;
+        }
+        evaluatedTurn = battle.getTurnCount();
+
+        maxThreat[Faction.ALLY.ordinal()] = getMaxThreat(battle.getAllies(battle.getPlayer()));
+        maxThreat[Faction.ENEMY.ordinal()] = getMaxThreat(battle.getEnemies());
+    }
+
+    /**
+     * Finds the highest threat among a group of entities.
+     *
+     * @param entities The entities.
+     * @return The highest expected damage per turn.
+     */
+    private double getMaxThreat(List<Entity> entities) {
+        double max = 0;
+        for (Entity entity : entities) {
+            max = Math.max(max, evaluate(entity).threat);
+        }
+        return max;
+    }
+
+    /**
+     * Gets the cached evaluation of an entity, computing it once per turn.
+     *
+     * @param entity The entity to evaluate.
+     * @return The evaluation for the current turn.
+     */
+    private Evaluation evaluate(Entity entity) {
+        Evaluation evaluation = evaluations.get(entity);
+        if (evaluation == null) {
+            evaluation = new Evaluation();
+            evaluations.put(entity, evaluation);
+        }
+        if (evaluation.turn == evaluatedTurn) {
+            return evaluation;
+        }
+
+        Weapon weapon = entity.getEquipedWeapon();
+        int weaponDamage = weapon != null ? weapon.getAttackPower() : 0;
+        evaluation.threat = entity.getStrength() * 0.9 + weaponDamage;
+
+        double hpTrend = 0;
+        for (TimedStatus status : entity.getStatuses()) {
+            if (status instanceof EndOfTurnStatus endOfTurnStatus) {
+                int turns = status.isPermanent() ? PERMANENT_STATUS_TURNS : status.getRemainingTurns();
+                hpTrend += endOfTurnStatus.getExpectedHpChangePerTurn() * turns;
+            }
+        }
+        evaluation.hpTrend = hpTrend;
+        evaluation.turn = evaluatedTurn;
+        return evaluation;
+    }
+
+    /**
+     * Values of an entity that stay the same for a whole turn.
+     */
+    private static class Evaluation {
+        // Expected damage the entity deals per turn
+        double threat;
+        // Expected HP change caused by the entity's statuses until they expire
+        double hpTrend;
+        int turn = -1;
+    }
+}
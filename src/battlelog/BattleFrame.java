@@ -0,0 +1,151 @@
+package src.battlelog;
+
+import src.game.Faction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The state of every entity of a logged battle at the end of a turn, as rebuilt
+ * by {@link BattleLogReader}.
+ */
+public final class BattleFrame {
+    private final String[] names;
+    final int[] teams;
+    final int[] hp;
+    final int[] maxHp;
+    final int[] strength;
+    final int[] disabledTurns;
+    final List<List<String>> statuses;
+    int turn;
+
+    /**
+     * Constructs an empty frame for a roster.
+     *
+     * @param names The names of the entities, the player first.
+     */
+    BattleFrame(String[] names) {
+        int size = names.length;
+        this.names = names;
+        this.teams = new int[size];
+        this.hp = new int[size];
+        this.maxHp = new int[size];
+        this.strength = new int[size];
+        this.disabledTurns = new int[size];
+        this.statuses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            statuses.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Gets the number of turns played at this frame.
+     *
+     * @return The turn count.
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the number of entities in the battle.
+     *
+     * @return The roster size.
+     */
+    public int getEntityCount() {
+        return names.length;
+    }
+
+    /**
+     * Gets the name of an entity.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return The name.
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the side an entity fights on.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return The faction.
+     */
+    public Faction getFaction(int index) {
+        return teams[index] == BattleLogFormat.ENEMY ? Faction.ENEMY : Faction.ALLY;
+    }
+
+    /**
+     * Gets the HP of an entity.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return The current HP.
+     */
+    public int getHp(int index) {
+        return hp[index];
+    }
+
+    /**
+     * Gets the maximum HP of an entity.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return The maximum HP.
+     */
+    public int getMaxHp(int index) {
+        return maxHp[index];
+    }
+
+    /**
+     * Gets the strength of an entity, including its status modifiers.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return The strength.
+     */
+    public int getStrength(int index) {
+        return strength[index];
+    }
+
+    /**
+     * Gets the number of turns an entity remains disabled.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return The disabled turns.
+     */
+    public int getDisabledTurns(int index) {
+        return disabledTurns[index];
+    }
+
+    /**
+     * Gets the statuses affecting an entity.
+     *
+     * @param index The position of the entity, 0 for the player.
+     * @return A read-only list of status names.
+     */
+    public List<String> getStatuses(int index) {
+        return Collections.unmodifiableList(statuses.get(index));
+    }
+
+    /**
+     * Describes the frame as one line per entity.
+     *
+     * @return The description.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Turn ").append(turn).append(System.lineSeparator());
+        for (int i = 0; i < names.length; i++) {
+            builder.append(String.format(" %-5s %-28s HP %4d/%-4d STR %3d", getFaction(i), names[i], hp[i],
+                    maxHp[i], strength[i]));
+            if (disabledTurns[i] > 0) {
+                builder.append(" disabled ").append(disabledTurns[i]);
+            }
+            if (!statuses.get(i).isEmpty()) {
+                builder.append(' ').append(statuses.get(i));
+            }
+            builder.append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package src.battlelog;
+
+/**
+ * Layout of the binary battle log shared by the writer and the reader.
+ * A log starts with {@link #MAGIC} and {@link #VERSION}, followed by records.
+ * Every record is a tag byte, the length of its payload as a varint and the
+ * payload, so readers can skip records they do not need. Numbers in payloads
+ * are unsigned varints, entities are referenced by their position in the
+ * battle plus one (0 for none) and text is a varint length followed by UTF-8
+ * bytes.
+ * A log that was closed normally ends with an index record followed by a
+ * trailer: the offset of the index as 8 big-endian bytes and {@link #TRAILER}.
+ */
+final class BattleLogFormat {
+    static final byte[] MAGIC = { 'L', 'C', 'B', 'L' };
+    static final int VERSION = 1;
+    static final byte[] TRAILER = { 'L', 'C', 'B', 'X' };
+    static final int TRAILER_SIZE = 8 + TRAILER.length;
+
+    // Entity count, then the name and trait mask of every entity
+    static final int BATTLE_START = 1;
+    // Turn, then for every entity: team, HP, max HP, strength, disabled turns and
+    // status count followed by the status name ids
+    static final int KEYFRAME = 2;
+    // Id, then the status name it stands for from now on
+    static final int STATUS_NAME = 3;
+    // Number of turns played
+    static final int TURN_END = 4;
+    // 1 if the player won, then the number of turns played
+    static final int BATTLE_END = 5;
+    // Turns played, 1 if the player won, keyframe count, the turn and offset of
+    // every keyframe, then the number of status names and every name by id
+    static final int INDEX = 6;
+
+    // Source, target, amount, DamageType ordinal, then the HP left, since armor
+    // and caps can change what the amount does
+    static final int DAMAGE = 10;
+    // Source, target, amount, HealType ordinal, then the HP reached
+    static final int HEAL = 11;
+    // Actor
+    static final int AREA_ATTACK = 12;
+    // Target, status name id
+    static final int STATUS_APPLIED = 13;
+    static final int STATUS_EXPIRED = 14;
+    static final int STATUS_CLEANSED = 15;
+    // Entity
+    static final int KNOCKED_OUT = 16;
+    // Entity, turns added
+    static final int DISABLED = 17;
+    // Entity, remaining turns
+    static final int DISABLED_TURN_ENDED = 18;
+    // Entity
+    static final int TURN_SKIPPED = 19;
+    // Actor, target, 1 if the hack succeeded
+    static final int HACK = 20;
+    // User, item name
+    static final int ITEM_USED = 21;
+    // Gold
+    static final int GOLD_LOOTED = 22;
+    // HP gained, strength gained
+    static final int LEVEL_UP = 23;
+    // Entity, strength. Written at the end of a turn when the strength changed
+    static final int STRENGTH = 24;
+
+    // Team of an entity in keyframes
+    static final int ALLY = 0;
+    static final int ENEMY = 1;
+
+    // Private constructor to prevent instantiation
+    private BattleLogFormat() {
+    }
+}
@@ -0,0 +1,421 @@
+package src.battlelog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Reads a binary battle log written by {@link BattleLogWriter} and rebuilds the
+ * battle at any turn.
+ * Seeking starts from the closest keyframe before the turn and only applies the
+ * events recorded after it. Logs of battles that never ended have no index and
+ * are scanned instead, up to the last complete record.
+ * Usage: BattleLogReader file [turn]
+ */
+public final class BattleLogReader {
+    private final byte[] data;
+    private final String[] names;
+    private final ArrayList<String> statusNames = new ArrayList<>();
+    private int[] keyframeTurns = new int[16];
+    private int[] keyframeOffsets = new int[16];
+    private int keyframeCount = 0;
+    // End of the last complete record
+    private int end;
+    private int turnsPlayed = 0;
+    private boolean finished = false;
+    private boolean won = false;
+
+    // Position of the next byte to decode
+    private int cursor;
+
+    /**
+     * Prints the state of a logged battle at a turn, the last one by default.
+     *
+     * @param args The log file and optionally the turn.
+     * @throws IOException if the log cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: BattleLogReader file [turn]");
+            return;
+        }
+        BattleLogReader reader = open(Path.of(args[0]));
+        int turn = args.length > 1 ? Integer.parseInt(args[1]) : reader.getTurnsPlayed();
+        System.out.printf("%d turns, %s, %d keyframes%n", reader.getTurnsPlayed(),
+                reader.isFinished() ? (reader.isWon() ? "won" : "lost") : "unfinished", reader.keyframeCount);
+        System.out.print(reader.seek(turn));
+    }
+
+    /**
+     * Reads a log file.
+     *
+     * @param path The log file.
+     * @return The reader.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a battle log.
+     */
+    public static BattleLogReader open(Path path) throws IOException {
+        return new BattleLogReader(Files.readAllBytes(path));
+    }
+
+    /**
+     * Decodes the roster and the index of a log.
+     *
+     * @param data The content of the log.
+     * @throws IllegalArgumentException if the data is not a battle log.
+     */
+    public BattleLogReader(byte[] data) {
+        this.data = data;
+        int headerSize = BattleLogFormat.MAGIC.length + 1;
+        if (data.length < headerSize
+                || !Arrays.equals(data, 0, BattleLogFormat.MAGIC.length, BattleLogFormat.MAGIC, 0,
+                        BattleLogFormat.MAGIC.length)) {
+            throw new IllegalArgumentException("Not a battle log.");
+        }
+        if (data[BattleLogFormat.MAGIC.length] != BattleLogFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported battle log version " + data[BattleLogFormat.MAGIC.length]);
+        }
+
+        cursor = headerSize;
+        if (readRecordHeader(data.length) != BattleLogFormat.BATTLE_START) {
+            throw new IllegalArgumentException("Battle log does not start with a roster.");
+        }
+        names = new String[readInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = readText();
+            readInt();
+        }
+
+        if (!readIndex()) {
+            scan(headerSize);
+        }
+    }
+
+    /**
+     * Gets the number of turns in the log.
+     *
+     * @return The turns played, up to the last one logged.
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Checks if the battle ended normally.
+     *
+     * @return True if the log is complete, false if it stops mid-battle.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Checks if the player won the battle.
+     *
+     * @return True if the battle ended with a victory.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Rebuilds the battle at the end of a turn.
+     *
+     * @param turn The number of turns played, 0 for the start of the battle.
+     *             Turns after the last one give the final state.
+     * @return The state of every entity.
+     * @throws IllegalArgumentException if the turn is negative.
+     */
+    public BattleFrame seek(int turn) {
+        if (turn < 0) {
+            throw new IllegalArgumentException("Turn cannot be negative.");
+        }
+
+        int keyframe = 0;
+        while (keyframe + 1 < keyframeCount && keyframeTurns[keyframe + 1] <= turn) {
+            keyframe++;
+        }
+
+        BattleFrame frame = new BattleFrame(names);
+        cursor = keyframeOffsets[keyframe];
+        readRecordHeader(end);
+        applyKeyframe(frame);
+
+        boolean reached = frame.turn >= turn;
+        int tag;
+        while ((tag = readRecordHeader(end)) >= 0) {
+            int recordEnd = payloadEnd();
+            // The end of turn records follow the turn they close
+            if (reached && tag != BattleLogFormat.STRENGTH && tag != BattleLogFormat.STATUS_NAME
+                    && tag != BattleLogFormat.KEYFRAME) {
+                break;
+            }
+            apply(frame, tag);
+            if (tag == BattleLogFormat.TURN_END && frame.turn >= turn) {
+                reached = true;
+            }
+            cursor = recordEnd;
+        }
+        return frame;
+    }
+
+    /**
+     * Applies one record to a frame.
+     *
+     * @param frame The frame.
+     * @param tag   The record tag, with the cursor on its payload.
+     */
+    private void apply(BattleFrame frame, int tag) {
+        switch (tag) {
+            case BattleLogFormat.TURN_END -> frame.turn = readInt();
+            case BattleLogFormat.KEYFRAME -> applyKeyframe(frame);
+            case BattleLogFormat.DAMAGE, BattleLogFormat.HEAL -> {
+                readInt();
+                int target = readInt() - 1;
+                readInt();
+                readInt();
+                int hpAfter = readInt();
+                if (target >= 0) {
+                    frame.hp[target] = hpAfter;
+                }
+            }
+            case BattleLogFormat.STATUS_APPLIED -> {
+                int target = readInt() - 1;
+                String status = statusNames.get(readInt());
+                if (target >= 0) {
+                    frame.statuses.get(target).add(status);
+                }
+            }
+            case BattleLogFormat.STATUS_EXPIRED, BattleLogFormat.STATUS_CLEANSED -> {
+                int target = readInt() - 1;
+                String status = statusNames.get(readInt());
+                if (target >= 0) {
+                    frame.statuses.get(target).remove(status);
+                }
+            }
+            case BattleLogFormat.DISABLED -> {
+                int target = readInt() - 1;
+                int turns = readInt();
+                if (target >= 0) {
+                    frame.disabledTurns[target] += turns;
+                }
+            }
+            case BattleLogFormat.DISABLED_TURN_ENDED -> {
+                int target = readInt() - 1;
+                int remaining = readInt();
+                if (target >= 0) {
+                    frame.disabledTurns[target] = remaining;
+                }
+            }
+            case BattleLogFormat.HACK -> {
+                readInt();
+                int target = readInt() - 1;
+                if (readInt() == 1 && target >= 0) {
+                    frame.teams[target] = BattleLogFormat.ALLY;
+                }
+            }
+            case BattleLogFormat.STRENGTH -> {
+                int target = readInt() - 1;
+                int strength = readInt();
+                if (target >= 0) {
+                    frame.strength[target] = strength;
+                }
+            }
+            case BattleLogFormat.LEVEL_UP -> {
+                int hpGain = readInt();
+                frame.maxHp[0] += hpGain;
+                frame.hp[0] += hpGain;
+                frame.strength[0] += readInt();
+            }
+            default -> {
+                // Records that do not change the state
+            }
+        }
+    }
+
+    /**
+     * Replaces the state of a frame with a keyframe.
+     *
+     * @param frame The frame.
+     */
+    private void applyKeyframe(BattleFrame frame) {
+        frame.turn = readInt();
+        for (int i = 0; i < names.length; i++) {
+            frame.teams[i] = readInt();
+            frame.hp[i] = readInt();
+            frame.maxHp[i] = readInt();
+            frame.strength[i] = readInt();
+            frame.disabledTurns[i] = readInt();
+            ArrayList<String> statuses = (ArrayList<String>) frame.statuses.get(i);
+            statuses.clear();
+            int count = readInt();
+            for (int s = 0; s < count; s++) {
+                statuses.add(statusNames.get(readInt()));
+            }
+        }
+    }
+
+    /**
+     * Reads the index written at the end of a finished log.
+     *
+     * @return True if the log has an index, false otherwise.
+     */
+    private boolean readIndex() {
+        int trailerStart = data.length - BattleLogFormat.TRAILER.length;
+        if (trailerStart - 8 < 0 || !Arrays.equals(data, trailerStart, data.length, BattleLogFormat.TRAILER, 0,
+                BattleLogFormat.TRAILER.length)) {
+            return false;
+        }
+
+        long indexOffset = 0;
+        for (int i = trailerStart - 8; i < trailerStart; i++) {
+            indexOffset = (indexOffset << 8) | (data[i] & 0xFF);
+        }
+        end = (int) indexOffset;
+        cursor = end;
+        if (readRecordHeader(trailerStart - 8) != BattleLogFormat.INDEX) {
+            return false;
+        }
+
+        turnsPlayed = readInt();
+        won = readInt() == 1;
+        finished = true;
+        int count = readInt();
+        for (int i = 0; i < count; i++) {
+            addKeyframe(readInt(), readInt());
+        }
+        int nameCount = readInt();
+        for (int i = 0; i < nameCount; i++) {
+            statusNames.add(readText());
+        }
+        return true;
+    }
+
+    /**
+     * Finds the keyframes and status names of a log without an index.
+     *
+     * @param from The offset of the first record.
+     */
+    private void scan(int from) {
+        cursor = from;
+        end = from;
+        while (cursor < data.length) {
+            int tag = readRecordHeader(data.length);
+            if (tag < 0) {
+                // The last record was cut short
+                break;
+            }
+            int payloadEnd = payloadEnd();
+            switch (tag) {
+                case BattleLogFormat.KEYFRAME -> addKeyframe(readInt(), end);
+                case BattleLogFormat.STATUS_NAME -> {
+                    int id = readInt();
+                    while (statusNames.size() <= id) {
+                        statusNames.add(null);
+                    }
+                    statusNames.set(id, readText());
+                }
+                case BattleLogFormat.TURN_END -> turnsPlayed = readInt();
+                case BattleLogFormat.BATTLE_END -> {
+                    won = readInt() == 1;
+                    finished = true;
+                }
+                default -> {
+                    // Only the records needed to seek are decoded here
+                }
+            }
+            cursor = payloadEnd;
+            end = payloadEnd;
+        }
+    }
+
+    /**
+     * Remembers where a keyframe is.
+     *
+     * @param turn   The turn of the keyframe.
+     * @param offset The offset of the keyframe record.
+     */
+    private void addKeyframe(int turn, int offset) {
+        if (keyframeCount == keyframeTurns.length) {
+            keyframeTurns = Arrays.copyOf(keyframeTurns, keyframeCount * 2);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+        }
+        keyframeTurns[keyframeCount] = turn;
+        keyframeOffsets[keyframeCount] = offset;
+        keyframeCount++;
+    }
+
+    // Length of the payload of the record whose header was read last
+    private int payloadLength;
+
+    /**
+     * Reads the tag and length of the record at the cursor, leaving the cursor on
+     * its payload.
+     *
+     * @param limit The offset the record must end before.
+     * @return The tag, or -1 if the record does not fit before the limit.
+     */
+    private int readRecordHeader(int limit) {
+        if (cursor >= limit) {
+            return -1;
+        }
+        int tag = data[cursor++] & 0xFF;
+        long length = 0;
+        int shift = 0;
+        while (cursor < limit) {
+            int b = data[cursor++] & 0xFF;
+            length |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (cursor + length > limit) {
+                    return -1;
+                }
+                payloadLength = (int) length;
+                return tag;
+            }
+            shift += 7;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the end of the payload of the record whose header was read last.
+     *
+     * @return The offset right after the payload.
+     */
+    private int payloadEnd() {
+        return cursor + payloadLength;
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @return The value.
+     */
+    private int readInt() {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b = data[cursor++] & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (int) value;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * Reads text written as a length and UTF-8 bytes.
+     *
+     * @return The text.
+     */
+    private String readText() {
+        int length = readInt();
+        String text = new String(data, cursor, length, StandardCharsets.UTF_8);
+        cursor += length;
+        return text;
+    }
+}
@@ -0,0 +1,679 @@
+package src.battlelog;
+
+import src.entities.Entity;
+import src.entities.Hero;
+import src.events.DamageType;
+import src.events.GameListener;
+import src.events.HealType;
+import src.game.Battle;
+import src.game.Faction;
+import src.game.GameOutput;
+import src.items.Item;
+import src.status.TimedStatus;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Listener that writes every battle to its own binary log file, in the layout
+ * described by {@link BattleLogFormat}.
+ * Records are appended as the battle is played and flushed at the end of every
+ * turn, so a log is readable up to the last turn even if the game stops. A full
+ * keyframe of the battle is written at the start and every few turns, so a
+ * viewer can jump to any turn and only replay the events after the closest
+ * keyframe.
+ * Records are built in a reused buffer, so logging a battle allocates almost
+ * nothing besides the output stream.
+ */
+public class BattleLogWriter implements GameListener {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 10;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 13;
+
+    private final Path directory;
+    private final int keyframeInterval;
+    private int fileNumber = 0;
+
+    // State of the battle being logged, reset when a battle starts
+    private Battle battle;
+    private OutputStream out;
+    private long position;
+    private Entity[] roster = new Entity[8];
+    private int rosterSize;
+    private int[] teams = new int[8];
+    private int[] strengths = new int[8];
+    private final HashMap<String, Integer> statusIds = new HashMap<>();
+    private int[] keyframeTurns = new int[16];
+    private long[] keyframeOffsets = new long[16];
+    private int keyframeCount;
+
+    // Payload of the record being written
+    private byte[] payload = new byte[256];
+    private int payloadSize;
+
+    /**
+     * Constructs a writer that keeps a keyframe every
+     * {@link #DEFAULT_KEYFRAME_INTERVAL} turns.
+     *
+     * @param directory The folder that receives the log files.
+     * @throws IOException if the folder cannot be created.
+     */
+    public BattleLogWriter(Path directory) throws IOException {
+        this(directory, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Constructs a writer.
+     *
+     * @param directory        The folder that receives the log files.
+     * @param keyframeInterval The number of turns between keyframes.
+     * @throws IOException              if the folder cannot be created.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public BattleLogWriter(Path directory, int keyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive.");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Opens a new log file and writes the roster and the first keyframe.
+     *
+     * @param battle The battle that begins.
+     */
+    @Override
+    public void onBattleStarted(Battle battle) {
+        // A battle that never ended is left without an index
+        closeQuietly();
+
+        try {
+            Path file;
+            do {
+                fileNumber++;
+                file = directory.resolve(String.format("battle-%04d.lcbl", fileNumber));
+            } while (Files.exists(file));
+            out = new BufferedOutputStream(Files.newOutputStream(file), OUTPUT_BUFFER_SIZE);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+
+        this.battle = battle;
+        position = 0;
+        statusIds.clear();
+        keyframeCount = 0;
+
+        List<Entity> combatants = battle.getCombatants();
+        rosterSize = 0;
+        addToRoster(battle.getPlayer());
+        for (int i = 0; i < combatants.size(); i++) {
+            addToRoster(combatants.get(i));
+        }
+
+        try {
+            out.write(BattleLogFormat.MAGIC);
+            out.write(BattleLogFormat.VERSION);
+            position = BattleLogFormat.MAGIC.length + 1;
+
+            startRecord();
+            writeVarint(rosterSize);
+            for (int i = 0; i < rosterSize; i++) {
+                writeText(roster[i].getName());
+                writeVarint(roster[i].getTraitMask());
+            }
+            endRecord(BattleLogFormat.BATTLE_START);
+            writeKeyframe(0);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes the end of the turn, the strength changes and, every few turns, a
+     * keyframe, then flushes the file.
+     *
+     * @param battle The battle.
+     */
+    @Override
+    public void onTurnEnded(Battle battle) {
+        if (out == null || battle != this.battle) {
+            return;
+        }
+        try {
+            int turn = battle.getTurnCount();
+            startRecord();
+            writeVarint(turn);
+            endRecord(BattleLogFormat.TURN_END);
+
+            for (int i = 0; i < rosterSize; i++) {
+                int strength = roster[i].getStrength();
+                if (strength != strengths[i]) {
+                    strengths[i] = strength;
+                    startRecord();
+                    writeVarint(i + 1);
+                    writeVarint(strength);
+                    endRecord(BattleLogFormat.STRENGTH);
+                }
+            }
+
+            if (turn % keyframeInterval == 0) {
+                writeKeyframe(turn);
+            }
+            out.flush();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes the result, the index and the trailer, then closes the file.
+     *
+     * @param battle The battle.
+     * @param won    True if the player won.
+     */
+    @Override
+    public void onBattleEnded(Battle battle, boolean won) {
+        if (out == null || battle != this.battle) {
+            return;
+        }
+        try {
+            startRecord();
+            writeVarint(won ? 1 : 0);
+            writeVarint(battle.getTurnCount());
+            endRecord(BattleLogFormat.BATTLE_END);
+
+            long indexOffset = position;
+            startRecord();
+            writeVarint(battle.getTurnCount());
+            writeVarint(won ? 1 : 0);
+            writeVarint(keyframeCount);
+            for (int i = 0; i < keyframeCount; i++) {
+                writeVarint(keyframeTurns[i]);
+                writeVarint(keyframeOffsets[i]);
+            }
+            String[] names = new String[statusIds.size()];
+            statusIds.forEach((name, id) -> names[id] = name);
+            writeVarint(names.length);
+            for (String name : names) {
+                writeText(name);
+            }
+            endRecord(BattleLogFormat.INDEX);
+
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (indexOffset >>> shift));
+            }
+            out.write(BattleLogFormat.TRAILER);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        closeQuietly();
+    }
+
+    /**
+     * Logs damage.
+     *
+     * @param source The entity that caused the damage, or null.
+     * @param target The damaged entity.
+     * @param amount The damage dealt.
+     * @param type   How the damage was dealt.
+     */
+    @Override
+    public void onDamage(Entity source, Entity target, int amount, DamageType type) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(indexOf(source));
+        writeVarint(indexOf(target));
+        writeVarint(amount);
+        writeVarint(type.ordinal());
+        writeVarint(target.getCurrentHp());
+        endRecordSafely(BattleLogFormat.DAMAGE);
+    }
+
+    /**
+     * Logs healing.
+     *
+     * @param source The entity that healed, or null.
+     * @param target The healed entity.
+     * @param amount The HP restored.
+     * @param type   How the entity was healed.
+     */
+    @Override
+    public void onHeal(Entity source, Entity target, int amount, HealType type) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(indexOf(source));
+        writeVarint(indexOf(target));
+        writeVarint(amount);
+        writeVarint(type.ordinal());
+        writeVarint(target.getCurrentHp());
+        endRecordSafely(BattleLogFormat.HEAL);
+    }
+
+    /**
+     * Logs an attack on all enemies.
+     *
+     * @param actor The attacking entity.
+     */
+    @Override
+    public void onAreaAttack(Entity actor) {
+        writeEntityRecord(BattleLogFormat.AREA_ATTACK, actor);
+    }
+
+    /**
+     * Logs a new status.
+     *
+     * @param target The affected entity.
+     * @param status The new status.
+     */
+    @Override
+    public void onStatusApplied(Entity target, TimedStatus status) {
+        writeStatusRecord(BattleLogFormat.STATUS_APPLIED, target, status);
+    }
+
+    /**
+     * Logs an expired status.
+     *
+     * @param target The entity that was affected.
+     * @param status The expired status.
+     */
+    @Override
+    public void onStatusExpired(Entity target, TimedStatus status) {
+        writeStatusRecord(BattleLogFormat.STATUS_EXPIRED, target, status);
+    }
+
+    /**
+     * Logs a status removed early.
+     *
+     * @param target The entity that was affected.
+     * @param status The removed status.
+     */
+    @Override
+    public void onStatusCleansed(Entity target, TimedStatus status) {
+        writeStatusRecord(BattleLogFormat.STATUS_CLEANSED, target, status);
+    }
+
+    /**
+     * Logs a knocked out entity.
+     *
+     * @param entity The knocked out entity.
+     */
+    @Override
+    public void onKnockedOut(Entity entity) {
+        writeEntityRecord(BattleLogFormat.KNOCKED_OUT, entity);
+    }
+
+    /**
+     * Logs an entity being disabled.
+     *
+     * @param entity The disabled entity.
+     * @param turns  The turns added.
+     */
+    @Override
+    public void onDisabled(Entity entity, int turns) {
+        writeEntityRecord(BattleLogFormat.DISABLED, entity, turns);
+    }
+
+    /**
+     * Logs a turn spent disabled.
+     *
+     * @param entity         The disabled entity.
+     * @param remainingTurns The turns it stays disabled.
+     */
+    @Override
+    public void onDisabledTurnEnded(Entity entity, int remainingTurns) {
+        writeEntityRecord(BattleLogFormat.DISABLED_TURN_ENDED, entity, remainingTurns);
+    }
+
+    /**
+     * Logs an entity waiting.
+     *
+     * @param entity The waiting entity.
+     */
+    @Override
+    public void onTurnSkipped(Entity entity) {
+        writeEntityRecord(BattleLogFormat.TURN_SKIPPED, entity);
+    }
+
+    /**
+     * Logs a hacking attempt.
+     *
+     * @param actor   The hacking entity.
+     * @param target  The hacked entity.
+     * @param success True if the target changed sides.
+     */
+    @Override
+    public void onHack(Entity actor, Entity target, boolean success) {
+        if (out == null) {
+            return;
+        }
+        int targetIndex = indexOf(target);
+        if (success && targetIndex > 0) {
+            teams[targetIndex - 1] = BattleLogFormat.ALLY;
+        }
+        startRecord();
+        writeVarint(indexOf(actor));
+        writeVarint(targetIndex);
+        writeVarint(success ? 1 : 0);
+        endRecordSafely(BattleLogFormat.HACK);
+    }
+
+    /**
+     * Logs an item used in battle.
+     *
+     * @param user The hero using the item.
+     * @param item The item being used.
+     */
+    @Override
+    public void onItemUsed(Hero user, Item item) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(indexOf(user));
+        writeText(item.getName());
+        endRecordSafely(BattleLogFormat.ITEM_USED);
+    }
+
+    /**
+     * Logs the gold collected after a victory.
+     *
+     * @param player The player.
+     * @param gold   The gold collected.
+     */
+    @Override
+    public void onGoldLooted(Hero player, int gold) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(gold);
+        endRecordSafely(BattleLogFormat.GOLD_LOOTED);
+    }
+
+    /**
+     * Logs the level gained after a victory.
+     *
+     * @param player       The player.
+     * @param hpGain       The maximum HP gained.
+     * @param strengthGain The strength gained.
+     */
+    @Override
+    public void onLevelUp(Hero player, int hpGain, int strengthGain) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(hpGain);
+        writeVarint(strengthGain);
+        endRecordSafely(BattleLogFormat.LEVEL_UP);
+    }
+
+    /**
+     * Adds an entity to the roster of the battle being logged.
+     *
+     * @param entity The entity.
+     */
+    private void addToRoster(Entity entity) {
+        // The same enemy can be drawn twice, but it is still one entity
+        if (indexOf(entity) != 0) {
+            return;
+        }
+        if (rosterSize == roster.length) {
+            roster = Arrays.copyOf(roster, rosterSize * 2);
+            teams = Arrays.copyOf(teams, rosterSize * 2);
+            strengths = Arrays.copyOf(strengths, rosterSize * 2);
+        }
+        roster[rosterSize] = entity;
+        teams[rosterSize] = battle.getFaction(entity) == Faction.ENEMY ? BattleLogFormat.ENEMY : BattleLogFormat.ALLY;
+        strengths[rosterSize] = entity.getStrength();
+        rosterSize++;
+    }
+
+    /**
+     * Finds the reference of an entity in the records.
+     *
+     * @param entity The entity, or null.
+     * @return Its position in the roster plus one, or 0 if it is not part of the
+     *         battle.
+     */
+    private int indexOf(Entity entity) {
+        for (int i = 0; i < rosterSize; i++) {
+            if (roster[i] == entity) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Writes the full state of every entity and remembers where it is.
+     *
+     * @param turn The number of turns played.
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeKeyframe(int turn) throws IOException {
+        // Names are defined in their own records, before the keyframe uses them
+        for (int i = 0; i < rosterSize; i++) {
+            List<TimedStatus> statuses = roster[i].getStatuses();
+            for (int s = 0; s < statuses.size(); s++) {
+                statusId(statuses.get(s));
+            }
+        }
+
+        if (keyframeCount == keyframeTurns.length) {
+            keyframeTurns = Arrays.copyOf(keyframeTurns, keyframeCount * 2);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+        }
+        keyframeTurns[keyframeCount] = turn;
+        keyframeOffsets[keyframeCount] = position;
+        keyframeCount++;
+
+        startRecord();
+        writeVarint(turn);
+        for (int i = 0; i < rosterSize; i++) {
+            Entity entity = roster[i];
+            Faction faction = battle.getFaction(entity);
+            if (faction != null && i > 0) {
+                teams[i] = faction == Faction.ENEMY ? BattleLogFormat.ENEMY : BattleLogFormat.ALLY;
+            }
+            writeVarint(teams[i]);
+            writeVarint(entity.getCurrentHp());
+            writeVarint(entity.getMaxHp());
+            writeVarint(entity.getStrength());
+            writeVarint(entity.getDisabledTurns());
+            List<TimedStatus> statuses = entity.getStatuses();
+            writeVarint(statuses.size());
+            for (int s = 0; s < statuses.size(); s++) {
+                writeVarint(statusIds.get(statuses.get(s).getName()));
+            }
+        }
+        endRecord(BattleLogFormat.KEYFRAME);
+    }
+
+    /**
+     * Gets the id of a status name, defining it in the log the first time. Must
+     * not be called while a record is being built.
+     *
+     * @param status The status.
+     * @return The id of its name.
+     * @throws IOException if the definition cannot be written.
+     */
+    private int statusId(TimedStatus status) throws IOException {
+        Integer id = statusIds.get(status.getName());
+        if (id != null) {
+            return id;
+        }
+
+        int newId = statusIds.size();
+        statusIds.put(status.getName(), newId);
+        startRecord();
+        writeVarint(newId);
+        writeText(status.getName());
+        endRecord(BattleLogFormat.STATUS_NAME);
+        return newId;
+    }
+
+    /**
+     * Writes a record about a status of an entity.
+     *
+     * @param tag    The record tag.
+     * @param target The entity.
+     * @param status The status.
+     */
+    private void writeStatusRecord(int tag, Entity target, TimedStatus status) {
+        if (out == null) {
+            return;
+        }
+        try {
+            int id = statusId(status);
+            startRecord();
+            writeVarint(indexOf(target));
+            writeVarint(id);
+            endRecord(tag);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes a record that only references an entity.
+     *
+     * @param tag    The record tag.
+     * @param entity The entity.
+     */
+    private void writeEntityRecord(int tag, Entity entity) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(indexOf(entity));
+        endRecordSafely(tag);
+    }
+
+    /**
+     * Writes a record with an entity and a number.
+     *
+     * @param tag    The record tag.
+     * @param entity The entity.
+     * @param value  The number.
+     */
+    private void writeEntityRecord(int tag, Entity entity, int value) {
+        if (out == null) {
+            return;
+        }
+        startRecord();
+        writeVarint(indexOf(entity));
+        writeVarint(value);
+        endRecordSafely(tag);
+    }
+
+    /**
+     * Starts building the payload of a record.
+     */
+    private void startRecord() {
+        payloadSize = 0;
+    }
+
+    /**
+     * Appends an unsigned varint to the payload: 7 bits per byte, lowest first,
+     * with the high bit set on every byte but the last.
+     *
+     * @param value The value, never negative.
+     */
+    private void writeVarint(long value) {
+        if (payloadSize + 10 > payload.length) {
+            payload = Arrays.copyOf(payload, payload.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            payload[payloadSize++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        payload[payloadSize++] = (byte) value;
+    }
+
+    /**
+     * Appends text to the payload, as its length and its UTF-8 bytes.
+     *
+     * @param text The text.
+     */
+    private void writeText(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        if (payloadSize + bytes.length > payload.length) {
+            payload = Arrays.copyOf(payload, Math.max(payload.length * 2, payloadSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, payload, payloadSize, bytes.length);
+        payloadSize += bytes.length;
+    }
+
+    /**
+     * Writes the tag, the payload length and the payload of a record.
+     *
+     * @param tag The record tag.
+     * @throws IOException if the file cannot be written.
+     */
+    private void endRecord(int tag) throws IOException {
+        out.write(tag);
+        int length = payloadSize;
+        int lengthBytes = 1;
+        while ((length & ~0x7F) != 0) {
+            out.write((length & 0x7F) | 0x80);
+            length >>>= 7;
+            lengthBytes++;
+        }
+        out.write(length);
+        out.write(payload, 0, payloadSize);
+        position += 1 + lengthBytes + payloadSize;
+    }
+
+    /**
+     * Writes a record, stopping the log if the file cannot be written.
+     *
+     * @param tag The record tag.
+     */
+    private void endRecordSafely(int tag) {
+        try {
+            endRecord(tag);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Stops logging the current battle after a write error. The game goes on.
+     *
+     * @param e The error.
+     */
+    private void fail(IOException e) {
+        GameOutput.println("⚠️ Battle log stopped: " + e.getMessage());
+        closeQuietly();
+    }
+
+    /**
+     * Closes the current log file, if any.
+     */
+    private void closeQuietly() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                // Nothing else can be done with the file
+            }
+            out = null;
+        }
+        battle = null;
+    }
+}
@@ -0,0 +1,100 @@
+package src.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal micro-benchmark harness measuring time and allocation per operation.
+ * Each benchmark is warmed up before being measured, and the values returned by
+ * the operation are consumed so the JIT cannot remove the work.
+ */
+public class Benchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final int operationsPerIteration;
+    private long sink;
+
+    /**
+     * Constructs a harness with the given iteration settings.
+     *
+     * @param warmupIterations       Iterations run before measuring.
+     * @param measurementIterations  Iterations that are measured.
+     * @param operationsPerIteration Operations executed in each iteration.
+     */
+    public Benchmark(int warmupIterations, int measurementIterations, int operationsPerIteration) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.operationsPerIteration = operationsPerIteration;
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Measures an operation and prints its time and allocation per operation.
+     *
+     * @param name      The name of the benchmark.
+     * @param operation The operation to measure.
+     * @return The measured result.
+     */
+    public Result run(String name, LongSupplier operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(operation);
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long totalNanos = 0;
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < measurementIterations; i++) {
+            long nanos = runIteration(operation);
+            bestNanos = Math.min(bestNanos, nanos);
+            totalNanos += nanos;
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        long operations = (long) measurementIterations * operationsPerIteration;
+        Result result = new Result(name, (double) totalNanos / operations,
+                (double) bestNanos / operationsPerIteration, (double) allocated / operations);
+        System.out.printf("%-32s %12.1f ns/op (best %10.1f) %12.1f B/op%n", result.name(), result.nanosPerOp(),
+                result.bestNanosPerOp(), result.bytesPerOp());
+        return result;
+    }
+
+    /**
+     * Runs one iteration of an operation.
+     *
+     * @param operation The operation to run.
+     * @return The elapsed time in nanoseconds.
+     */
+    private long runIteration(LongSupplier operation) {
+        long start = System.nanoTime();
+        long accumulator = 0;
+        for (int i = 0; i < operationsPerIteration; i++) {
+            accumulator += operation.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        sink += accumulator;
+        return elapsed;
+    }
+
+    /**
+     * Gets the consumed values, so the results of the operations are used.
+     *
+     * @return The sum of all values returned by the measured operations.
+     */
+    public long getSink() {
+        return sink;
+    }
+
+    /**
+     * The measurement of a single benchmark.
+     *
+     * @param name           The name of the benchmark.
+     * @param nanosPerOp     The average time per operation.
+     * @param bestNanosPerOp The time per operation of the fastest iteration.
+     * @param bytesPerOp     The average number of bytes allocated per operation.
+     */
+    public record Result(String name, double nanosPerOp, double bestNanosPerOp, double bytesPerOp) {
+    }
+}
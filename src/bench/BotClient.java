@@ -0,0 +1,227 @@
+package src.bench;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A scripted player for the load test. It plays whole adventures on a game
+ * server, reading each screen up to the IAC GA that ends a prompt and answering
+ * with a random choice among the ones the screen offers, until the test is
+ * over.
+ */
+final class BotClient implements Runnable {
+    // Telnet Go Ahead, sent by the server after every prompt
+    private static final int IAC = 255;
+    private static final int GA = 249;
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    // Numbered menu lines, such as "2️⃣ Sell Items" or "1) Attack"
+    private static final Pattern OPTION = Pattern.compile("(?m)^\\s*(\\d+)(?:️⃣|\\))");
+    // Ranges printed by GameScanner.getIntInRange
+    private static final Pattern RANGE = Pattern.compile("\\((-?\\d+),(-?\\d+)\\): *$");
+    private static final Pattern RANGE_ERROR = Pattern.compile("between (-?\\d+) and (-?\\d+)\\.");
+
+    /**
+     * The kinds of prompts, to report the latency of every part of the game
+     * apart.
+     */
+    enum Prompt {
+        CONNECT, HERO, MAP, ROOM, VENDOR, BATTLE, OTHER
+    }
+
+    private final ServerLoadTest test;
+    private final int port;
+    private final int id;
+    private final Random random;
+    private final long deadline;
+    private byte[] screen = new byte[8192];
+    // The choices of the last menu, for prompts that only repeat an error
+    private List<String> lastOptions = List.of();
+
+    /**
+     * Constructs a bot.
+     *
+     * @param test     The load test recording the results.
+     * @param port     The port of the server.
+     * @param id       The number of the bot, also used as its seed.
+     * @param deadline The time, in System.nanoTime() terms, the bot stops at.
+     */
+    BotClient(ServerLoadTest test, int port, int id, long deadline) {
+        this.test = test;
+        this.port = port;
+        this.id = id;
+        this.random = new Random(id);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Plays adventures one after the other until the deadline.
+     */
+    @Override
+    public void run() {
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                playSession();
+            } catch (IOException e) {
+                test.recordFailure();
+            }
+        }
+    }
+
+    /**
+     * Connects to the server and plays one adventure until the server ends the
+     * game or the deadline passes.
+     *
+     * @throws IOException if the connection fails.
+     */
+    private void playSession() throws IOException {
+        long sent = System.nanoTime();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream(), READ_BUFFER_SIZE);
+            OutputStream out = socket.getOutputStream();
+            Prompt answered = Prompt.CONNECT;
+            while (true) {
+                int length = readScreen(in);
+                if (length < 0) {
+                    test.recordSession();
+                    return;
+                }
+                long received = System.nanoTime();
+                test.recordPrompt(answered, received - sent);
+                if (received - deadline >= 0) {
+                    test.recordAbortedSession();
+                    return;
+                }
+
+                String text = new String(screen, 0, length, StandardCharsets.UTF_8);
+                answered = classify(text);
+                out.write((answer(text) + "\r\n").getBytes(StandardCharsets.UTF_8));
+                sent = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Reads everything the server sends up to the next prompt.
+     *
+     * @param in The input stream of the connection.
+     * @return The length of the screen, without carriage returns, or -1 if the
+     *         server closed the connection.
+     * @throws IOException if the connection fails.
+     */
+    private int readScreen(InputStream in) throws IOException {
+        int length = 0;
+        boolean afterIac = false;
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (afterIac) {
+                afterIac = false;
+                if (b == GA) {
+                    return length;
+                }
+                continue;
+            }
+            if (b == IAC) {
+                afterIac = true;
+            } else if (b != '\r') {
+                if (length == screen.length) {
+                    screen = Arrays.copyOf(screen, length * 2);
+                }
+                screen[length++] = (byte) b;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds which part of the game a prompt belongs to.
+     *
+     * @param text The screen ending with the prompt.
+     * @return The kind of prompt.
+     */
+    private static Prompt classify(String text) {
+        if (text.contains("CHOOSE YOUR ACTION") || text.contains("CHOOSE YOUR TARGET")) {
+            return Prompt.BATTLE;
+        } else if (text.contains("Choose where to go next") || text.contains("CHOOSE YOUR STARTING LOCATION")) {
+            return Prompt.MAP;
+        } else if (text.contains("Vendor Store") || text.contains("Buy Items") || text.contains("item to sell")
+                || text.contains("Confirm purchase")) {
+            return Prompt.VENDOR;
+        } else if (text.contains("Or continue the story")) {
+            return Prompt.ROOM;
+        } else if (text.contains("Enter your name") || text.contains("choose your hero type")
+                || text.contains("Choose Your Difficulty") || text.contains("Allocate")
+                || text.contains("(Y/N)") || text.contains("Enter points for Strength")) {
+            return Prompt.HERO;
+        }
+        return Prompt.OTHER;
+    }
+
+    /**
+     * Picks a valid answer to a prompt.
+     *
+     * @param text The screen ending with the prompt.
+     * @return The line to send.
+     */
+    private String answer(String text) {
+        if (text.contains("Invalid input") || text.contains("Please enter a number between")) {
+            test.recordRejectedInput();
+        }
+
+        if (text.endsWith("Press Enter to continue ➡️\n")) {
+            return "";
+        } else if (text.contains("Enter your name")) {
+            return "Bot" + (id % 1_000_000);
+        } else if (text.contains("Exit game")) {
+            // One adventure per session
+            return "3";
+        } else if (text.contains("(Y/N)")) {
+            return random.nextBoolean() ? "Y" : "N";
+        } else if (text.contains("(1 = Yes, 2 = No)")) {
+            return random.nextBoolean() ? "1" : "2";
+        }
+
+        Matcher range = RANGE.matcher(text);
+        if (!range.find()) {
+            range = RANGE_ERROR.matcher(text);
+            if (!range.find()) {
+                range = null;
+            }
+        }
+        if (range != null) {
+            int min = Integer.parseInt(range.group(1));
+            int max = Integer.parseInt(range.group(2));
+            return Integer.toString(min + random.nextInt(max - min + 1));
+        }
+
+        ArrayList<String> options = new ArrayList<>();
+        Matcher option = OPTION.matcher(text);
+        while (option.find()) {
+            options.add(option.group(1));
+        }
+        if (text.contains("or 0 to")) {
+            options.add("0");
+        }
+        if (text.contains("Or continue the story") && random.nextInt(4) != 0) {
+            return "";
+        }
+        if (options.isEmpty()) {
+            options.addAll(lastOptions);
+        } else {
+            lastOptions = options;
+        }
+        return options.isEmpty() ? "" : options.get(random.nextInt(options.size()));
+    }
+}
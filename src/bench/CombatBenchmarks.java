@@ -0,0 +1,180 @@
+package src.bench;
+
+import java.util.Random;
+import src.actions.AttackAction;
+import src.actions.BattleAction;
+import src.actions.SpecialAttackAction;
+import src.ai.SearchBattleAI;
+import src.ai.UtilityBattleAI;
+import src.entities.Enemy;
+import src.entities.EnemyTemplate;
+import src.entities.Entity;
+import src.entities.Hero;
+import src.entities.NPCRegistry;
+import src.entities.TacticalChemist;
+import src.game.AutoHeroController;
+import src.game.Battle;
+import src.game.BattleSnapshot;
+import src.game.GameOutput;
+import src.game.GameRandom;
+import src.simulation.ArrayBattle;
+import src.status.AttackBoost;
+import src.status.Poisoned;
+import src.status.Regeneration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks for the combat hot path.
+ * Prints the time and allocation per operation of every suite, so regressions
+ * can be spotted before content changes are shipped.
+ * Usage: CombatBenchmarks [seed]
+ */
+public class CombatBenchmarks {
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42;
+        GameRandom.initialize(seed);
+        GameOutput.mute();
+
+        Benchmark quick = new Benchmark(10, 20, 100_000);
+        Benchmark slow = new Benchmark(5, 10, 2_000);
+
+        slow.run("Battle.start (final boss)", CombatBenchmarks::runFinalBossBattle);
+
+        NPCRegistry npcs = NPCRegistry.current();
+
+        // The same battle as arrays, reset from templates every time
+        ArrayBattle templates = new ArrayBattle();
+        templates.add(createHero(), ArrayBattle.ALLY);
+        for (EnemyTemplate boss : NPCRegistry.FINAL_BOSS) {
+            templates.add(boss.spawn(), ArrayBattle.ENEMY);
+        }
+        ArrayBattle arena = new ArrayBattle();
+        Random arrayRandom = new Random(seed);
+        slow.run("ArrayBattle.run (final boss)", () -> {
+            arena.clear();
+            for (int row = 0; row < templates.getSize(); row++) {
+                arena.add(templates, row, row == 0 ? ArrayBattle.ALLY : ArrayBattle.ENEMY);
+            }
+            arena.run(arrayRandom);
+            return arena.getTurnCount();
+        });
+
+        Hero hero = createHero();
+        EnemyTemplate bossTemplate = NPCRegistry.FINAL_BOSS.getLast();
+        quick.run("EnemyTemplate.spawn", () -> bossTemplate.spawn().getCurrentHp());
+
+        Enemy target = bossTemplate.spawn();
+        Battle battle = new Battle(hero, new ArrayList<>(List.of(target)), null, new AutoHeroController());
+
+        AttackAction attack = new AttackAction(hero);
+        quick.run("AttackAction.execute", () -> {
+            attack.execute(battle, target);
+            target.heal(target.getMaxHp());
+            return target.getCurrentHp();
+        });
+
+        SpecialAttackAction specialAttack = new SpecialAttackAction(hero);
+        quick.run("SpecialAttackAction.execute", () -> {
+            specialAttack.execute(battle, target);
+            target.heal(target.getMaxHp());
+            return target.getCurrentHp();
+        });
+
+        // Special attack on cooldown half of the time, so the ready list changes
+        Hero cooldownHero = createHero();
+        SpecialAttackAction cooldownAction = (SpecialAttackAction) cooldownHero.getActions().get(2);
+        quick.run("Entity.getAvailableActions", () -> {
+            cooldownAction.disable(cooldownAction.isDisabled() ? 0 : 1);
+            List<BattleAction> actions = cooldownHero.getAvailableActions();
+            return actions.size() + actions.get(actions.size() - 1).getName().length();
+        });
+
+        Hero boostedHero = createHero();
+        boostedHero.applyStatus(new AttackBoost(-1, 15));
+        boostedHero.applyStatus(new Regeneration(-1, 5));
+        boostedHero.applyStatus(new AttackBoost(-1, 5));
+        quick.run("Entity.getStrength", boostedHero::getStrength);
+
+        Enemy affectedEnemy = NPCRegistry.FINAL_BOSS.getFirst().spawn();
+        affectedEnemy.applyStatus(new Regeneration(-1, 5));
+        affectedEnemy.applyStatus(new Poisoned(-1, 5));
+        quick.run("Entity.processStatuses", () -> {
+            affectedEnemy.processStatuses();
+            affectedEnemy.heal(affectedEnemy.getMaxHp());
+            return affectedEnemy.getCurrentHp();
+        });
+
+        Entity electronicEnemy = NPCRegistry.ARCHIVE_ENEMIES.get(1).spawn();
+        Entity organicEnemy = NPCRegistry.LAB_ENEMIES.get(1).spawn();
+        quick.run("Entity.isElectronic (match)", () -> electronicEnemy.isElectronic() ? 1 : 0);
+        quick.run("Entity.isElectronic (no match)", () -> organicEnemy.isElectronic() ? 1 : 0);
+
+        // A large encounter: every enemy of the game against the hero and friendly NPCs
+        ArrayList<Enemy> horde = new ArrayList<>();
+        for (List<EnemyTemplate> group : List.of(NPCRegistry.LAB_ENEMIES, NPCRegistry.SECURITY_ENEMIES,
+                NPCRegistry.TESTING_ENEMIES, NPCRegistry.CHEMICAL_ENEMIES, NPCRegistry.ARCHIVE_ENEMIES)) {
+            for (EnemyTemplate enemy : group) {
+                horde.add(enemy.spawn());
+                horde.add(enemy.spawn());
+            }
+        }
+        ArrayList<Entity> friends = new ArrayList<>(npcs.getFriendlyNPCs());
+        Battle largeBattle = new Battle(createHero(), horde, friends, new AutoHeroController());
+        UtilityBattleAI ai = new UtilityBattleAI();
+        slow.run("UtilityBattleAI.decide (30 enemies)", () -> {
+            long decisions = 0;
+            for (Enemy enemy : horde) {
+                if (ai.decide(largeBattle, enemy) != null) {
+                    decisions++;
+                }
+            }
+            return decisions;
+        });
+
+        BattleSnapshot snapshot = largeBattle.snapshot();
+        quick.run("Battle.snapshot + restore (30 enemies)", () -> {
+            largeBattle.snapshot(snapshot);
+            largeBattle.restore(snapshot);
+            return snapshot.getTurnCount();
+        });
+
+        // The final boss searching against the hero and friendly NPCs
+        Enemy boss = bossTemplate.spawn();
+        ArrayList<Enemy> bossGroup = new ArrayList<>(List.of(boss, NPCRegistry.FINAL_BOSS.getFirst().spawn()));
+        Battle bossBattle = new Battle(createHero(), bossGroup, new ArrayList<>(npcs.getFriendlyNPCs()),
+                new AutoHeroController());
+        SearchBattleAI searchAI = new SearchBattleAI();
+        Benchmark search = new Benchmark(3, 5, 50);
+        search.run("SearchBattleAI.decide (default budget)", () -> searchAI.decide(bossBattle, boss) != null ? 1 : 0);
+        System.out.println("    " + searchAI.getMetrics());
+
+        System.out.println("(sink " + quick.getSink() + slow.getSink() + search.getSink() + ")");
+    }
+
+    /**
+     * Runs a complete headless battle against every final boss.
+     *
+     * @return The number of turns the battle lasted.
+     */
+    private static long runFinalBossBattle() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (EnemyTemplate boss : NPCRegistry.FINAL_BOSS) {
+            enemies.add(boss.spawn());
+        }
+        Battle battle = new Battle(createHero(), enemies, null, new AutoHeroController());
+        battle.start();
+        return battle.getTurnCount();
+    }
+
+    /**
+     * Creates the hero used by the benchmarks.
+     *
+     * @return A fresh hero.
+     */
+    private static Hero createHero() {
+        return new TacticalChemist("Chemist", 300, 40, 0);
+    }
+}
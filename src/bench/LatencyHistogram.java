@@ -0,0 +1,139 @@
+package src.bench;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in buckets to report their percentiles, without storing
+ * every sample. Buckets are exact up to 128 microseconds and then split every
+ * power of two into 64 steps, so percentiles are within 1.6% of the real value.
+ * Safe to record into from many threads at once.
+ */
+public class LatencyHistogram {
+    // Values below SUB_BUCKETS are exact, every power of two above has SUB_BUCKETS / 2 steps
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Enough for latencies of several hours in microseconds
+    private static final int MAX_EXPONENT = 34;
+    private static final int BUCKETS = SUB_BUCKETS / 2 * (MAX_EXPONENT - SUB_BUCKET_BITS + 3);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(Math.max(0, nanos / 1000)));
+    }
+
+    /**
+     * Adds the samples of another histogram to this one.
+     *
+     * @param other The histogram to add.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+    }
+
+    /**
+     * Moves every sample of this histogram into a new one, leaving this one
+     * empty, to report one interval at a time.
+     *
+     * @return The samples recorded since the last call.
+     */
+    public LatencyHistogram drain() {
+        LatencyHistogram drained = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.getAndSet(i, 0);
+            if (count != 0) {
+                drained.counts.set(i, count);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Gets the number of samples.
+     *
+     * @return The samples recorded.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets a percentile of the samples.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The latency, in milliseconds, below which that share of the samples
+     *         falls, or 0 if there are none.
+     */
+    public double getPercentileMillis(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return highestValueOf(i) / 1000.0;
+            }
+        }
+        return highestValueOf(BUCKETS - 1) / 1000.0;
+    }
+
+    /**
+     * Formats the usual percentiles on one line.
+     *
+     * @return The summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("p50 %7.2f | p90 %7.2f | p99 %7.2f | p99.9 %7.2f | max %8.2f ms",
+                getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99),
+                getPercentileMillis(99.9), getPercentileMillis(100));
+    }
+
+    /**
+     * Finds the bucket of a value.
+     *
+     * @param micros The value, in microseconds.
+     * @return The index of its bucket.
+     */
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        int index = (shift + 1) * SUB_BUCKETS / 2 + (int) (micros >>> shift) - SUB_BUCKETS / 2;
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    /**
+     * Gets the highest value that falls into a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The value, in microseconds.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / (SUB_BUCKETS / 2) - 1;
+        long mantissa = bucket % (SUB_BUCKETS / 2) + SUB_BUCKETS / 2;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,147 @@
+package src.bench;
+
+import src.server.GameServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The game server of the load test, running in a process of its own so the
+ * heap and threads it reports are the server's alone, not the bots'.
+ * The load test starts it with {@link #start(long)}. The child process prints
+ * its port, then answers every line it reads with a sample of its metrics, and
+ * stops when its input is closed.
+ */
+final class LoadTestServer implements AutoCloseable {
+    private static final long EXIT_TIMEOUT_SECONDS = 10;
+
+    /**
+     * The metrics of the server process at one point in time.
+     *
+     * @param players   The players connected.
+     * @param liveGames The games held in memory.
+     * @param heapMb    The heap in use, in megabytes.
+     * @param threads   The live threads of the process, virtual threads
+     *                  excluded.
+     */
+    record Sample(int players, int liveGames, long heapMb, int threads) {
+    }
+
+    private final Process process;
+    private final PrintStream commands;
+    private final BufferedReader replies;
+    private final int port;
+
+    /**
+     * Waits for a started server process to listen.
+     *
+     * @param process The server process.
+     * @throws IOException if the process exits before telling its port.
+     */
+    private LoadTestServer(Process process) throws IOException {
+        this.process = process;
+        this.commands = new PrintStream(process.getOutputStream(), true, StandardCharsets.UTF_8);
+        this.replies = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line = replies.readLine();
+        if (line == null) {
+            throw new IOException("The server process exited before listening.");
+        }
+        this.port = Integer.parseInt(line.trim());
+    }
+
+    /**
+     * Starts a game server in a new JVM with the class path of this one.
+     *
+     * @param seed The seed of the first game.
+     * @return The running server.
+     * @throws IOException if the process cannot be started.
+     */
+    static LoadTestServer start(long seed) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                LoadTestServer.class.getName(), Long.toString(seed))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            return new LoadTestServer(process);
+        } catch (IOException | RuntimeException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the port players connect to.
+     *
+     * @return The port.
+     */
+    int getPort() {
+        return port;
+    }
+
+    /**
+     * Asks the server process for its metrics.
+     *
+     * @return The metrics.
+     * @throws IOException if the process exited.
+     */
+    Sample sample() throws IOException {
+        commands.println("sample");
+        String line = replies.readLine();
+        if (line == null) {
+            throw new IOException("The server process exited.");
+        }
+        String[] fields = line.trim().split(" ");
+        return new Sample(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), Long.parseLong(fields[2]),
+                Integer.parseInt(fields[3]));
+    }
+
+    /**
+     * Stops the server process, killing it if it does not exit in time.
+     */
+    @Override
+    public void close() {
+        commands.close();
+        try {
+            if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the server side: serves players and answers every line read on the
+     * standard input with the metrics of this process.
+     *
+     * @param args The seed of the first game.
+     * @throws IOException if the server cannot be started.
+     */
+    public static void main(String[] args) throws IOException {
+        long seed = Long.parseLong(args[0]);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        BufferedReader requests = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+
+        try (GameServer server = new GameServer(0, seed, false, true)) {
+            Thread.ofPlatform().daemon().name("accept").start(server::serve);
+            System.out.println(server.getPort());
+            System.out.flush();
+            while (requests.readLine() != null) {
+                System.out.printf("%d %d %d %d%n", server.getActiveSessions(), server.getLiveGames(),
+                        memory.getHeapMemoryUsage().getUsed() >> 20, threads.getThreadCount());
+                System.out.flush();
+            }
+        }
+    }
+}
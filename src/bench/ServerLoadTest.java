@@ -0,0 +1,190 @@
+package src.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of the game server: thousands of scripted bots play adventures
+ * against a server started in a process of its own (see
+ * {@link LoadTestServer}), so the bots do not count in its memory and threads.
+ * Every second it prints the players connected, the games they hold in memory,
+ * the sessions finished, the prompts answered and their latency, the heap in
+ * use and the platform threads of the server process; at the end it prints the
+ * latency percentiles of every kind of prompt. The latency of a
+ * prompt is the time between a bot sending its answer and the next prompt
+ * arriving, so it covers the game logic as well as the network.
+ * Usage: ServerLoadTest [bots] [seconds] [seed]
+ */
+public class ServerLoadTest {
+    private static final long REPORT_INTERVAL_MILLIS = 1000;
+    // Bots connect evenly over this time instead of all at once
+    private static final long RAMP_UP_MILLIS = 2000;
+
+    private final EnumMap<BotClient.Prompt, LatencyHistogram> latencies = new EnumMap<>(BotClient.Prompt.class);
+    private final LatencyHistogram interval = new LatencyHistogram();
+    private final LongAdder sessions = new LongAdder();
+    private final LongAdder abortedSessions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejectedInputs = new LongAdder();
+
+    /**
+     * Constructs a load test with no results yet.
+     */
+    private ServerLoadTest() {
+        for (BotClient.Prompt prompt : BotClient.Prompt.values()) {
+            latencies.put(prompt, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args The number of bots, the duration in seconds and the seed of the
+     *             first game.
+     * @throws IOException          if the server cannot be started.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int bots = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        new ServerLoadTest().run(bots, seconds, seed);
+    }
+
+    /**
+     * Starts the server and the bots, reports while they play and prints the
+     * summary once every bot has stopped.
+     *
+     * @param bots    The number of bots playing at the same time.
+     * @param seconds How long the bots play.
+     * @param seed    The seed of the first game.
+     * @throws IOException          if the server cannot be started or exits.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private void run(int bots, int seconds, long seed) throws IOException, InterruptedException {
+        double elapsed;
+        try (LoadTestServer server = LoadTestServer.start(seed)) {
+            System.out.printf("Load test: %d bots for %d s on port %d%n", bots, seconds, server.getPort());
+            System.out.printf("%6s %8s %6s %10s %10s %9s %9s %9s %9s %6s%n", "time", "players", "live", "sessions/s",
+                    "prompts/s", "p50 ms", "p99 ms", "max ms", "heap MB", "threads");
+
+            long start = System.nanoTime();
+            long deadline = start + seconds * 1_000_000_000L;
+            ArrayList<Thread> botThreads = new ArrayList<>(bots);
+            long nextReport = start + REPORT_INTERVAL_MILLIS * 1_000_000;
+            long lastSessions = 0;
+            for (int i = 0; i < bots; i++) {
+                botThreads.add(Thread.ofVirtual().start(new BotClient(this, server.getPort(), i, deadline)));
+                // Spread the connections over the ramp-up time
+                long due = start + RAMP_UP_MILLIS * 1_000_000 * (i + 1) / bots;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                }
+                if (System.nanoTime() - nextReport >= 0) {
+                    lastSessions = report(start, server, lastSessions);
+                    nextReport += REPORT_INTERVAL_MILLIS * 1_000_000;
+                }
+            }
+
+            while (System.nanoTime() - deadline < 0) {
+                long wait = Math.max(0, nextReport - System.nanoTime());
+                Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                lastSessions = report(start, server, lastSessions);
+                nextReport += REPORT_INTERVAL_MILLIS * 1_000_000;
+            }
+            for (Thread bot : botThreads) {
+                bot.join();
+            }
+            elapsed = (System.nanoTime() - start) / 1e9;
+        }
+        printSummary(elapsed);
+    }
+
+    /**
+     * Prints one line about the last interval.
+     *
+     * @param start        When the test started.
+     * @param server       The server under test.
+     * @param lastSessions The sessions finished at the previous report.
+     * @return The sessions finished so far.
+     * @throws IOException if the server process exited.
+     */
+    private long report(long start, LoadTestServer server, long lastSessions) throws IOException {
+        long finished = sessions.sum();
+        LatencyHistogram prompts = interval.drain();
+        LoadTestServer.Sample sample = server.sample();
+        double seconds = REPORT_INTERVAL_MILLIS / 1000.0;
+        System.out.printf("%5.0fs %8d %6d %10.1f %10.0f %9.2f %9.2f %9.2f %9d %6d%n",
+                (System.nanoTime() - start) / 1e9, sample.players(), sample.liveGames(),
+                (finished - lastSessions) / seconds,
+                prompts.getCount() / seconds, prompts.getPercentileMillis(50), prompts.getPercentileMillis(99),
+                prompts.getPercentileMillis(100), sample.heapMb(), sample.threads());
+        return finished;
+    }
+
+    /**
+     * Prints the totals of the test and the latency of every kind of prompt.
+     *
+     * @param elapsed The duration of the test, in seconds.
+     */
+    private void printSummary(double elapsed) {
+        LatencyHistogram all = new LatencyHistogram();
+        for (LatencyHistogram histogram : latencies.values()) {
+            all.add(histogram);
+        }
+        System.out.printf("%nFinished %d sessions (%.1f/s), %d cut short by the end of the test, %d failed%n",
+                sessions.sum(), sessions.sum() / elapsed, abortedSessions.sum(), failures.sum());
+        System.out.printf("Answered %d prompts (%.0f/s), %d answers rejected by the game%n", all.getCount(),
+                all.getCount() / elapsed, rejectedInputs.sum());
+        for (BotClient.Prompt prompt : BotClient.Prompt.values()) {
+            LatencyHistogram histogram = latencies.get(prompt);
+            if (histogram.getCount() > 0) {
+                System.out.printf("%-8s %9d  %s%n", prompt, histogram.getCount(), histogram);
+            }
+        }
+        System.out.printf("%-8s %9d  %s%n", "ALL", all.getCount(), all);
+    }
+
+    /**
+     * Records the latency of a prompt.
+     *
+     * @param answered The kind of prompt the bot answered before this one.
+     * @param nanos    The time between the answer and the next prompt.
+     */
+    void recordPrompt(BotClient.Prompt answered, long nanos) {
+        latencies.get(answered).record(nanos);
+        interval.record(nanos);
+    }
+
+    /**
+     * Records an adventure played to its end.
+     */
+    void recordSession() {
+        sessions.increment();
+    }
+
+    /**
+     * Records an adventure stopped because the test was over.
+     */
+    void recordAbortedSession() {
+        abortedSessions.increment();
+    }
+
+    /**
+     * Records a connection that failed.
+     */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Records an answer the game did not accept, which means a bot misread a
+     * prompt.
+     */
+    void recordRejectedInput() {
+        rejectedInputs.increment();
+    }
+}
@@ -22,8 +22,8 @@ public class Bioengineer extends Hero {
 
     public Bioengineer(String name, int maxHp, int strength, int gold) {
         super(name, maxHp, strength, gold);
-        this.availableActions.add(new HealAction(this));
-        this.statuses.add(new Regeneration(-1, 5));
+        this.addAction(new HealAction(this));
+        this.applyStatus(new Regeneration(-1, 5));
     }
 
     /**
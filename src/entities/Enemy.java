@@ -1,7 +1,5 @@
 package src.entities;
 
-import src.game.GameRandom;
-
 /**
  * This class is used for enemies that the player will encounter in battles.
  */
@@ -11,32 +9,16 @@ public class Enemy extends Entity {
     protected int specialAttackPower;
 
     /**
-     * Constructs an NPC with scaled attributes based on difficulty level.
+     * Constructs a fresh enemy from its template, with full HP and no statuses.
+     * Enemies are created with {@link EnemyTemplate#spawn()}.
      *
-     * @param name            The name of the NPC.
-     * @param baseHp          The base health of the NPC.
-     * @param baseAttack      The base attack power of the NPC.
-     * @param baseGold        The base gold reward upon defeat.
-     * @param difficultyLevel The difficulty scaling factor.
+     * @param template The template of the enemy.
      */
-    public Enemy(String name, int baseHp, int baseAttack, int baseGold, int difficultyLevel) {
-        super(name, scaleValue(baseHp, difficultyLevel), scaleValue(baseAttack, difficultyLevel));
-        this.gold = scaleValue(baseGold, difficultyLevel);
+    Enemy(EnemyTemplate template) {
+        super(template.getName(), template.getMaxHp(), template.getStrength(), false, template.getTraitMask());
+        this.gold = template.getGold();
         this.attackPower = this.strength;
         this.specialAttackPower = attackPower * 2;
-        // 50% chance of being able to heal
-        this.canHeal = GameRandom.getInstance().nextBoolean();
-    }
-
-    /**
-     * Scales a given stat based on the difficulty level.
-     *
-     * @param baseValue       The base stat value.
-     * @param difficultyLevel The difficulty level (higher means stronger enemies).
-     * @return The scaled value.
-     */
-    private static int scaleValue(int baseValue, int difficultyLevel) {
-        return baseValue + (difficultyLevel * 2);
     }
 
     /**
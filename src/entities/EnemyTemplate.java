@@ -0,0 +1,101 @@
+package src.entities;
+
+/**
+ * The immutable description of an enemy, with its stats already scaled by
+ * difficulty and its traits already resolved from its name.
+ * Templates are shared by every game session and thread; every battle spawns
+ * enemies of its own from them, so damage and statuses never carry over from
+ * one battle to the next.
+ */
+public final class EnemyTemplate {
+    private final String name;
+    private final int maxHp;
+    private final int strength;
+    private final int gold;
+    private final int traitMask;
+
+    /**
+     * Constructs a template with scaled attributes based on difficulty level.
+     *
+     * @param name            The name of the enemy.
+     * @param baseHp          The base health of the enemy.
+     * @param baseAttack      The base attack power of the enemy.
+     * @param baseGold        The base gold reward upon defeat.
+     * @param difficultyLevel The difficulty scaling factor.
+     * @param traits          Traits of the enemy on top of the ones given by its
+     *                        name, such as BOSS.
+     */
+    public EnemyTemplate(String name, int baseHp, int baseAttack, int baseGold, int difficultyLevel,
+            EntityTrait... traits) {
+        this.name = name;
+        this.maxHp = scaleValue(baseHp, difficultyLevel);
+        this.strength = scaleValue(baseAttack, difficultyLevel);
+        this.gold = scaleValue(baseGold, difficultyLevel);
+        this.traitMask = EntityTrait.fromName(name) | EntityTrait.maskOf(traits);
+    }
+
+    /**
+     * Scales a given stat based on the difficulty level.
+     *
+     * @param baseValue       The base stat value.
+     * @param difficultyLevel The difficulty level (higher means stronger enemies).
+     * @return The scaled value.
+     */
+    private static int scaleValue(int baseValue, int difficultyLevel) {
+        return baseValue + (difficultyLevel * 2);
+    }
+
+    /**
+     * Creates a new enemy from this template, with full HP and no statuses.
+     *
+     * @return The enemy.
+     */
+    public Enemy spawn() {
+        return new Enemy(this);
+    }
+
+    /**
+     * Gets the name of the enemy.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the maximum HP of the enemy.
+     *
+     * @return The scaled maximum HP.
+     */
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    /**
+     * Gets the base strength of the enemy.
+     *
+     * @return The scaled strength.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Gets the gold reward given when the enemy is defeated.
+     *
+     * @return The scaled gold reward.
+     */
+    public int getGold() {
+        return gold;
+    }
+
+    /**
+     * Gets all the traits of the enemy.
+     *
+     * @return The mask of the traits, one bit per {@link EntityTrait}.
+     */
+    public int getTraitMask() {
+        return traitMask;
+    }
+}
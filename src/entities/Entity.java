@@ -1,17 +1,24 @@
 package src.entities;
 
+import java.util.AbstractList;
+import java.util.RandomAccess;
 import src.actions.AttackAction;
 import src.actions.BattleAction;
 import src.actions.HealAction;
+import src.events.GameEvents;
+import src.game.GameOutput;
 import src.game.GameRandom;
 import src.items.Inventory;
+import src.items.Item;
 import src.items.Weapon;
 import src.status.AttackBoost;
 import src.status.EndOfTurnStatus;
+import src.status.Stat;
+import src.status.StatModifiers;
 import src.status.TimedStatus;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -20,25 +27,29 @@ import java.util.Random;
  * It serves as a base for both the player and NPCs.
  */
 public abstract class Entity {
-    private static final List<String> ELECTRONIC_KEYWORDS = Arrays.asList(
-            "robot",
-            "sentient",
-            "drone",
-            "data",
-            "cybernetic",
-            "engineered");
-
     protected final String name;
     protected boolean canHeal;
     protected Random random;
     protected int maxHp;
     protected int currentHp;
     protected int strength;
-    protected List<BattleAction> availableActions;
+    private final List<BattleAction> availableActions;
+    private final List<BattleAction> actionsView;
+    // Bit i is set while action i is not disabled
+    private long readyActions;
+    // The ready actions, rebuilt only when readyActions has changed
+    private final ArrayList<BattleAction> readyList;
+    private long readyListMask;
+    private final List<BattleAction> readyView;
     protected Weapon equipedWeapon = null;
     protected Inventory inventory;
     protected List<TimedStatus> statuses;
+    private final List<TimedStatus> statusesView;
+    // Combined modifiers of the statuses, rebuilt whenever they change
+    private final StatModifiers modifiers;
     private int disabledTurns = 0;
+    // One bit per EntityTrait
+    private final int traits;
 
     /**
      * Constructs an Entity with the specified attributes.
@@ -49,6 +60,20 @@ public abstract class Entity {
      * @param canHeal  Whether the entity can heal.
      */
     public Entity(String name, int maxHp, int strength, boolean canHeal) {
+        this(name, maxHp, strength, canHeal, EntityTrait.fromName(name));
+    }
+
+    /**
+     * Constructs an Entity whose traits are already known, so its name does not
+     * have to be matched against the trait keywords again.
+     *
+     * @param name      The name of the entity.
+     * @param maxHp     The maximum health points of the entity.
+     * @param strength  The base strength of the entity.
+     * @param canHeal   Whether the entity can heal.
+     * @param traitMask The mask of the traits of the entity.
+     */
+    protected Entity(String name, int maxHp, int strength, boolean canHeal, int traitMask) {
         this.name = name;
         this.maxHp = maxHp;
         this.currentHp = maxHp;
@@ -56,13 +81,19 @@ public abstract class Entity {
         this.canHeal = canHeal;
         this.random = GameRandom.getInstance();
         this.availableActions = new ArrayList<>();
+        this.actionsView = Collections.unmodifiableList(this.availableActions);
+        this.readyList = new ArrayList<>();
+        this.readyView = new ReadyActions();
         this.inventory = new Inventory();
         this.statuses = new ArrayList<>();
+        this.statusesView = Collections.unmodifiableList(this.statuses);
+        this.modifiers = new StatModifiers();
+        this.traits = traitMask;
 
         // Consider all can attack
-        this.availableActions.add(new AttackAction(this));
+        this.addAction(new AttackAction(this));
         if (canHeal) {
-            this.availableActions.add(new HealAction(this));
+            this.addAction(new HealAction(this));
         }
     }
 
@@ -81,32 +112,32 @@ public abstract class Entity {
      * Displays the entity's details, including current statuses.
      */
     public void showDetails() {
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("********** Your Passport ************");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.printf(" 🏷️  Name: %s\n", name);
-        System.out.printf(" ❤  HP: %d / %d\n", currentHp, maxHp);
-        System.out.printf(" 💪 Strength: %d\n", getStrength());
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("********** Your Passport ************");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.printf(" 🏷️  Name: %s\n", name);
+        GameOutput.printf(" ❤  HP: %d / %d\n", currentHp, maxHp);
+        GameOutput.printf(" 💪 Strength: %d\n", getStrength());
 
         if (!this.statuses.isEmpty()) {
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.println("📜 **Current Status Effects:**");
+            GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            GameOutput.println("📜 **Current Status Effects:**");
 
             for (TimedStatus status : statuses) {
                 if (status instanceof AttackBoost attackBoost) {
-                    System.out.printf(" 🔥 %s (+%d Strength) [%d turns left]\n",
+                    GameOutput.printf(" 🔥 %s (+%d Strength) [%d turns left]\n",
                             attackBoost.getName(),
                             attackBoost.getStrengthBoost(),
                             attackBoost.getRemainingTurns());
                 } else if (status instanceof EndOfTurnStatus endOfTurnStatus && !endOfTurnStatus.isPermanent()) {
-                    System.out.printf(" 🕒 %s [%d turns left]\n",
+                    GameOutput.printf(" 🕒 %s [%d turns left]\n",
                             status.getName(),
                             status.getRemainingTurns());
                 } else {
-                    System.out.printf(" ✨ %s (Permanent)\n", status.getName());
+                    GameOutput.printf(" ✨ %s (Permanent)\n", status.getName());
                 }
             }
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         }
     }
 
@@ -130,6 +161,15 @@ public abstract class Entity {
         this.strength += amount;
     }
 
+    /**
+     * Gets the share of incoming damage the entity actually takes.
+     *
+     * @return The multiplier applied to the damage, 1 without reduction.
+     */
+    public double getDamageTakenMultiplier() {
+        return 1;
+    }
+
     /**
      * Applies damage to the entity.
      * Ensures that HP does not drop below 0.
@@ -172,9 +212,8 @@ public abstract class Entity {
      */
     public void applyStatus(TimedStatus newStatus) {
         statuses.add(newStatus);
-        if (!newStatus.isPermanent()) {
-            System.out.println(name + " is now affected by " + newStatus.getName() + "!");
-        }
+        refreshModifiers();
+        GameEvents.statusApplied(this, newStatus);
     }
 
     /**
@@ -210,13 +249,27 @@ public abstract class Entity {
      * @return The entity's total strength.
      */
     public int getStrength() {
-        int totalBoost = 0;
-        for (TimedStatus status : statuses) {
-            if (status instanceof AttackBoost attackBoost) {
-                totalBoost += attackBoost.getStrengthBoost();
-            }
+        return strength + modifiers.get(Stat.STRENGTH);
+    }
+
+    /**
+     * Rebuilds the stat modifiers from the current statuses. Must be called after
+     * every change to the statuses.
+     */
+    protected void refreshModifiers() {
+        modifiers.clear();
+        for (int i = 0; i < statuses.size(); i++) {
+            statuses.get(i).contributeTo(modifiers);
         }
-        return strength + totalBoost;
+    }
+
+    /**
+     * Gets the status effects currently affecting the entity.
+     *
+     * @return A read-only view of the entity's statuses.
+     */
+    public List<TimedStatus> getStatuses() {
+        return statusesView;
     }
 
     /**
@@ -234,13 +287,50 @@ public abstract class Entity {
      * @return A list of available battle actions.
      */
     public List<BattleAction> getAvailableActions() {
-        ArrayList<BattleAction> notDisabledActions = new ArrayList<>();
-        for (BattleAction action : availableActions) {
-            if (!action.isDisabled()) {
-                notDisabledActions.add(action);
-            }
+        return readyView;
+    }
+
+    /**
+     * Adds an action the entity can perform.
+     *
+     * @param action The action, performed by this entity.
+     * @throws IllegalArgumentException if the action belongs to another entity.
+     * @throws IllegalStateException    if the entity already has 64 actions.
+     */
+    protected void addAction(BattleAction action) {
+        if (action.getActor() != this) {
+            throw new IllegalArgumentException("Action " + action.getName() + " belongs to another entity.");
+        }
+        if (availableActions.size() == Long.SIZE) {
+            throw new IllegalStateException("An entity cannot have more than " + Long.SIZE + " actions.");
+        }
+        action.assignSlot(availableActions.size());
+        availableActions.add(action);
+        setActionReady(availableActions.size() - 1, !action.isDisabled());
+    }
+
+    /**
+     * Marks one of the entity's actions as ready or disabled. Called by the
+     * action whenever its cooldown starts or ends.
+     *
+     * @param slot  The position of the action.
+     * @param ready Whether the action can be used.
+     */
+    public void setActionReady(int slot, boolean ready) {
+        if (ready) {
+            readyActions |= 1L << slot;
+        } else {
+            readyActions &= ~(1L << slot);
         }
-        return notDisabledActions;
+    }
+
+    /**
+     * Gets every action of the entity, including the disabled ones.
+     *
+     * @return A read-only view of all the entity's actions.
+     */
+    public List<BattleAction> getActions() {
+        return actionsView;
     }
 
     /**
@@ -249,8 +339,26 @@ public abstract class Entity {
      * @return true if the entity is a robot.
      */
     public boolean isElectronic() {
-        String lowerCaseName = getName().toLowerCase();
-        return ELECTRONIC_KEYWORDS.stream().anyMatch(lowerCaseName::contains);
+        return hasTrait(EntityTrait.ELECTRONIC);
+    }
+
+    /**
+     * Checks if the entity has a trait.
+     *
+     * @param trait The trait to check.
+     * @return true if the entity has the trait.
+     */
+    public boolean hasTrait(EntityTrait trait) {
+        return (traits & trait.getBit()) != 0;
+    }
+
+    /**
+     * Gets all the traits of the entity.
+     *
+     * @return A mask with the bit of every trait the entity has.
+     */
+    public int getTraitMask() {
+        return traits;
     }
 
     /**
@@ -260,6 +368,16 @@ public abstract class Entity {
      */
     public void disable(int i) {
         this.disabledTurns += i;
+        GameEvents.disabled(this, i);
+    }
+
+    /**
+     * Gets the number of turns the entity remains disabled.
+     *
+     * @return The remaining disabled turns, 0 if the entity can act.
+     */
+    public int getDisabledTurns() {
+        return disabledTurns;
     }
 
     /**
@@ -271,6 +389,69 @@ public abstract class Entity {
         return disabledTurns > 0;
     }
 
+    /**
+     * Saves the battle-relevant state of the entity.
+     *
+     * @param state The state to overwrite.
+     */
+    public void saveState(EntityState state) {
+        state.currentHp = currentHp;
+        state.maxHp = maxHp;
+        state.strength = strength;
+        state.disabledTurns = disabledTurns;
+        state.equipedWeapon = equipedWeapon;
+        state.ensureCapacity(availableActions.size(), statuses.size());
+
+        for (int i = 0; i < availableActions.size(); i++) {
+            state.actionCooldowns[i] = availableActions.get(i).getDisabledTurns();
+        }
+
+        state.statuses.clear();
+        for (int i = 0; i < statuses.size(); i++) {
+            TimedStatus status = statuses.get(i);
+            state.statuses.add(status);
+            state.statusTurns[i] = status.getRemainingTurns();
+        }
+
+        // Copied one by one, addAll would allocate an array every time
+        ArrayList<Item> items = inventory.getInventory();
+        state.items.clear();
+        for (int i = 0; i < items.size(); i++) {
+            state.items.add(items.get(i));
+        }
+    }
+
+    /**
+     * Restores a state previously saved from this entity.
+     *
+     * @param state The state to restore.
+     */
+    public void restoreState(EntityState state) {
+        currentHp = state.currentHp;
+        maxHp = state.maxHp;
+        strength = state.strength;
+        disabledTurns = state.disabledTurns;
+        equipedWeapon = state.equipedWeapon;
+
+        for (int i = 0; i < availableActions.size(); i++) {
+            availableActions.get(i).disable(state.actionCooldowns[i]);
+        }
+
+        statuses.clear();
+        for (int i = 0; i < state.statuses.size(); i++) {
+            TimedStatus status = state.statuses.get(i);
+            status.setRemainingTurns(state.statusTurns[i]);
+            statuses.add(status);
+        }
+        refreshModifiers();
+
+        ArrayList<Item> items = inventory.getInventory();
+        items.clear();
+        for (int i = 0; i < state.items.size(); i++) {
+            items.add(state.items.get(i));
+        }
+    }
+
     /**
      * Processes status effects on the entity.
      */
@@ -282,7 +463,16 @@ public abstract class Entity {
             status.tick();
         });
 
-        this.statuses.removeIf(TimedStatus::isExpired);
+        if (GameEvents.hasListeners()) {
+            for (int i = 0; i < statuses.size(); i++) {
+                if (statuses.get(i).isExpired()) {
+                    GameEvents.statusExpired(this, statuses.get(i));
+                }
+            }
+        }
+        if (this.statuses.removeIf(TimedStatus::isExpired)) {
+            refreshModifiers();
+        }
     }
 
     /**
@@ -291,22 +481,51 @@ public abstract class Entity {
      */
     public void endTurn() {
         if (currentHp == 0) {
-            System.out.println("💀 " + getName() + " is knocked out!");
+            GameEvents.knockedOut(this);
             return;
         }
         this.processStatuses();
 
         if (isDisabled()) {
             disabledTurns--;
-            if (disabledTurns == 0) {
-                System.out.println("⚡ " + getName() + " is no longer disabled!");
-            } else {
-                System.out.println("⚡ " + getName() + " is disabled for " + disabledTurns + " more turns.");
-            }
+            GameEvents.disabledTurnEnded(this, disabledTurns);
         }
 
         for (BattleAction action : availableActions) {
             action.endTurn();
         }
     }
+
+    /**
+     * Read-only list of the actions that are not disabled. Stays up to date as
+     * cooldowns start and end, and never allocates when read.
+     */
+    private class ReadyActions extends AbstractList<BattleAction> implements RandomAccess {
+        @Override
+        public BattleAction get(int index) {
+            return update().get(index);
+        }
+
+        @Override
+        public int size() {
+            return Long.bitCount(readyActions);
+        }
+
+        /**
+         * Rebuilds the list of ready actions if any action changed since the last
+         * read.
+         *
+         * @return The ready actions, in the order they were added.
+         */
+        private ArrayList<BattleAction> update() {
+            if (readyListMask != readyActions) {
+                readyList.clear();
+                for (long mask = readyActions; mask != 0; mask &= mask - 1) {
+                    readyList.add(availableActions.get(Long.numberOfTrailingZeros(mask)));
+                }
+                readyListMask = readyActions;
+            }
+            return readyList;
+        }
+    }
 }
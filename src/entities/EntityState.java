@@ -0,0 +1,187 @@
+package src.entities;
+
+import src.items.Item;
+import src.items.Weapon;
+import src.status.TimedStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The battle-relevant state of an entity at some point in time: HP, strength,
+ * disabled turns, action cooldowns, statuses and inventory.
+ * Instances are meant to be reused: saving into an existing state only
+ * allocates when it has to grow, so a battle can be saved and restored many
+ * times without creating garbage.
+ */
+public final class EntityState {
+    int currentHp;
+    int maxHp;
+    int strength;
+    int disabledTurns;
+    Weapon equipedWeapon;
+    int[] actionCooldowns = new int[4];
+    // Status objects are shared, only their remaining turns change over time
+    final ArrayList<TimedStatus> statuses = new ArrayList<>();
+    int[] statusTurns = new int[4];
+    final ArrayList<Item> items = new ArrayList<>();
+    private final List<TimedStatus> statusesView = Collections.unmodifiableList(statuses);
+    private final List<Item> itemsView = Collections.unmodifiableList(items);
+
+    /**
+     * Gets the saved HP.
+     *
+     * @return The current HP.
+     */
+    public int getCurrentHp() {
+        return currentHp;
+    }
+
+    /**
+     * Gets the saved maximum HP.
+     *
+     * @return The maximum HP.
+     */
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    /**
+     * Gets the saved base strength.
+     *
+     * @return The strength, without status modifiers.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Gets the saved number of disabled turns.
+     *
+     * @return The disabled turns.
+     */
+    public int getDisabledTurns() {
+        return disabledTurns;
+    }
+
+    /**
+     * Gets the saved weapon.
+     *
+     * @return The equipped weapon, or null.
+     */
+    public Weapon getEquipedWeapon() {
+        return equipedWeapon;
+    }
+
+    /**
+     * Gets the saved cooldown of an action.
+     *
+     * @param slot The position of the action.
+     * @return The turns before the action can be used again.
+     */
+    public int getActionCooldown(int slot) {
+        return actionCooldowns[slot];
+    }
+
+    /**
+     * Gets the saved statuses.
+     *
+     * @return A read-only list of the statuses.
+     */
+    public List<TimedStatus> getStatuses() {
+        return statusesView;
+    }
+
+    /**
+     * Gets the saved remaining turns of a status.
+     *
+     * @param index The position of the status.
+     * @return The remaining turns (-1 for permanent effects).
+     */
+    public int getStatusTurns(int index) {
+        return statusTurns[index];
+    }
+
+    /**
+     * Gets the saved inventory.
+     *
+     * @return A read-only list of the items.
+     */
+    public List<Item> getItems() {
+        return itemsView;
+    }
+
+    /**
+     * Sets the stats of the state, clearing its cooldowns, statuses and items.
+     * Used to build a state from saved data before restoring it.
+     *
+     * @param currentHp     The current HP.
+     * @param maxHp         The maximum HP.
+     * @param strength      The base strength.
+     * @param disabledTurns The disabled turns.
+     * @param equipedWeapon The equipped weapon, or null.
+     * @param actions       The number of actions of the entity the state is
+     *                      meant for, every one of them is restored.
+     */
+    public void set(int currentHp, int maxHp, int strength, int disabledTurns, Weapon equipedWeapon, int actions) {
+        this.currentHp = currentHp;
+        this.maxHp = maxHp;
+        this.strength = strength;
+        this.disabledTurns = disabledTurns;
+        this.equipedWeapon = equipedWeapon;
+        ensureCapacity(actions, 0);
+        Arrays.fill(actionCooldowns, 0);
+        statuses.clear();
+        items.clear();
+    }
+
+    /**
+     * Sets the cooldown of an action.
+     *
+     * @param slot     The position of the action.
+     * @param cooldown The turns before the action can be used again.
+     */
+    public void setActionCooldown(int slot, int cooldown) {
+        ensureCapacity(slot + 1, 0);
+        actionCooldowns[slot] = cooldown;
+    }
+
+    /**
+     * Adds a status to the state.
+     *
+     * @param status         The status.
+     * @param remainingTurns The remaining turns (-1 for permanent effects).
+     */
+    public void addStatus(TimedStatus status, int remainingTurns) {
+        ensureCapacity(0, statuses.size() + 1);
+        statusTurns[statuses.size()] = remainingTurns;
+        statuses.add(status);
+    }
+
+    /**
+     * Adds an item to the state.
+     *
+     * @param item The item.
+     */
+    public void addItem(Item item) {
+        items.add(item);
+    }
+
+    /**
+     * Makes sure the cooldown and status arrays can hold the given sizes,
+     * keeping their content.
+     *
+     * @param actions  The number of actions.
+     * @param statuses The number of statuses.
+     */
+    void ensureCapacity(int actions, int statuses) {
+        if (actionCooldowns.length < actions) {
+            actionCooldowns = Arrays.copyOf(actionCooldowns, Math.max(actions, actionCooldowns.length * 2));
+        }
+        if (statusTurns.length < statuses) {
+            statusTurns = Arrays.copyOf(statusTurns, Math.max(statuses, statusTurns.length * 2));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package src.entities;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Traits an entity can have. Each trait is a bit of the entity's trait mask, so
+ * checking a trait is a single bit test.
+ * Traits with keywords are given automatically to entities whose name contains
+ * one of them; any trait can also be declared explicitly by the content.
+ */
+public enum EntityTrait {
+    ELECTRONIC("robot", "sentient", "drone", "data", "cybernetic", "engineered"),
+    BIOLOGICAL("mutant", "experiment", "creature", "hybrid", "abomination", "eden-9"),
+    BOSS;
+
+    private final int bit;
+    // Matches any of the keywords in one pass, null for traits without keywords
+    private final Pattern keywords;
+
+    /**
+     * Constructs a trait.
+     *
+     * @param keywords The name keywords that give the trait, case insensitive.
+     */
+    EntityTrait(String... keywords) {
+        this.bit = 1 << ordinal();
+        this.keywords = keywords.length == 0 ? null
+                : Pattern.compile(Arrays.stream(keywords).map(Pattern::quote).collect(Collectors.joining("|")),
+                        Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * Gets the bit of this trait in a trait mask.
+     *
+     * @return The trait bit.
+     */
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * Resolves the traits given by the keywords in a name.
+     *
+     * @param name The name of the entity.
+     * @return The mask of the matching traits.
+     */
+    public static int fromName(String name) {
+        int mask = 0;
+        for (EntityTrait trait : values()) {
+            if (trait.keywords != null && trait.keywords.matcher(name).find()) {
+                mask |= trait.bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Builds the mask of the given traits.
+     *
+     * @param traits The traits.
+     * @return The mask with a bit set for every trait.
+     */
+    public static int maskOf(EntityTrait... traits) {
+        int mask = 0;
+        for (EntityTrait trait : traits) {
+            mask |= trait.bit;
+        }
+        return mask;
+    }
+}
@@ -1,6 +1,7 @@
 package src.entities;
 
 import src.actions.HackAction;
+import src.game.GameOutput;
 import src.game.GameRandom;
 import src.game.GameScanner;
 import src.items.HealthPotion;
@@ -53,7 +54,7 @@ public class FriendlyNPC extends Entity {
         this.random = GameRandom.getInstance();
 
         if (canHack) {
-            this.availableActions.add(new HackAction(this));
+            this.addAction(new HackAction(this));
         }
     }
 
@@ -63,13 +64,13 @@ public class FriendlyNPC extends Entity {
      * @param player The player interacting with the NPC.
      */
     public void interact(Hero player) {
-        System.out.println("\n👤 You meet " + name + "!");
-        System.out.println("\"" + backstory + "\"");
+        GameOutput.println("\n👤 You meet " + name + "!");
+        GameOutput.println("\"" + backstory + "\"");
 
         while (true) {
-            System.out.println("\n1️⃣ \"Tell me more about this place.\"");
-            System.out.println("2️⃣ \"Do you have anything that can help me?\"");
-            System.out.println("0️⃣ \"I have to go.\"");
+            GameOutput.println("\n1️⃣ \"Tell me more about this place.\"");
+            GameOutput.println("2️⃣ \"Do you have anything that can help me?\"");
+            GameOutput.println("0️⃣ \"I have to go.\"");
             int choice = GameScanner.getInt();
 
             switch (choice) {
@@ -80,10 +81,10 @@ public class FriendlyNPC extends Entity {
                     assist(player);
                     break;
                 case 0:
-                    System.out.println("🚶 You nod and continue your journey.\n");
+                    GameOutput.println("🚶 You nod and continue your journey.\n");
                     return;
                 default:
-                    System.out.println("❌ Invalid choice!");
+                    GameOutput.println("❌ Invalid choice!");
             }
         }
     }
@@ -98,12 +99,32 @@ public class FriendlyNPC extends Entity {
         return this.willJoinBattle;
     }
 
+    /**
+     * Checks if the NPC already assisted the player.
+     *
+     * @return true if the NPC cannot help any further.
+     */
+    public boolean hasAlreadyHelped() {
+        return this.alreadyHelped;
+    }
+
+    /**
+     * Restores the progress of the player with the NPC from a saved game.
+     *
+     * @param willJoinBattle Whether the NPC agreed to join battles.
+     * @param alreadyHelped  Whether the NPC already assisted the player.
+     */
+    public void restoreProgress(boolean willJoinBattle, boolean alreadyHelped) {
+        this.willJoinBattle = willJoinBattle;
+        this.alreadyHelped = alreadyHelped;
+    }
+
     /**
      * Displays a random dialogue from the NPC.
      */
     private void talk() {
         int index = this.random.nextInt(dialogues.length);
-        System.out.println("💬 " + name + ": \"" + dialogues[index] + "\"");
+        GameOutput.println("💬 " + name + ": \"" + dialogues[index] + "\"");
     }
 
     /**
@@ -113,32 +134,32 @@ public class FriendlyNPC extends Entity {
      */
     private void assist(Hero player) {
         if (alreadyHelped) {
-            System.out.println("I can't help you further at this moment.");
+            GameOutput.println("I can't help you further at this moment.");
             return;
         }
 
         if (canGiveItem) {
-            System.out.println("🎁 " + name + " hands you a small vial.");
+            GameOutput.println("🎁 " + name + " hands you a small vial.");
             player.addItemToInventory(new HealthPotion(HealthPotionSize.Small));
         }
 
         if (canHeal) {
             boolean removedNegative = player.removeNegativeStatuses();
             if (removedNegative) {
-                System.out.println("✨ " + name + " cleanses you of harmful effects.");
+                GameOutput.println("✨ " + name + " cleanses you of harmful effects.");
             }
             if (player.getMaxHp() > player.getCurrentHp()) {
 
                 int healAmount = this.random.nextInt(30) + 20;
                 player.heal(healAmount);
-                System.out.println("🩹 " + name + " patches up your wounds.");
+                GameOutput.println("🩹 " + name + " patches up your wounds.");
             } else {
-                System.out.println("🍲 You're already at full health. Have this soup instead.");
+                GameOutput.println("🍲 You're already at full health. Have this soup instead.");
             }
         }
 
         if (canFight) {
-            System.out.println("⚔️ " + name + " says: \"If you need help in battle, I'll be there.\"");
+            GameOutput.println("⚔️ " + name + " says: \"If you need help in battle, I'll be there.\"");
             this.willJoinBattle = true;
         }
 
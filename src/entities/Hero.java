@@ -2,6 +2,8 @@ package src.entities;
 
 import src.actions.SpecialAttackAction;
 import src.actions.UseItemAction;
+import src.events.GameEvents;
+import src.game.GameOutput;
 import src.game.GameRandom;
 import src.items.Inventory;
 import src.items.Item;
@@ -32,8 +34,8 @@ public abstract class Hero extends Entity {
         this.gold = gold;
         this.random = GameRandom.getInstance();
         this.initializeInventory();
-        this.availableActions.add(new UseItemAction(this));
-        this.availableActions.add(new SpecialAttackAction(this));
+        this.addAction(new UseItemAction(this));
+        this.addAction(new SpecialAttackAction(this));
         this.equipedWeapon = ItemRegistry.getStartingWeaponForHero(this);
     }
 
@@ -43,16 +45,16 @@ public abstract class Hero extends Entity {
     @Override
     public void showDetails() {
         super.showDetails();
-        System.out.printf(" 💰 Gold: %d\n", gold);
+        GameOutput.printf(" 💰 Gold: %d\n", gold);
 
         if (this.equipedWeapon != null) {
-            System.out.printf(" 🗡️  Weapon: %s\n", this.equipedWeapon.getName());
-            System.out.printf(" ⚔️  Weapon Damage: %d\n", this.equipedWeapon.getAttackPower());
+            GameOutput.printf(" 🗡️  Weapon: %s\n", this.equipedWeapon.getName());
+            GameOutput.printf(" ⚔️  Weapon Damage: %d\n", this.equipedWeapon.getAttackPower());
         } else {
-            System.out.println(" 🛑 Weapon: None");
+            GameOutput.println(" 🛑 Weapon: None");
         }
 
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
     }
 
     /**
@@ -80,7 +82,7 @@ public abstract class Hero extends Entity {
         if (gold >= amount) {
             gold -= amount;
         } else {
-            System.out.println("⚠️ Not enough gold!");
+            GameOutput.println("⚠️ Not enough gold!");
         }
     }
 
@@ -144,11 +146,15 @@ public abstract class Hero extends Entity {
         int numberOfStatuses = statuses.size();
         statuses.removeIf(status -> {
             if (status instanceof EndOfTurnStatus && ((EndOfTurnStatus) status).isNegative()) {
-                System.out.println(name + " is freed from " + status.getName() + "!");
+                GameEvents.statusCleansed(this, status);
                 return true;
             }
             return false;
         });
-        return numberOfStatuses != statuses.size();
+        if (numberOfStatuses == statuses.size()) {
+            return false;
+        }
+        refreshModifiers();
+        return true;
     }
 }
@@ -1,45 +1,55 @@
 package src.entities;
 
+import src.game.GameRandom;
+import src.game.GameSession;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Stores predefined NPCs for reuse across different rooms.
+ * Enemies are immutable templates shared by every game session, spawned afresh
+ * for every room and battle. Friendly NPCs change as they fight and help the
+ * player, so every game session has a registry of its own for them.
  */
 public class NPCRegistry {
         // 🔹 Enemy Lists (Ensuring at least 3 per room)
-        public static final List<Enemy> LAB_ENEMIES = Arrays.asList(
-                        new Enemy("Security Guard", 50, 8, 10, 1),
-                        new Enemy("Lab Mutant", 60, 10, 15, 2),
-                        new Enemy("Rogue Scientist Experiment", 55, 9, 12, 2));
-
-        public static final List<Enemy> SECURITY_ENEMIES = Arrays.asList(
-                        new Enemy("Security Commander", 70, 12, 20, 3),
-                        new Enemy("Automated Drone", 80, 14, 25, 3),
-                        new Enemy("Cybernetic Watchdog", 75, 13, 22, 3));
-
-        public static final List<Enemy> TESTING_ENEMIES = Arrays.asList(
-                        new Enemy("Failed Experiment", 70, 12, 20, 3),
-                        new Enemy("Enhanced Guard", 80, 14, 25, 3),
-                        new Enemy("Bio-engineered Creature", 85, 16, 27, 4));
-
-        public static final List<Enemy> CHEMICAL_ENEMIES = Arrays.asList(
-                        new Enemy("Chemical Abomination", 90, 16, 30, 4),
-                        new Enemy("Toxic Sludge Golem", 85, 15, 28, 4),
-                        new Enemy("Venomous Hybrid", 88, 17, 31, 4));
-
-        public static final List<Enemy> ARCHIVE_ENEMIES = Arrays.asList(
-                        new Enemy("Data Guardian", 85, 15, 28, 4),
-                        new Enemy("Sentient Firewall AI", 92, 17, 33, 5),
-                        new Enemy("Corrupted Researcher", 89, 16, 30, 4));
-
-        public static final List<Enemy> FINAL_BOSS = Arrays.asList(
-                        new Enemy("Prototype Eden-9", 120, 20, 70, 5),
-                        new Enemy("Eden-9 Alpha Form", 130, 22, 80, 6),
-                        new Enemy("Eden-9 Beta Form", 140, 25, 90, 7));
+        public static final List<EnemyTemplate> LAB_ENEMIES = List.of(
+                        new EnemyTemplate("Security Guard", 50, 8, 10, 1),
+                        new EnemyTemplate("Lab Mutant", 60, 10, 15, 2),
+                        new EnemyTemplate("Rogue Scientist Experiment", 55, 9, 12, 2));
+
+        public static final List<EnemyTemplate> SECURITY_ENEMIES = List.of(
+                        new EnemyTemplate("Security Commander", 70, 12, 20, 3),
+                        new EnemyTemplate("Automated Drone", 80, 14, 25, 3),
+                        new EnemyTemplate("Cybernetic Watchdog", 75, 13, 22, 3));
+
+        public static final List<EnemyTemplate> TESTING_ENEMIES = List.of(
+                        new EnemyTemplate("Failed Experiment", 70, 12, 20, 3),
+                        new EnemyTemplate("Enhanced Guard", 80, 14, 25, 3),
+                        new EnemyTemplate("Bio-engineered Creature", 85, 16, 27, 4));
+
+        public static final List<EnemyTemplate> CHEMICAL_ENEMIES = List.of(
+                        new EnemyTemplate("Chemical Abomination", 90, 16, 30, 4),
+                        new EnemyTemplate("Toxic Sludge Golem", 85, 15, 28, 4),
+                        new EnemyTemplate("Venomous Hybrid", 88, 17, 31, 4));
+
+        public static final List<EnemyTemplate> ARCHIVE_ENEMIES = List.of(
+                        new EnemyTemplate("Data Guardian", 85, 15, 28, 4),
+                        new EnemyTemplate("Sentient Firewall AI", 92, 17, 33, 5),
+                        new EnemyTemplate("Corrupted Researcher", 89, 16, 30, 4));
+
+        public static final List<EnemyTemplate> FINAL_BOSS = List.of(
+                        new EnemyTemplate("Prototype Eden-9", 120, 20, 70, 5, EntityTrait.BOSS),
+                        new EnemyTemplate("Eden-9 Alpha Form", 130, 22, 80, 6, EntityTrait.BOSS),
+                        new EnemyTemplate("Eden-9 Beta Form", 140, 25, 90, 7, EntityTrait.BOSS));
+
+        // Registries used to roll a healing ability, never used, for each of the 18 enemies
+        private static final int LEGACY_ENEMY_ROLLS = 18;
 
         // 🔹 Friendly NPCs (Stored as a list for selection per room)
-        public static final List<FriendlyNPC> FRIENDLY_NPC = Arrays.asList(
+        private final List<FriendlyNPC> friendlyNPCs = Arrays.asList(
                         new FriendlyNPC("Dr. Mira",
                                         "I used to work in PharmaCorp before they betrayed us...",
                                         new String[] { "PharmaCorp is hiding something deep in the lab.",
@@ -75,4 +85,72 @@ public class NPCRegistry {
                                         new String[] { "The mutation formula is in the testing facility.",
                                                         "The security commander knows the exit codes." },
                                         true, false, false, false, 60, 1));
+
+        /**
+         * Creates the friendly NPCs of a game session.
+         *
+         * @param legacyEnemyRolls Whether to draw the random numbers registries drew
+         *                         before enemies were templates, so input journals
+         *                         recorded back then replay the same game.
+         */
+        public NPCRegistry(boolean legacyEnemyRolls) {
+                if (legacyEnemyRolls) {
+                        Random random = GameRandom.getInstance();
+                        for (int i = 0; i < LEGACY_ENEMY_ROLLS; i++) {
+                                random.nextBoolean();
+                        }
+                }
+        }
+
+        /**
+         * Gets the registry of the current game session.
+         *
+         * @return The registry.
+         */
+        public static NPCRegistry current() {
+                return GameSession.current().getNPCs();
+        }
+
+        /**
+         * Gets the friendly NPCs that can be met in the rooms.
+         *
+         * @return The NPCs.
+         */
+        public List<FriendlyNPC> getFriendlyNPCs() {
+                return friendlyNPCs;
+        }
+
+        /**
+         * Finds the template of an enemy of the rooms or of the final battle by
+         * name, used to spawn the enemies of saved games again.
+         *
+         * @param name The name of the enemy.
+         * @return The template, or null if no enemy has that name.
+         */
+        public static EnemyTemplate findEnemy(String name) {
+                for (List<EnemyTemplate> enemies : List.of(LAB_ENEMIES, SECURITY_ENEMIES, TESTING_ENEMIES,
+                                CHEMICAL_ENEMIES, ARCHIVE_ENEMIES, FINAL_BOSS)) {
+                        for (EnemyTemplate enemy : enemies) {
+                                if (enemy.getName().equals(name)) {
+                                        return enemy;
+                                }
+                        }
+                }
+                return null;
+        }
+
+        /**
+         * Finds a friendly NPC by name.
+         *
+         * @param name The name of the NPC.
+         * @return The NPC, or null if no NPC has that name.
+         */
+        public FriendlyNPC findFriendlyNPC(String name) {
+                for (FriendlyNPC npc : friendlyNPCs) {
+                        if (npc.getName().equals(name)) {
+                                return npc;
+                        }
+                }
+                return null;
+        }
 }
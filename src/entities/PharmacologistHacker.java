@@ -19,7 +19,7 @@ public class PharmacologistHacker extends Hero {
      */
     public PharmacologistHacker(String name, int maxHp, int strength, int gold) {
         super(name, maxHp, strength, gold);
-        this.availableActions.add(new HackAction(this));
+        this.addAction(new HackAction(this));
     }
 
     /**
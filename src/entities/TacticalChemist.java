@@ -8,6 +8,8 @@ import src.items.HealthPotionSize;
  * A hero specialized in chemical explosives and reactive combat.
  */
 public class TacticalChemist extends Hero {
+    // Tactical Chemists take 5% less damage from all sources
+    private static final double DAMAGE_TAKEN_MULTIPLIER = 0.95;
 
     /**
      * Constructs a Tactical Chemist hero with base stats.
@@ -20,7 +22,7 @@ public class TacticalChemist extends Hero {
 
     public TacticalChemist(String name, int maxHp, int strength, int gold) {
         super(name, maxHp, strength, gold);
-        this.availableActions.add(new IncendiaryStrikeAction(this));
+        this.addAction(new IncendiaryStrikeAction(this));
     }
 
     /**
@@ -42,15 +44,24 @@ public class TacticalChemist extends Hero {
     }
 
     /**
-     * Applies damage reduction for the Tactical Chemist.
+     * Gets the damage reduction of the Tactical Chemist.
      * This hero takes 5% less damage from all sources.
      *
+     * @return The multiplier applied to the damage.
+     */
+    @Override
+    public double getDamageTakenMultiplier() {
+        return DAMAGE_TAKEN_MULTIPLIER;
+    }
+
+    /**
+     * Applies damage reduction for the Tactical Chemist.
+     *
      * @param damage The incoming damage to be reduced.
      */
     @Override
     public void takeDamage(int damage) {
-        // Tactical Chemists take 5% less damage from all sources
-        int reducedDamage = (int) (damage * 0.95);
+        int reducedDamage = (int) (damage * getDamageTakenMultiplier());
         super.takeDamage(reducedDamage);
     }
 }
@@ -1,5 +1,6 @@
 package src.entities;
 
+import src.game.GameOutput;
 import src.game.GameScanner;
 import src.items.*;
 import java.util.ArrayList;
@@ -27,7 +28,7 @@ public class Vendor {
      */
     public void generateStoreInventory(Hero player) {
         storeInventory.clear();
-        System.out.println("🛒 The vendor has restocked items based on your expertise...");
+        GameOutput.println("🛒 The vendor has restocked items based on your expertise...");
 
         // Get hero-specific items from the registry
         storeInventory.addAll(ItemRegistry.getItemsForHero(player));
@@ -41,13 +42,13 @@ public class Vendor {
      * Displays the store inventory.
      */
     public void showStore() {
-        System.out.println("\n🛒 Vendor Store - Available Items:");
+        GameOutput.println("\n🛒 Vendor Store - Available Items:");
         for (int i = 0; i < storeInventory.size(); i++) {
             Item item = storeInventory.get(i);
-            System.out.println((i + 1) + "️⃣ " + item.getName() + " - " + item.getPrice() + " gold");
-            System.out.println("   📜 " + item.getDescription()); // Show item description
+            GameOutput.println((i + 1) + "️⃣ " + item.getName() + " - " + item.getPrice() + " gold");
+            GameOutput.println("   📜 " + item.getDescription()); // Show item description
         }
-        System.out.println("0️⃣ Exit shop");
+        GameOutput.println("0️⃣ Exit shop");
     }
 
     /**
@@ -59,12 +60,12 @@ public class Vendor {
 
         while (true) {
             if (this.storeInventory.isEmpty()) {
-                System.out.println("The vendor has nothing else to sell to you.");
+                GameOutput.println("The vendor has nothing else to sell to you.");
                 break;
             }
             showStore();
-            System.out.println("\n💰 Your gold: " + player.getGold());
-            System.out.println("Enter the number of the item to buy (or 0 to exit): ");
+            GameOutput.println("\n💰 Your gold: " + player.getGold());
+            GameOutput.println("Enter the number of the item to buy (or 0 to exit): ");
 
             int choice = GameScanner.getInt();
             if (choice == 0)
@@ -74,9 +75,9 @@ public class Vendor {
                 Item selectedItem = storeInventory.get(choice - 1);
 
                 // Show item details before purchase
-                System.out.println("\n📜 " + selectedItem.getName() + ": " + selectedItem.getDescription());
-                System.out.println("💰 Price: " + selectedItem.getPrice() + " gold");
-                System.out.println("Confirm purchase? (1 = Yes, 2 = No)");
+                GameOutput.println("\n📜 " + selectedItem.getName() + ": " + selectedItem.getDescription());
+                GameOutput.println("💰 Price: " + selectedItem.getPrice() + " gold");
+                GameOutput.println("Confirm purchase? (1 = Yes, 2 = No)");
 
                 int confirm = GameScanner.getInt();
                 if (confirm == 1) {
@@ -84,15 +85,15 @@ public class Vendor {
                         player.spendGold(selectedItem.getPrice());
                         player.addItemToInventory(selectedItem);
                         this.storeInventory.remove(selectedItem);
-                        System.out.println("✅ You purchased " + selectedItem.getName() + "!");
+                        GameOutput.println("✅ You purchased " + selectedItem.getName() + "!");
                     } else {
-                        System.out.println("❌ Not enough gold!");
+                        GameOutput.println("❌ Not enough gold!");
                     }
                 } else {
-                    System.out.println("❌ Purchase canceled.");
+                    GameOutput.println("❌ Purchase canceled.");
                 }
             } else {
-                System.out.println("❌ Invalid choice!");
+                GameOutput.println("❌ Invalid choice!");
             }
         }
     }
@@ -105,9 +106,9 @@ public class Vendor {
     public void sellItems(Hero player) {
         while (true) {
             player.showInventory();
-            System.out.println("\n💰 Your gold: " + player.getGold());
-            System.out.println("Select an item to sell. This vendor will pay half its value.");
-            System.out.println("Enter the number of the item to sell (or 0 to exit): ");
+            GameOutput.println("\n💰 Your gold: " + player.getGold());
+            GameOutput.println("Select an item to sell. This vendor will pay half its value.");
+            GameOutput.println("Enter the number of the item to sell (or 0 to exit): ");
 
             int choice = GameScanner.getInt();
             if (choice == 0)
@@ -119,9 +120,9 @@ public class Vendor {
 
                 player.collectGold(sellPrice);
                 player.getInventory().removeItem(itemToSell);
-                System.out.println("✅ You sold " + itemToSell.getName() + " for " + sellPrice + " gold!");
+                GameOutput.println("✅ You sold " + itemToSell.getName() + " for " + sellPrice + " gold!");
             } else {
-                System.out.println("❌ Invalid choice!");
+                GameOutput.println("❌ Invalid choice!");
             }
         }
     }
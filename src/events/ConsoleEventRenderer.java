@@ -0,0 +1,207 @@
+package src.events;
+
+import src.entities.Entity;
+import src.entities.Hero;
+import src.game.GameOutput;
+import src.items.HealthPotion;
+import src.items.Inventory;
+import src.items.Item;
+import src.status.TimedStatus;
+
+/**
+ * Listener that describes the game events on the console, through
+ * {@link GameOutput}.
+ */
+public class ConsoleEventRenderer implements GameListener {
+    private static final String ATTACK_SEPARATOR = "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━";
+    private static final String VICTORY_SEPARATOR = "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n";
+
+    /**
+     * Describes the damage taken by an entity.
+     *
+     * @param source The entity that caused the damage, or null.
+     * @param target The damaged entity.
+     * @param amount The damage dealt.
+     * @param type   How the damage was dealt.
+     */
+    @Override
+    public void onDamage(Entity source, Entity target, int amount, DamageType type) {
+        switch (type) {
+            case ATTACK -> {
+                GameOutput.println(ATTACK_SEPARATOR);
+                GameOutput.println("⚔️ " + source.getName() + " attacks " + target.getName() + " with " + "⚡ "
+                        + amount + " total damage!");
+            }
+            case SPECIAL_ATTACK -> GameOutput.println("\n" + source.getName() + " releases a devastating attack on "
+                    + target.getName() + " with " + amount + " total damage!🙀");
+            case BURN -> GameOutput.println(target.getName() + " takes " + amount + " 🔥burn damage!");
+            case POISON -> GameOutput.println(target.getName() + " takes " + amount + " ☠️poison damage!");
+            case EXPLOSION -> GameOutput.println("💥 " + target.getName() + " takes " + amount + " damage!");
+        }
+    }
+
+    /**
+     * Describes the HP recovered by an entity.
+     *
+     * @param source The entity that healed, or null.
+     * @param target The healed entity.
+     * @param amount The HP restored.
+     * @param type   How the entity was healed.
+     */
+    @Override
+    public void onHeal(Entity source, Entity target, int amount, HealType type) {
+        switch (type) {
+            case HEAL_ACTION -> GameOutput.println(source.getName() + " heals " + target.getName() + " for " + amount
+                    + " HP! " + target.getName() + " now has " + target.getCurrentHp() + " HP.");
+            case REGENERATION -> GameOutput.println(target.getName() + " heals for " + amount + " 💗!");
+            case POTION -> GameOutput.println("💊 " + target.getName() + " now has " + target.getCurrentHp() + " HP now.");
+        }
+    }
+
+    /**
+     * Describes an attack on all enemies.
+     *
+     * @param actor The attacking entity.
+     */
+    @Override
+    public void onAreaAttack(Entity actor) {
+        GameOutput.println(actor.getName() + " unleashes a fiery attack on all enemies!");
+    }
+
+    /**
+     * Describes a new status, unless it is a permanent one.
+     *
+     * @param target The affected entity.
+     * @param status The new status.
+     */
+    @Override
+    public void onStatusApplied(Entity target, TimedStatus status) {
+        if (!status.isPermanent()) {
+            GameOutput.println(target.getName() + " is now affected by " + status.getName() + "!");
+        }
+    }
+
+    /**
+     * Describes a negative status removed early.
+     *
+     * @param target The entity that was affected.
+     * @param status The removed status.
+     */
+    @Override
+    public void onStatusCleansed(Entity target, TimedStatus status) {
+        GameOutput.println(target.getName() + " is freed from " + status.getName() + "!");
+    }
+
+    /**
+     * Reminds that an entity is knocked out.
+     *
+     * @param entity The knocked out entity.
+     */
+    @Override
+    public void onKnockedOut(Entity entity) {
+        GameOutput.println("💀 " + entity.getName() + " is knocked out!");
+    }
+
+    /**
+     * Describes how long an entity stays disabled.
+     *
+     * @param entity         The disabled entity.
+     * @param remainingTurns The turns it stays disabled.
+     */
+    @Override
+    public void onDisabledTurnEnded(Entity entity, int remainingTurns) {
+        if (remainingTurns == 0) {
+            GameOutput.println("⚡ " + entity.getName() + " is no longer disabled!");
+        } else {
+            GameOutput.println("⚡ " + entity.getName() + " is disabled for " + remainingTurns + " more turns.");
+        }
+    }
+
+    /**
+     * Describes an entity waiting for its next turn.
+     *
+     * @param entity The waiting entity.
+     */
+    @Override
+    public void onTurnSkipped(Entity entity) {
+        GameOutput.println("⏳ " + entity.getName() + " hesitates and does nothing.");
+    }
+
+    /**
+     * Describes the result of a hacking attempt.
+     *
+     * @param actor   The hacking entity.
+     * @param target  The hacked entity.
+     * @param success True if the target changed sides.
+     */
+    @Override
+    public void onHack(Entity actor, Entity target, boolean success) {
+        if (success) {
+            GameOutput.println("✅ " + actor.getName() + " has been able to hack " + target.getName() + "!");
+            GameOutput.println(target.getName() + " won't be able to attack this turn.");
+        } else {
+            GameOutput.println("❌ " + actor.getName() + " failed to hack " + target.getName() + "!");
+        }
+    }
+
+    /**
+     * Describes the hero drinking a potion. Other items describe their own
+     * effect.
+     *
+     * @param user The hero using the item.
+     * @param item The item being used.
+     */
+    @Override
+    public void onItemUsed(Hero user, Item item) {
+        if (item instanceof HealthPotion potion) {
+            GameOutput.println("💊 " + user.getName() + " drinks " + potion.getName() + " and recovers "
+                    + potion.getEffectValue() + " HP!");
+        }
+    }
+
+    /**
+     * Describes an item added to an inventory.
+     *
+     * @param inventory The inventory receiving the item.
+     * @param item      The new item.
+     */
+    @Override
+    public void onItemAdded(Inventory inventory, Item item) {
+        GameOutput.println("📦 Added " + item.getName() + " to inventory.");
+    }
+
+    /**
+     * Describes an item taken out of an inventory.
+     *
+     * @param inventory The inventory the item was in.
+     * @param item      The removed item.
+     */
+    @Override
+    public void onItemRemoved(Inventory inventory, Item item) {
+        GameOutput.println("🗑️ Used " + item.getName() + ".");
+    }
+
+    /**
+     * Describes the gold collected after a victory.
+     *
+     * @param player The player.
+     * @param gold   The gold collected.
+     */
+    @Override
+    public void onGoldLooted(Hero player, int gold) {
+        GameOutput.printf(" 💰 You looted %d🪙 Gold from your fallen enemies!\n", gold);
+    }
+
+    /**
+     * Describes the level gained after a victory.
+     *
+     * @param player       The player.
+     * @param hpGain       The maximum HP gained.
+     * @param strengthGain The strength gained.
+     */
+    @Override
+    public void onLevelUp(Hero player, int hpGain, int strengthGain) {
+        GameOutput.println(" 🎉 You leveled up! +" + hpGain + " HP, +" + strengthGain + " Strength!");
+        GameOutput.println(VICTORY_SEPARATOR);
+    }
+}
@@ -0,0 +1,12 @@
+package src.events;
+
+/**
+ * The different ways an entity can lose HP, so listeners can tell them apart.
+ */
+public enum DamageType {
+    ATTACK,
+    SPECIAL_ATTACK,
+    BURN,
+    POISON,
+    EXPLOSION
+}
@@ -0,0 +1,314 @@
+package src.events;
+
+import src.entities.Entity;
+import src.entities.Hero;
+import src.game.Battle;
+import src.game.GameSession;
+import src.game.HeroCreationOptions;
+import src.game.Map;
+import src.items.Inventory;
+import src.items.Item;
+import src.status.TimedStatus;
+
+
+/**
+ * Utility class that publishes battle and game events to the listeners
+ * subscribed in the current game session.
+ * Publishing only passes along values that already exist, so with nobody
+ * subscribed an event costs an empty loop and no text is ever built.
+ */
+public class GameEvents {
+    // Private constructor to prevent instantiation
+    private GameEvents() {
+    }
+
+    /**
+     * Adds a listener that receives every event published from now on.
+     *
+     * @param listener The listener to add.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public static void subscribe(GameListener listener) {
+        GameSession.current().subscribe(listener);
+    }
+
+    /**
+     * Removes a listener. Does nothing if it was not subscribed.
+     *
+     * @param listener The listener to remove.
+     */
+    public static void unsubscribe(GameListener listener) {
+        GameSession.current().unsubscribe(listener);
+    }
+
+    /**
+     * Checks if anyone is listening, to skip work that only matters to listeners.
+     *
+     * @return True if at least one listener is subscribed, false otherwise.
+     */
+    public static boolean hasListeners() {
+        return listeners().length != 0;
+    }
+
+    /**
+     * Gets the listeners of the current session.
+     *
+     * @return The listeners, not to be modified.
+     */
+    private static GameListener[] listeners() {
+        return GameSession.current().getListeners();
+    }
+
+    /**
+     * Publishes that the player starts exploring a map, new or loaded.
+     *
+     * @param options The options the hero was created with.
+     * @param player  The player.
+     * @param map     The map.
+     */
+    public static void adventureStarted(HeroCreationOptions options, Hero player, Map map) {
+        for (GameListener listener : listeners()) {
+            listener.onAdventureStarted(options, player, map);
+        }
+    }
+
+    /**
+     * Publishes that the game reached a point where it can be saved.
+     *
+     * @param map The map being explored.
+     */
+    public static void checkpoint(Map map) {
+        for (GameListener listener : listeners()) {
+            listener.onCheckpoint(map);
+        }
+    }
+
+    /**
+     * Publishes that a battle begins.
+     *
+     * @param battle The battle.
+     */
+    public static void battleStarted(Battle battle) {
+        for (GameListener listener : listeners()) {
+            listener.onBattleStarted(battle);
+        }
+    }
+
+    /**
+     * Publishes that a battle turn ended.
+     *
+     * @param battle The battle.
+     */
+    public static void turnEnded(Battle battle) {
+        for (GameListener listener : listeners()) {
+            listener.onTurnEnded(battle);
+        }
+    }
+
+    /**
+     * Publishes that a battle is over.
+     *
+     * @param battle The battle.
+     * @param won    True if the player won.
+     */
+    public static void battleEnded(Battle battle, boolean won) {
+        for (GameListener listener : listeners()) {
+            listener.onBattleEnded(battle, won);
+        }
+    }
+
+    /**
+     * Publishes that an entity lost HP.
+     *
+     * @param source The entity that caused the damage, or null.
+     * @param target The damaged entity.
+     * @param amount The damage dealt.
+     * @param type   How the damage was dealt.
+     */
+    public static void damageDealt(Entity source, Entity target, int amount, DamageType type) {
+        for (GameListener listener : listeners()) {
+            listener.onDamage(source, target, amount, type);
+        }
+    }
+
+    /**
+     * Publishes that an entity recovered HP.
+     *
+     * @param source The entity that healed, or null.
+     * @param target The healed entity.
+     * @param amount The HP restored.
+     * @param type   How the entity was healed.
+     */
+    public static void healed(Entity source, Entity target, int amount, HealType type) {
+        for (GameListener listener : listeners()) {
+            listener.onHeal(source, target, amount, type);
+        }
+    }
+
+    /**
+     * Publishes that an entity attacks all of its enemies.
+     *
+     * @param actor The attacking entity.
+     */
+    public static void areaAttack(Entity actor) {
+        for (GameListener listener : listeners()) {
+            listener.onAreaAttack(actor);
+        }
+    }
+
+    /**
+     * Publishes that a status was applied.
+     *
+     * @param target The affected entity.
+     * @param status The new status.
+     */
+    public static void statusApplied(Entity target, TimedStatus status) {
+        for (GameListener listener : listeners()) {
+            listener.onStatusApplied(target, status);
+        }
+    }
+
+    /**
+     * Publishes that a status ran out.
+     *
+     * @param target The entity that was affected.
+     * @param status The expired status.
+     */
+    public static void statusExpired(Entity target, TimedStatus status) {
+        for (GameListener listener : listeners()) {
+            listener.onStatusExpired(target, status);
+        }
+    }
+
+    /**
+     * Publishes that a negative status was removed early.
+     *
+     * @param target The entity that was affected.
+     * @param status The removed status.
+     */
+    public static void statusCleansed(Entity target, TimedStatus status) {
+        for (GameListener listener : listeners()) {
+            listener.onStatusCleansed(target, status);
+        }
+    }
+
+    /**
+     * Publishes that an entity ended a turn with no HP.
+     *
+     * @param entity The knocked out entity.
+     */
+    public static void knockedOut(Entity entity) {
+        for (GameListener listener : listeners()) {
+            listener.onKnockedOut(entity);
+        }
+    }
+
+    /**
+     * Publishes that an entity was disabled.
+     *
+     * @param entity The disabled entity.
+     * @param turns  The turns added.
+     */
+    public static void disabled(Entity entity, int turns) {
+        for (GameListener listener : listeners()) {
+            listener.onDisabled(entity, turns);
+        }
+    }
+
+    /**
+     * Publishes that a disabled entity ended a turn.
+     *
+     * @param entity         The disabled entity.
+     * @param remainingTurns The turns it stays disabled.
+     */
+    public static void disabledTurnEnded(Entity entity, int remainingTurns) {
+        for (GameListener listener : listeners()) {
+            listener.onDisabledTurnEnded(entity, remainingTurns);
+        }
+    }
+
+    /**
+     * Publishes that an entity had nothing to do.
+     *
+     * @param entity The waiting entity.
+     */
+    public static void turnSkipped(Entity entity) {
+        for (GameListener listener : listeners()) {
+            listener.onTurnSkipped(entity);
+        }
+    }
+
+    /**
+     * Publishes that a hacking attempt was made.
+     *
+     * @param actor   The hacking entity.
+     * @param target  The hacked entity.
+     * @param success True if the target changed sides.
+     */
+    public static void hacked(Entity actor, Entity target, boolean success) {
+        for (GameListener listener : listeners()) {
+            listener.onHack(actor, target, success);
+        }
+    }
+
+    /**
+     * Publishes that an item is about to be used.
+     *
+     * @param user The hero using the item.
+     * @param item The item being used.
+     */
+    public static void itemUsed(Hero user, Item item) {
+        for (GameListener listener : listeners()) {
+            listener.onItemUsed(user, item);
+        }
+    }
+
+    /**
+     * Publishes that an item was added to an inventory.
+     *
+     * @param inventory The inventory receiving the item.
+     * @param item      The new item.
+     */
+    public static void itemAdded(Inventory inventory, Item item) {
+        for (GameListener listener : listeners()) {
+            listener.onItemAdded(inventory, item);
+        }
+    }
+
+    /**
+     * Publishes that an item was taken out of an inventory.
+     *
+     * @param inventory The inventory the item was in.
+     * @param item      The removed item.
+     */
+    public static void itemRemoved(Inventory inventory, Item item) {
+        for (GameListener listener : listeners()) {
+            listener.onItemRemoved(inventory, item);
+        }
+    }
+
+    /**
+     * Publishes that the player collected gold.
+     *
+     * @param player The player.
+     * @param gold   The gold collected.
+     */
+    public static void goldLooted(Hero player, int gold) {
+        for (GameListener listener : listeners()) {
+            listener.onGoldLooted(player, gold);
+        }
+    }
+
+    /**
+     * Publishes that the player leveled up.
+     *
+     * @param player       The player.
+     * @param hpGain       The maximum HP gained.
+     * @param strengthGain The strength gained.
+     */
+    public static void levelUp(Hero player, int hpGain, int strengthGain) {
+        for (GameListener listener : listeners()) {
+            listener.onLevelUp(player, hpGain, strengthGain);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package src.events;
+
+import src.entities.Entity;
+import src.entities.Hero;
+import src.game.Battle;
+import src.game.HeroCreationOptions;
+import src.game.Map;
+import src.items.Inventory;
+import src.items.Item;
+import src.status.TimedStatus;
+
+/**
+ * Receives the events published through {@link GameEvents}.
+ * Every method does nothing by default, so renderers, loggers and metrics only
+ * override the events they care about.
+ * Events are delivered after the change has been applied, on the thread that
+ * caused it.
+ */
+public interface GameListener {
+
+    /**
+     * Called when the player starts exploring a map, either a new one or one
+     * loaded from a saved game.
+     *
+     * @param options The options the hero was created with.
+     * @param player  The player.
+     * @param map     The map.
+     */
+    default void onAdventureStarted(HeroCreationOptions options, Hero player, Map map) {
+    }
+
+    /**
+     * Called when the player won the battle of a room or finished a room, where
+     * nothing is in progress, so the game can be saved and resumed from there.
+     *
+     * @param map The map being explored.
+     */
+    default void onCheckpoint(Map map) {
+    }
+
+    /**
+     * Called when a battle begins, before the first turn.
+     *
+     * @param battle The battle.
+     */
+    default void onBattleStarted(Battle battle) {
+    }
+
+    /**
+     * Called after the end of turn effects of every turn.
+     *
+     * @param battle The battle, whose turn count includes the turn that ended.
+     */
+    default void onTurnEnded(Battle battle) {
+    }
+
+    /**
+     * Called when a battle is over, after the rewards of a victory.
+     *
+     * @param battle The battle.
+     * @param won    True if the player won, false otherwise.
+     */
+    default void onBattleEnded(Battle battle, boolean won) {
+    }
+
+    /**
+     * Called when an entity loses HP.
+     *
+     * @param source The entity that caused the damage, or null for statuses and
+     *               items.
+     * @param target The entity that was damaged.
+     * @param amount The damage dealt, before it was capped by the remaining HP.
+     * @param type   How the damage was dealt.
+     */
+    default void onDamage(Entity source, Entity target, int amount, DamageType type) {
+    }
+
+    /**
+     * Called when an entity recovers HP.
+     *
+     * @param source The entity that healed, or null for statuses and items.
+     * @param target The entity that was healed.
+     * @param amount The HP restored, before it was capped by the maximum HP.
+     * @param type   How the entity was healed.
+     */
+    default void onHeal(Entity source, Entity target, int amount, HealType type) {
+    }
+
+    /**
+     * Called when an entity attacks all of its enemies at once.
+     *
+     * @param actor The attacking entity.
+     */
+    default void onAreaAttack(Entity actor) {
+    }
+
+    /**
+     * Called when a status effect is applied to an entity.
+     *
+     * @param target The affected entity.
+     * @param status The new status.
+     */
+    default void onStatusApplied(Entity target, TimedStatus status) {
+    }
+
+    /**
+     * Called when a status effect runs out and is removed from an entity.
+     *
+     * @param target The entity that was affected.
+     * @param status The expired status.
+     */
+    default void onStatusExpired(Entity target, TimedStatus status) {
+    }
+
+    /**
+     * Called when a negative status effect is removed before it expired.
+     *
+     * @param target The entity that was affected.
+     * @param status The removed status.
+     */
+    default void onStatusCleansed(Entity target, TimedStatus status) {
+    }
+
+    /**
+     * Called at the end of every turn an entity spends with no HP left.
+     *
+     * @param entity The knocked out entity.
+     */
+    default void onKnockedOut(Entity entity) {
+    }
+
+    /**
+     * Called when an entity is disabled for some turns.
+     *
+     * @param entity The disabled entity.
+     * @param turns  The turns added to its disabled time.
+     */
+    default void onDisabled(Entity entity, int turns) {
+    }
+
+    /**
+     * Called at the end of every turn an entity spends disabled.
+     *
+     * @param entity         The disabled entity.
+     * @param remainingTurns The turns it stays disabled, 0 if it can act again.
+     */
+    default void onDisabledTurnEnded(Entity entity, int remainingTurns) {
+    }
+
+    /**
+     * Called when an entity has nothing to do on its turn.
+     *
+     * @param entity The waiting entity.
+     */
+    default void onTurnSkipped(Entity entity) {
+    }
+
+    /**
+     * Called after a hacking attempt.
+     *
+     * @param actor   The entity that tried to hack.
+     * @param target  The hacked entity.
+     * @param success True if the target changed sides, false otherwise.
+     */
+    default void onHack(Entity actor, Entity target, boolean success) {
+    }
+
+    /**
+     * Called right before the effect of an item is applied.
+     *
+     * @param user The hero using the item.
+     * @param item The item being used.
+     */
+    default void onItemUsed(Hero user, Item item) {
+    }
+
+    /**
+     * Called when an item is added to an inventory.
+     *
+     * @param inventory The inventory receiving the item.
+     * @param item      The new item.
+     */
+    default void onItemAdded(Inventory inventory, Item item) {
+    }
+
+    /**
+     * Called when an item is taken out of an inventory.
+     *
+     * @param inventory The inventory the item was in.
+     * @param item      The removed item.
+     */
+    default void onItemRemoved(Inventory inventory, Item item) {
+    }
+
+    /**
+     * Called when the player collects the gold of the defeated enemies.
+     *
+     * @param player The player.
+     * @param gold   The gold collected.
+     */
+    default void onGoldLooted(Hero player, int gold) {
+    }
+
+    /**
+     * Called when the player levels up after a victory.
+     *
+     * @param player       The player.
+     * @param hpGain       The maximum HP gained.
+     * @param strengthGain The strength gained.
+     */
+    default void onLevelUp(Hero player, int hpGain, int strengthGain) {
+    }
+}
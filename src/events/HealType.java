@@ -0,0 +1,10 @@
+package src.events;
+
+/**
+ * The different ways an entity can recover HP, so listeners can tell them apart.
+ */
+public enum HealType {
+    HEAL_ACTION,
+    REGENERATION,
+    POTION
+}
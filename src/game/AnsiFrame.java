@@ -0,0 +1,146 @@
+package src.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed panel at the top of an ANSI terminal that is redrawn in place.
+ * The previous rows are kept, and every update only sends cursor moves and the
+ * characters that changed. The rest of the game output scrolls below the panel.
+ */
+public class AnsiFrame {
+    private static final String CSI = "\u001b[";
+    private static final String SAVE_CURSOR = "\u001b7";
+    private static final String RESTORE_CURSOR = "\u001b8";
+
+    // Rows currently shown on the terminal
+    private final ArrayList<String> shown = new ArrayList<>();
+    private final StringBuilder out = new StringBuilder();
+    private int height;
+    private boolean open = false;
+
+    /**
+     * Clears the terminal and reserves the top rows for the panel, so the rest of
+     * the output scrolls below it.
+     *
+     * @param height The number of rows of the panel.
+     * @throws IllegalArgumentException if the height is not positive.
+     */
+    public void open(int height) {
+        if (height <= 0) {
+            throw new IllegalArgumentException("Frame height must be positive.");
+        }
+        this.height = height;
+        this.shown.clear();
+        this.open = true;
+
+        // Clear the screen, keep one blank row under the panel and scroll below it
+        int firstLogRow = height + 2;
+        out.setLength(0);
+        out.append(CSI).append("2J");
+        out.append(CSI).append(firstLogRow).append('r');
+        out.append(CSI).append(firstLogRow).append(";1H");
+        GameOutput.print(out);
+    }
+
+    /**
+     * Checks if the panel is shown.
+     *
+     * @return True between {@link #open(int)} and {@link #close()}.
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Redraws the panel, sending only what differs from the rows already shown.
+     * The cursor is left where the scrolling output was.
+     *
+     * @param rows The new rows, top to bottom.
+     * @throws IllegalStateException    if the panel is not open.
+     * @throws IllegalArgumentException if there are more rows than the panel
+     *                                  height.
+     */
+    public void update(List<String> rows) {
+        if (!open) {
+            throw new IllegalStateException("Frame is not open.");
+        }
+        if (rows.size() > height) {
+            throw new IllegalArgumentException("Frame has " + height + " rows, got " + rows.size() + ".");
+        }
+
+        out.setLength(0);
+        for (int i = 0; i < height; i++) {
+            String row = i < rows.size() ? rows.get(i) : "";
+            String previous = i < shown.size() ? shown.get(i) : "";
+            if (i < shown.size() && row.equals(previous)) {
+                continue;
+            }
+            appendRowChange(i + 1, previous, row);
+            if (i < shown.size()) {
+                shown.set(i, row);
+            } else {
+                shown.add(row);
+            }
+        }
+
+        if (!out.isEmpty()) {
+            GameOutput.print(SAVE_CURSOR);
+            GameOutput.print(out);
+            GameOutput.print(RESTORE_CURSOR);
+        }
+    }
+
+    /**
+     * Gives the whole terminal back to the scrolling output. The panel stays on
+     * screen until it scrolls away.
+     */
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        shown.clear();
+        // Resetting the scroll region moves the cursor, so it is saved around it
+        GameOutput.print(SAVE_CURSOR + CSI + "r" + RESTORE_CURSOR);
+    }
+
+    /**
+     * Appends the escape codes that turn one shown row into a new one.
+     * Columns are only known for plain ASCII text, so the unchanged start of the
+     * row is skipped up to its first wider character.
+     *
+     * @param line     The terminal row, starting at 1.
+     * @param previous The row currently shown.
+     * @param row      The row to show.
+     */
+    private void appendRowChange(int line, String previous, String row) {
+        int start = 0;
+        int limit = Math.min(previous.length(), row.length());
+        while (start < limit && previous.charAt(start) == row.charAt(start) && row.charAt(start) < 0x80) {
+            start++;
+        }
+
+        // When both rows are the same length and the change is plain ASCII, the
+        // unchanged end of the row is already in place
+        int end = row.length();
+        if (previous.length() == row.length()) {
+            while (end > start && previous.charAt(end - 1) == row.charAt(end - 1)) {
+                end--;
+            }
+            for (int i = start; i < end; i++) {
+                if (row.charAt(i) >= 0x80 || previous.charAt(i) >= 0x80) {
+                    end = row.length();
+                    break;
+                }
+            }
+        }
+
+        out.append(CSI).append(line).append(';').append(start + 1).append('H');
+        out.append(row, start, end);
+        if (end == row.length()) {
+            // Erase what is left of a longer previous row
+            out.append(CSI).append('K');
+        }
+    }
+}
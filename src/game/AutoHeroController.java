@@ -0,0 +1,126 @@
+package src.game;
+
+import src.actions.BattleAction;
+import src.actions.HackAction;
+import src.actions.HealAction;
+import src.actions.IncendiaryStrikeAction;
+import src.actions.SpecialAttackAction;
+import src.actions.UseItemAction;
+import src.entities.Entity;
+import src.entities.Hero;
+import src.items.HealthPotion;
+import src.items.Inventory;
+
+import java.util.List;
+
+/**
+ * Makes the hero's decisions automatically so battles can run without a player.
+ * The hero drinks a potion when low on health, otherwise uses the strongest
+ * action available and always targets the weakest entity.
+ */
+public class AutoHeroController implements HeroController {
+    // Drink a potion when HP drops to 35% or less
+    private static final int POTION_HP_PERCENT = 35;
+
+    /**
+     * Picks the available action with the highest priority.
+     *
+     * @param battle  The current battle instance.
+     * @param actions The actions the hero can currently perform.
+     * @return The chosen action.
+     */
+    @Override
+    public BattleAction chooseAction(Battle battle, List<BattleAction> actions) {
+        Hero player = battle.getPlayer();
+        BattleAction bestAction = null;
+        int bestPriority = -1;
+
+        for (int i = 0; i < actions.size(); i++) {
+            BattleAction action = actions.get(i);
+            int priority = getPriority(battle, player, action);
+            if (priority > bestPriority) {
+                bestPriority = priority;
+                bestAction = action;
+            }
+        }
+
+        return bestAction != null ? bestAction : actions.getFirst();
+    }
+
+    /**
+     * Picks the target with the lowest HP.
+     *
+     * @param battle  The current battle instance.
+     * @param action  The action being performed.
+     * @param targets The valid targets for the action.
+     * @return The weakest target.
+     */
+    @Override
+    public Entity chooseTarget(Battle battle, BattleAction action, List<Entity> targets) {
+        Entity selectedTarget = null;
+        for (Entity target : targets) {
+            if (selectedTarget == null || target.getCurrentHp() < selectedTarget.getCurrentHp()) {
+                selectedTarget = target;
+            }
+        }
+        return selectedTarget;
+    }
+
+    /**
+     * Picks the first health potion in the inventory.
+     *
+     * @param battle The current battle instance.
+     * @param player The hero using the item.
+     * @return The position of the first potion, or 0 if there is none.
+     */
+    @Override
+    public int chooseItem(Battle battle, Hero player) {
+        return getFirstPotionPosition(player.getInventory());
+    }
+
+    /**
+     * Ranks an action for the current situation. Higher is better, negative
+     * means the action should not be used.
+     *
+     * @param battle The current battle instance.
+     * @param player The hero performing the action.
+     * @param action The action to rank.
+     * @return The priority of the action.
+     */
+    private int getPriority(Battle battle, Hero player, BattleAction action) {
+        return switch (action) {
+            case UseItemAction ignored -> needsPotion(player) ? 5 : -1;
+            case IncendiaryStrikeAction ignored -> 4;
+            case HealAction ignored -> player.getCurrentHp() * 2 < player.getMaxHp() ? 4 : -1;
+            case SpecialAttackAction ignored -> 3;
+            case HackAction hack -> hack.getValidTargets(battle).isEmpty() ? -1 : 2;
+            default -> 1;
+        };
+    }
+
+    /**
+     * Checks if the hero is low on health and carries a potion.
+     *
+     * @param player The hero.
+     * @return True if the hero should drink a potion.
+     */
+    private boolean needsPotion(Hero player) {
+        return player.getCurrentHp() * 100 <= player.getMaxHp() * POTION_HP_PERCENT
+                && player.getInventory().hasPotion();
+    }
+
+    /**
+     * Finds the position of the first health potion in the inventory.
+     *
+     * @param inventory The inventory to search.
+     * @return The position of the potion (starting at 1), or 0 if there is none.
+     */
+    private int getFirstPotionPosition(Inventory inventory) {
+        for (int i = 0; i < inventory.getSize(); i++) {
+            if (inventory.getItem(i) instanceof HealthPotion) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+}
@@ -1,14 +1,21 @@
 package src.game;
 
 import src.actions.BattleAction;
+import src.ai.BattleAI;
+import src.ai.Decision;
+import src.ai.UtilityBattleAI;
 import src.entities.Enemy;
 import src.entities.Entity;
+import src.entities.EntityTrait;
 import src.entities.Hero;
+import src.events.GameEvents;
 import src.utils.ConsoleScreens;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.function.Supplier;
 
 import static src.utils.ConsoleScreens.showVictoryScreen;
 
@@ -16,29 +23,129 @@ import static src.utils.ConsoleScreens.showVictoryScreen;
  * Handles turn-based battles with room-defined enemies and allies.
  */
 public class Battle {
+    // Gained by the player after every victory
+    public static final int LEVEL_UP_HP = 10;
+    public static final int LEVEL_UP_STRENGTH = 1;
+    private static final String STATUS_SEPARATOR = "=====================================================";
+
     private final Hero player;
     private final ArrayList<Enemy> originalEnemiesList;
-    private final ArrayList<Entity> enemies;
-    private final ArrayList<Entity> allies;
-    private final Random random;
+    // Friendly NPCs and enemies, in the order they act
+    private final ArrayList<Entity> combatants;
+    private final List<Entity> combatantsView;
+    // Side of every entity in the battle, compared by identity
+    private final IdentityHashMap<Entity, Faction> factions;
+    // Alive entities of each side, kept up to date as entities fall or change sides
+    private final ArrayList<Entity> aliveEnemies;
+    private final ArrayList<Entity> aliveAllies;
+    private final List<Entity> aliveEnemiesView;
+    private final List<Entity> aliveAlliesView;
+    // Reused every turn to hold the entities that act
+    private final ArrayList<Entity> actingEntities;
+    private final HeroController heroController;
+    // Reused to compose the status panel shown every turn
+    private final StringBuilder statusFrame = new StringBuilder();
+    // Panel redrawn in place when the console understands ANSI codes
+    private final AnsiFrame ansiFrame = new AnsiFrame();
+    private final ArrayList<Entity> frameRoster = new ArrayList<>();
+    private BattleAI ai;
+    private BattleAI bossAI;
+    private int turnCount = 0;
 
     /**
      * Constructs a battle instance with a predefined list of enemies.
+     * The player chooses the hero's actions from the console.
      *
      * @param player       The player's hero.
      * @param enemies      The list of enemies in this room.
      * @param friendlyNPCs The list of friendly NPCs assisting the player.
      */
     public Battle(Hero player, ArrayList<Enemy> enemies, ArrayList<Entity> friendlyNPCs) {
+        this(player, enemies, friendlyNPCs, new ConsoleHeroController());
+    }
+
+    /**
+     * Constructs a battle instance where the hero's decisions come from the given
+     * controller.
+     *
+     * @param player         The player's hero.
+     * @param enemies        The list of enemies in this room.
+     * @param friendlyNPCs   The list of friendly NPCs assisting the player.
+     * @param heroController The source of the hero's decisions.
+     */
+    public Battle(Hero player, ArrayList<Enemy> enemies, ArrayList<Entity> friendlyNPCs,
+            HeroController heroController) {
         this.player = player;
-        this.enemies = new ArrayList<>(enemies);
+        this.heroController = heroController;
         // So we can keep track of the original list of enemies
         this.originalEnemiesList = enemies;
-        this.allies = new ArrayList<>();
+        this.combatants = new ArrayList<>();
+        this.combatantsView = Collections.unmodifiableList(this.combatants);
+        this.factions = new IdentityHashMap<>();
+        // The player is always the first of the allies
+        this.aliveAllies = new ArrayList<>();
+        this.aliveEnemies = new ArrayList<>();
+
+        this.factions.put(player, Faction.ALLY);
+        this.aliveAllies.add(player);
         if (friendlyNPCs != null) {
-            this.allies.addAll(friendlyNPCs);
+            for (Entity ally : friendlyNPCs) {
+                join(ally, Faction.ALLY);
+            }
+        }
+        for (Entity enemy : enemies) {
+            join(enemy, Faction.ENEMY);
+        }
+
+        this.aliveEnemiesView = Collections.unmodifiableList(this.aliveEnemies);
+        this.aliveAlliesView = Collections.unmodifiableList(this.aliveAllies);
+        this.actingEntities = new ArrayList<>();
+        this.ai = new UtilityBattleAI();
+        this.bossAI = GameSession.current().createBossAI();
+    }
+
+    /**
+     * Adds an entity to the battle on the given side.
+     *
+     * @param entity  The entity joining the battle.
+     * @param faction The side the entity fights on.
+     */
+    private void join(Entity entity, Faction faction) {
+        this.combatants.add(entity);
+        this.factions.put(entity, faction);
+        if (entity.getCurrentHp() > 0) {
+            getRoster(faction).add(entity);
         }
-        this.random = GameRandom.getInstance();
+    }
+
+    /**
+     * Retrieves the alive roster of a side.
+     *
+     * @param faction The side.
+     * @return The list of alive entities on that side.
+     */
+    private ArrayList<Entity> getRoster(Faction faction) {
+        return faction == Faction.ALLY ? aliveAllies : aliveEnemies;
+    }
+
+    /**
+     * Retrieves the side an entity fights on.
+     *
+     * @param entity The entity.
+     * @return The faction of the entity, or null if it is not in this battle.
+     */
+    public Faction getFaction(Entity entity) {
+        return factions.get(entity);
+    }
+
+    /**
+     * Retrieves the friendly NPCs and enemies still in the battle, in the order
+     * they act. Fallen entities are removed at the end of every turn.
+     *
+     * @return A read-only view of the combatants.
+     */
+    public List<Entity> getCombatants() {
+        return this.combatantsView;
     }
 
     /**
@@ -51,42 +158,94 @@ public class Battle {
     }
 
     /**
-     * Checks if the combat has ended.
+     * Retrieves the source of the hero's decisions.
      *
-     * @return True if the battle is over, false otherwise.
+     * @return The hero controller used in this battle.
      */
-    public boolean combatEnded() {
-        if (player.getCurrentHp() <= 0) {
-            return true;
-        }
+    public HeroController getHeroController() {
+        return this.heroController;
+    }
 
-        if (enemies.isEmpty()) {
-            return true;
-        }
+    /**
+     * Replaces the AI controlling enemies and friendly NPCs.
+     *
+     * @param ai The AI to use for the rest of the battle.
+     */
+    public void setAI(BattleAI ai) {
+        this.ai = ai;
+    }
 
-        for (Entity enemy : enemies) {
-            if (enemy.getCurrentHp() > 0) {
-                return false;
-            }
-        }
+    /**
+     * Replaces the AI controlling bosses.
+     *
+     * @param bossAI The AI to use for bosses for the rest of the battle.
+     */
+    public void setBossAI(BattleAI bossAI) {
+        this.bossAI = bossAI;
+    }
+
+    /**
+     * Retrieves the number of turns played so far.
+     *
+     * @return The number of completed turns.
+     */
+    public int getTurnCount() {
+        return this.turnCount;
+    }
 
-        return true;
+    /**
+     * Replaces the AI given to the bosses of every battle created from now on in
+     * the current session.
+     *
+     * @param factory Creates a new boss AI for each battle.
+     * @throws IllegalArgumentException if the factory is null.
+     */
+    public static void setDefaultBossAI(Supplier<BattleAI> factory) {
+        GameSession.current().setBossAI(factory);
+    }
+
+    /**
+     * Checks if the combat has ended.
+     *
+     * @return True if the battle is over, false otherwise.
+     */
+    public boolean combatEnded() {
+        return player.getCurrentHp() <= 0 || aliveEnemies.isEmpty();
     }
 
     /**
      * Starts the battle loop.
      */
     public void start() {
+        if (GameOutput.isAnsi()) {
+            // Fallen combatants keep their row, so the others never move
+            frameRoster.clear();
+            frameRoster.addAll(combatants);
+            // Title, hero and one row per combatant between two separators
+            ansiFrame.open(frameRoster.size() + 4);
+        }
         ConsoleScreens.showBattleScreen();
-
-        while (!combatEnded()) {
-            playerTurn();
-            alliesTurn();
-            enemiesTurn();
-            doEndOfTurnEffects();
+        GameEvents.battleStarted(this);
+
+        try {
+            while (!combatEnded()) {
+                playerTurn();
+                alliesTurn();
+                enemiesTurn();
+                doEndOfTurnEffects();
+                turnCount++;
+                GameEvents.turnEnded(this);
+            }
+            if (ansiFrame.isOpen()) {
+                // Show the final HP before the panel is released
+                displayStatus();
+            }
+        } finally {
+            ansiFrame.close();
         }
 
         if (player.getCurrentHp() <= 0) {
+            GameEvents.battleEnded(this, false);
             return;
         }
 
@@ -96,38 +255,101 @@ public class Battle {
         }
 
         this.player.collectGold(goldWon);
-        this.player.increaseMaxHp(10);
-        this.player.increaseStrength(1);
-
-        System.out.printf(" 💰 You looted %d🪙 Gold from your fallen enemies!\n", goldWon);
-        System.out.println(" 🎉 You leveled up! +10 HP, +1 Strength!");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
+        GameEvents.goldLooted(player, goldWon);
+        this.player.increaseMaxHp(LEVEL_UP_HP);
+        this.player.increaseStrength(LEVEL_UP_STRENGTH);
+        GameEvents.levelUp(player, LEVEL_UP_HP, LEVEL_UP_STRENGTH);
+        GameEvents.battleEnded(this, true);
     }
 
     /**
      * Displays the current battle status.
      */
     private void displayStatus() {
-        System.out.println("=====================================================");
-        System.out.println("🔹 HERO: " + player.getName());
-        System.out.println("❤️ HP: [" + player.getCurrentHp() + "/" + player.getMaxHp() + "]");
-        System.out.println("=====================================================");
-
-        if (!allies.isEmpty()) {
-            System.out.println("🛡️ FRIENDLY NPCs:");
-            for (Entity ally : allies) {
-                System.out.println(
-                        "   🤝 " + ally.getName() + " - HP: [" + ally.getCurrentHp() + "/" + ally.getMaxHp() + "]");
+        if (!GameOutput.isEnabled()) {
+            return;
+        }
+        if (ansiFrame.isOpen()) {
+            ansiFrame.update(composeFrameRows());
+            return;
+        }
+
+        // The whole panel is composed first and written at once
+        String newLine = System.lineSeparator();
+        statusFrame.setLength(0);
+        statusFrame.append(STATUS_SEPARATOR).append(newLine);
+        statusFrame.append("🔹 HERO: ").append(player.getName()).append(newLine);
+        statusFrame.append("❤️ HP: [").append(player.getCurrentHp()).append('/').append(player.getMaxHp()).append(']')
+                .append(newLine);
+        statusFrame.append(STATUS_SEPARATOR).append(newLine);
+
+        if (aliveAllies.size() > 1) {
+            statusFrame.append("🛡️ FRIENDLY NPCs:").append(newLine);
+            for (Entity ally : combatants) {
+                if (factions.get(ally) != Faction.ALLY) {
+                    continue;
+                }
+                appendHp(statusFrame.append("   🤝 "), ally).append(newLine);
             }
         }
 
-        System.out.println("=====================================================");
-        System.out.println("👿 ENEMIES:");
-        for (Entity enemy : enemies) {
-            System.out.println(
-                    (enemy.isElectronic() ? "   🤖 " : "   💀 ") + enemy.getName() + " - HP: [" + enemy.getCurrentHp()
-                            + "/" + enemy.getMaxHp() + "]");
+        statusFrame.append(STATUS_SEPARATOR).append(newLine);
+        statusFrame.append("👿 ENEMIES:").append(newLine);
+        for (Entity enemy : combatants) {
+            if (factions.get(enemy) != Faction.ENEMY) {
+                continue;
+            }
+            appendHp(statusFrame.append(enemy.isElectronic() ? "   🤖 " : "   💀 "), enemy).append(newLine);
+        }
+        GameOutput.print(statusFrame);
+    }
+
+    /**
+     * Lays out the status panel of the full-screen view, one row per entity in a
+     * fixed order so only the values that change are redrawn.
+     *
+     * @return The rows of the panel.
+     */
+    private List<String> composeFrameRows() {
+        ArrayList<String> rows = new ArrayList<>(frameRoster.size() + 4);
+        rows.add(String.format("==================== BATTLE - TURN %-3d ====================", turnCount + 1));
+        rows.add(formatFrameRow("HERO", player, "🔹"));
+        for (Entity entity : frameRoster) {
+            if (factions.get(entity) == Faction.ALLY) {
+                rows.add(formatFrameRow("ALLY", entity, "🤝"));
+            } else {
+                rows.add(formatFrameRow("ENEMY", entity, entity.isElectronic() ? "🤖" : "💀"));
+            }
         }
+        rows.add(STATUS_SEPARATOR + "=======");
+        return rows;
+    }
+
+    /**
+     * Formats the row of one entity in the full-screen view. The icon goes last, so
+     * the columns before it stay plain text.
+     *
+     * @param side   The side of the entity.
+     * @param entity The entity to describe.
+     * @param icon   The icon of the entity.
+     * @return The formatted row.
+     */
+    private static String formatFrameRow(String side, Entity entity, String icon) {
+        String state = entity.getCurrentHp() > 0 ? icon : "KO";
+        return String.format(" %-5s %-28s HP %4d/%-4d %s", side, entity.getName(), entity.getCurrentHp(),
+                entity.getMaxHp(), state);
+    }
+
+    /**
+     * Appends the name and HP of an entity to a status panel.
+     *
+     * @param frame  The panel being composed.
+     * @param entity The entity to describe.
+     * @return The panel, to keep appending.
+     */
+    private static StringBuilder appendHp(StringBuilder frame, Entity entity) {
+        return frame.append(entity.getName()).append(" - HP: [").append(entity.getCurrentHp()).append('/')
+                .append(entity.getMaxHp()).append(']');
     }
 
     /**
@@ -141,24 +363,11 @@ public class Battle {
             List<BattleAction> actions = player.getAvailableActions();
 
             // Step 1: Let the player pick an action
-            System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.println(" ⚔️  **CHOOSE YOUR ACTION**");
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-
-            for (int i = 0; i < actions.size(); i++) {
-                System.out.println((i + 1) + ") " + actions.get(i).getName());
-            }
-
-            System.out.print("\n➡️  Enter your choice: ");
-
-            int actionChoice = GameScanner.getInt() - 1;
-            if (actionChoice < 0 || actionChoice >= actions.size()) {
-                System.out.println("❌ Invalid choice! Please select a valid action.");
+            BattleAction chosenAction = heroController.chooseAction(this, actions);
+            if (chosenAction == null) {
                 continue;
             }
 
-            BattleAction chosenAction = actions.get(actionChoice);
-
             // Step 2: Let the player pick a target if needed
             List<Entity> validTargets = chosenAction.getValidTargets(this);
             Entity target = null;
@@ -167,18 +376,8 @@ public class Battle {
                 if (validTargets.size() == 1) {
                     target = validTargets.getFirst();
                 } else {
-                    System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                    System.out.println(" 🎯  **CHOOSE YOUR TARGET**");
-                    System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                    for (int i = 0; i < validTargets.size(); i++) {
-                        System.out.println((i + 1) + ") " + validTargets.get(i).getName());
-                    }
-                    System.out.print("\n➡️  Enter your target: ");
-                    int targetChoice = GameScanner.getInt() - 1;
-                    if (targetChoice >= 0 && targetChoice < validTargets.size()) {
-                        target = validTargets.get(targetChoice);
-                    } else {
-                        System.out.println("❌ Invalid target!");
+                    target = heroController.chooseTarget(this, chosenAction, validTargets);
+                    if (target == null) {
                         continue;
                     }
                 }
@@ -186,29 +385,10 @@ public class Battle {
 
             // Try to Execute action
             turnCompleted = chosenAction.execute(this, target);
+            removeFallenEntities();
         }
     }
 
-    /**
-     * Retrieves a list of alive allies, including the player.
-     *
-     * @return A list of active allies.
-     */
-
-    private ArrayList<Entity> getAliveAllies() {
-        ArrayList<Entity> tempAllies = new ArrayList<>();
-        tempAllies.add(player);
-
-        for (Entity entity : this.allies) {
-            if (entity.getCurrentHp() > 0) {
-                tempAllies.add(entity);
-            }
-
-        }
-
-        return tempAllies;
-    }
-
     /**
      * Handles the turn logic for all entities in the given list.
      *
@@ -223,27 +403,16 @@ public class Battle {
                 continue;
             }
 
-            List<BattleAction> actions = entity.getAvailableActions();
-            // TODO: Right now we're just picking a random action and target.
-            // We can implement a more advanced AI here.
-            while (true) {
-                BattleAction action = actions.get(this.random.nextInt(actions.size()));
-                List<Entity> targets = action.getValidTargets(this);
-                if (targets == null || targets.isEmpty()) {
-                    // No valid targets for this action, try another one
-                    continue;
-                }
-                Entity selectedTarget = null;
-                // Always try to attack or heal the weakest target
-                for (Entity target : targets) {
-                    if (selectedTarget == null || target.getCurrentHp() < selectedTarget.getCurrentHp()) {
-                        selectedTarget = target;
-                    }
-                }
-
-                action.execute(this, selectedTarget);
-                break;
+            BattleAI controller = entity.hasTrait(EntityTrait.BOSS) ? bossAI : ai;
+            Decision decision = controller.decide(this, entity);
+            if (decision == null) {
+                // Nothing can be done this turn, so the entity waits
+                GameEvents.turnSkipped(entity);
+                continue;
             }
+
+            decision.action().execute(this, decision.target());
+            removeFallenEntities();
         }
     }
 
@@ -251,18 +420,30 @@ public class Battle {
      * Handles friendly NPCs' turn.
      */
     private void alliesTurn() {
-        // Copy the initial list of allies as the list may change during the turn
-        ArrayList<Entity> initialAllies = new ArrayList<>(allies);
-        entitiesTurn(initialAllies);
+        factionTurn(Faction.ALLY);
     }
 
     /**
      * Handles the enemies' turn.
      */
     private void enemiesTurn() {
-        // Copy the initial list of enemies as the list may change during the turn
-        ArrayList<Entity> initialEnemies = new ArrayList<>(enemies);
-        entitiesTurn(initialEnemies);
+        factionTurn(Faction.ENEMY);
+    }
+
+    /**
+     * Handles the turn of every entity on one side.
+     *
+     * @param faction The side whose entities act.
+     */
+    private void factionTurn(Faction faction) {
+        // Copy the initial entities of the side as sides may change during the turn
+        actingEntities.clear();
+        for (Entity entity : combatants) {
+            if (factions.get(entity) == faction) {
+                actingEntities.add(entity);
+            }
+        }
+        entitiesTurn(actingEntities);
     }
 
     /**
@@ -270,52 +451,84 @@ public class Battle {
      */
     private void doEndOfTurnEffects() {
         player.endTurn();
-        for (Entity ally : allies) {
-            ally.endTurn();
+        for (Entity ally : combatants) {
+            if (factions.get(ally) == Faction.ALLY) {
+                ally.endTurn();
+            }
         }
-        for (Entity enemy : enemies) {
-            enemy.endTurn();
+        for (Entity enemy : combatants) {
+            if (factions.get(enemy) == Faction.ENEMY) {
+                enemy.endTurn();
+            }
         }
 
-        enemies.removeIf(enemy -> enemy.getCurrentHp() <= 0);
-        allies.removeIf(ally -> ally.getCurrentHp() <= 0);
+        int kept = 0;
+        for (int i = 0; i < combatants.size(); i++) {
+            Entity entity = combatants.get(i);
+            if (entity.getCurrentHp() > 0) {
+                combatants.set(kept++, entity);
+            } else {
+                factions.remove(entity);
+            }
+        }
+        while (combatants.size() > kept) {
+            combatants.removeLast();
+        }
+        removeFallenEntities();
     }
 
     /**
-     * Retrieves a list of alive enemies.
+     * Removes the entities that were knocked out from the alive rosters.
+     * Called after every change that can reduce HP, so target lookups never have
+     * to scan for alive entities.
+     */
+    private void removeFallenEntities() {
+        removeFallen(aliveEnemies, 0);
+        // The player stays in the roster so allies can always find them
+        removeFallen(aliveAllies, 1);
+    }
+
+    /**
+     * Removes the knocked out entities from a roster, keeping the order of the
+     * remaining ones.
      *
-     * @return A list of enemy entities that are still alive.
+     * @param roster The roster to clean up.
+     * @param from   The first position that can be removed.
      */
-    private List<Entity> getAliveEnemies() {
-        ArrayList<Entity> tempEnemies = new ArrayList<>();
-        for (Entity entity : this.enemies) {
+    private static void removeFallen(ArrayList<Entity> roster, int from) {
+        int kept = from;
+        for (int i = from; i < roster.size(); i++) {
+            Entity entity = roster.get(i);
             if (entity.getCurrentHp() > 0) {
-                tempEnemies.add(entity);
+                roster.set(kept++, entity);
             }
         }
-        return tempEnemies;
+        while (roster.size() > kept) {
+            roster.removeLast();
+        }
     }
 
     /**
      * Retrieves all alive enemies.
      *
-     * @return A list of active enemy entities.
+     * @return A read-only view of the active enemy entities.
      */
     public List<Entity> getEnemies() {
-        return getAliveEnemies();
+        return aliveEnemiesView;
     }
 
     /**
      * Retrieves the list of enemies or allies based on the given actor.
      *
      * @param actor The entity for which to determine enemy entities.
-     * @return A list of entities considered enemies to the actor.
+     * @return A read-only view of the alive entities considered enemies to the
+     *         actor.
      */
     public List<Entity> getEnemies(Entity actor) {
-        if (this.enemies.contains(actor)) {
-            return getAliveAllies();
+        if (factions.get(actor) == Faction.ENEMY) {
+            return aliveAlliesView;
         } else {
-            return getAliveEnemies();
+            return aliveEnemiesView;
         }
     }
 
@@ -323,26 +536,108 @@ public class Battle {
      * Retrieves the list of allies based on the given actor.
      *
      * @param actor The entity for which to determine allied entities.
-     * @return A list of entities considered allies to the actor.
+     * @return A read-only view of the alive entities considered allies to the
+     *         actor, including the player when the actor is on their side.
      */
     public List<Entity> getAllies(Entity actor) {
-        if (this.enemies.contains(actor)) {
-            return getAliveEnemies();
+        if (factions.get(actor) == Faction.ENEMY) {
+            return aliveEnemiesView;
         } else {
-            return getAliveAllies();
+            return aliveAlliesView;
         }
     }
 
     /**
-     * Moves a target entity from the enemy list to the ally list.
+     * Moves a target entity from the enemy side to the ally side.
      *
      * @param target The entity to be converted from an enemy to an ally.
      */
 
     public void moveToAllies(Entity target) {
-        if (this.enemies.contains(target)) {
-            this.enemies.remove(target);
-            this.allies.add(target);
+        if (factions.get(target) == Faction.ENEMY) {
+            factions.put(target, Faction.ALLY);
+            if (this.aliveEnemies.remove(target) && target.getCurrentHp() > 0) {
+                this.aliveAllies.add(target);
+            }
+        }
+    }
+
+    /**
+     * Saves the current state of the battle.
+     *
+     * @return A new snapshot of the battle.
+     */
+    public BattleSnapshot snapshot() {
+        return snapshot(new BattleSnapshot());
+    }
+
+    /**
+     * Saves the current state of the battle into an existing snapshot, so the
+     * same snapshot can be reused without allocating.
+     *
+     * @param snapshot The snapshot to overwrite.
+     * @return The given snapshot.
+     */
+    public BattleSnapshot snapshot(BattleSnapshot snapshot) {
+        snapshot.battle = this;
+        snapshot.turnCount = turnCount;
+        snapshot.entities.clear();
+        snapshot.factions.clear();
+
+        snapshot.entities.add(player);
+        snapshot.factions.add(Faction.ALLY);
+        player.saveState(snapshot.stateAt(0));
+        for (int i = 0; i < combatants.size(); i++) {
+            Entity entity = combatants.get(i);
+            snapshot.entities.add(entity);
+            snapshot.factions.add(factions.get(entity));
+            entity.saveState(snapshot.stateAt(i + 1));
+        }
+
+        copyRoster(aliveAllies, snapshot.aliveAllies);
+        copyRoster(aliveEnemies, snapshot.aliveEnemies);
+        return snapshot;
+    }
+
+    /**
+     * Puts the battle back in the state saved in a snapshot.
+     *
+     * @param snapshot A snapshot taken from this battle.
+     * @throws IllegalArgumentException if the snapshot was taken from another
+     *                                  battle.
+     */
+    public void restore(BattleSnapshot snapshot) {
+        if (snapshot.battle != this) {
+            throw new IllegalArgumentException("Snapshot was not taken from this battle.");
+        }
+
+        turnCount = snapshot.turnCount;
+        combatants.clear();
+        factions.clear();
+        for (int i = 0; i < snapshot.entities.size(); i++) {
+            Entity entity = snapshot.entities.get(i);
+            entity.restoreState(snapshot.states.get(i));
+            factions.put(entity, snapshot.factions.get(i));
+            if (entity != player) {
+                combatants.add(entity);
+            }
+        }
+
+        copyRoster(snapshot.aliveAllies, aliveAllies);
+        copyRoster(snapshot.aliveEnemies, aliveEnemies);
+    }
+
+    /**
+     * Replaces the contents of a roster with another one, one entity at a time
+     * so nothing is allocated.
+     *
+     * @param from The roster to copy.
+     * @param to   The roster to overwrite.
+     */
+    private static void copyRoster(ArrayList<Entity> from, ArrayList<Entity> to) {
+        to.clear();
+        for (int i = 0; i < from.size(); i++) {
+            to.add(from.get(i));
         }
     }
 }
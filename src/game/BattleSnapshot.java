@@ -0,0 +1,58 @@
+package src.game;
+
+import src.entities.Entity;
+import src.entities.EntityState;
+
+import java.util.ArrayList;
+
+/**
+ * A saved point of a battle that can be restored later, for AI look-ahead,
+ * previews or undo.
+ * Holds plain values and references only, never copies of entities, and can be
+ * passed back to {@link Battle#snapshot(BattleSnapshot)} to be overwritten
+ * without allocating.
+ * The random generator is not part of the snapshot: replaying the same
+ * decisions after a restore may roll different numbers.
+ */
+public final class BattleSnapshot {
+    Battle battle;
+    int turnCount;
+    // Every entity saved, the player first and then the combatants
+    final ArrayList<Entity> entities = new ArrayList<>();
+    final ArrayList<EntityState> states = new ArrayList<>();
+    final ArrayList<Faction> factions = new ArrayList<>();
+    final ArrayList<Entity> aliveAllies = new ArrayList<>();
+    final ArrayList<Entity> aliveEnemies = new ArrayList<>();
+
+    /**
+     * Gets the battle this snapshot was taken from.
+     *
+     * @return The battle, or null if the snapshot is empty.
+     */
+    public Battle getBattle() {
+        return battle;
+    }
+
+    /**
+     * Gets the number of turns played when the snapshot was taken.
+     *
+     * @return The saved turn count.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Gets a reusable state for the entity at the given position, creating it
+     * the first time.
+     *
+     * @param index The position of the entity in the snapshot.
+     * @return The state to save the entity into.
+     */
+    EntityState stateAt(int index) {
+        while (states.size() <= index) {
+            states.add(new EntityState());
+        }
+        return states.get(index);
+    }
+}
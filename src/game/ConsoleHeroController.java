@@ -0,0 +1,82 @@
+package src.game;
+
+import src.actions.BattleAction;
+import src.entities.Entity;
+import src.entities.Hero;
+
+import java.util.List;
+
+/**
+ * Lets the player choose the hero's actions from the console.
+ */
+public class ConsoleHeroController implements HeroController {
+
+    /**
+     * Shows the action menu and reads the player's choice.
+     *
+     * @param battle  The current battle instance.
+     * @param actions The actions the hero can currently perform.
+     * @return The chosen action, or null if the choice was invalid.
+     */
+    @Override
+    public BattleAction chooseAction(Battle battle, List<BattleAction> actions) {
+        GameOutput.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println(" ⚔️  **CHOOSE YOUR ACTION**");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+
+        for (int i = 0; i < actions.size(); i++) {
+            GameOutput.println((i + 1) + ") " + actions.get(i).getName());
+        }
+
+        GameOutput.print("\n➡️  Enter your choice: ");
+
+        int actionChoice = GameScanner.getInt() - 1;
+        if (actionChoice < 0 || actionChoice >= actions.size()) {
+            GameOutput.println("❌ Invalid choice! Please select a valid action.");
+            return null;
+        }
+
+        return actions.get(actionChoice);
+    }
+
+    /**
+     * Shows the target menu and reads the player's choice.
+     *
+     * @param battle  The current battle instance.
+     * @param action  The action being performed.
+     * @param targets The valid targets for the action.
+     * @return The chosen target, or null if the choice was invalid.
+     */
+    @Override
+    public Entity chooseTarget(Battle battle, BattleAction action, List<Entity> targets) {
+        GameOutput.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println(" 🎯  **CHOOSE YOUR TARGET**");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        for (int i = 0; i < targets.size(); i++) {
+            GameOutput.println((i + 1) + ") " + targets.get(i).getName());
+        }
+        GameOutput.print("\n➡️  Enter your target: ");
+        int targetChoice = GameScanner.getInt() - 1;
+        if (targetChoice >= 0 && targetChoice < targets.size()) {
+            return targets.get(targetChoice);
+        }
+
+        GameOutput.println("❌ Invalid target!");
+        return null;
+    }
+
+    /**
+     * Shows the hero's inventory and reads the item to use.
+     *
+     * @param battle The current battle instance.
+     * @param player The hero using the item.
+     * @return The position of the chosen item, or 0 to cancel.
+     */
+    @Override
+    public int chooseItem(Battle battle, Hero player) {
+        player.getInventory().showInventory();
+
+        GameOutput.println("\nChoose an item to use (or 0 to cancel):");
+        return GameScanner.getInt();
+    }
+}
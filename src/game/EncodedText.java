@@ -0,0 +1,78 @@
+package src.game;
+
+import java.nio.charset.Charset;
+
+/**
+ * Text that is encoded to bytes once and written many times, for screens and
+ * art that never change.
+ * The bytes are kept for the last charset asked for, so they are only encoded
+ * again if the output switches to a different charset.
+ */
+public final class EncodedText {
+    private final String text;
+    // Replaced as a whole, so readers never see bytes of another charset
+    private volatile Encoding encoding;
+
+    /**
+     * Bytes of the text in one charset.
+     *
+     * @param charset The charset used.
+     * @param bytes   The encoded text.
+     */
+    private record Encoding(Charset charset, byte[] bytes) {
+    }
+
+    /**
+     * Creates the text and encodes it for the current game output.
+     *
+     * @param text The text to encode.
+     * @throws IllegalArgumentException if the text is null.
+     */
+    public EncodedText(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null.");
+        }
+        this.text = text;
+        getBytes(GameOutput.getCharset());
+    }
+
+    /**
+     * Creates the text from lines, each one followed by a line separator, the same
+     * way printing them one by one would.
+     *
+     * @param lines The lines of the text.
+     * @return The encoded text.
+     */
+    public static EncodedText ofLines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return new EncodedText(builder.toString());
+    }
+
+    /**
+     * Gets the text before encoding.
+     *
+     * @return The text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the text encoded with the given charset. The returned array is shared
+     * and must not be modified.
+     *
+     * @param charset The charset to encode with.
+     * @return The encoded text.
+     */
+    public byte[] getBytes(Charset charset) {
+        Encoding current = encoding;
+        if (current == null || !current.charset().equals(charset)) {
+            current = new Encoding(charset, text.getBytes(charset));
+            encoding = current;
+        }
+        return current.bytes();
+    }
+}
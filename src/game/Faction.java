@@ -0,0 +1,18 @@
+package src.game;
+
+/**
+ * The side an entity fights on in a battle.
+ */
+public enum Faction {
+    ALLY,
+    ENEMY;
+
+    /**
+     * Gets the side this side fights against.
+     *
+     * @return The opposing faction.
+     */
+    public Faction opposite() {
+        return this == ALLY ? ENEMY : ALLY;
+    }
+}
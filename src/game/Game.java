@@ -1,11 +1,23 @@
 package src.game;
 
+import src.ai.SearchBattleAI;
+import src.ai.SearchMetrics;
+import src.battlelog.BattleLogWriter;
 import src.entities.*;
+import src.events.ConsoleEventRenderer;
+import src.events.GameEvents;
+import src.save.AutoSaver;
+import src.save.SaveData;
+import src.save.SaveFile;
+import src.save.SaveMetrics;
 import src.utils.ConsoleScreens;
 import src.utils.Audio;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Random;
 
 import static src.utils.ConsoleScreens.escapeTheLabScreen;
@@ -16,12 +28,174 @@ import static src.utils.ConsoleScreens.showDefeatScreen;
  */
 public class Game {
     public static void main(String[] args) {
-        // Set up game seed
-        long gameSeed = (args.length > 0) ? parseSeed(args[0]) : System.currentTimeMillis();
+        // Set up game seed and options
+        long gameSeed = GameSession.current().getClock().currentTimeMillis();
+        String recordPath = null;
+        String replayPath = null;
+        String battleLogPath = null;
+        String savePath = null;
+        String loadPath = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ansi" -> GameOutput.setAnsi(true);
+                case "--record" -> recordPath = optionValue(args, ++i);
+                case "--replay" -> replayPath = optionValue(args, ++i);
+                case "--battle-log" -> battleLogPath = optionValue(args, ++i);
+                case "--save" -> savePath = optionValue(args, ++i);
+                case "--load" -> loadPath = optionValue(args, ++i);
+                default -> gameSeed = parseSeed(args[i]);
+            }
+        }
 
+        if (recordPath != null || replayPath != null) {
+            // Bosses search by depth only, so their moves do not depend on machine speed
+            Battle.setDefaultBossAI(() -> new SearchBattleAI(Long.MAX_VALUE, SearchBattleAI.DEFAULT_MAX_DEPTH,
+                    new SearchMetrics()));
+        }
+
+        if (battleLogPath != null) {
+            try {
+                GameEvents.subscribe(new BattleLogWriter(Path.of(battleLogPath)));
+            } catch (IOException e) {
+                GameOutput.println("❌ Could not open the battle log folder: " + e.getMessage());
+                return;
+            }
+        }
+
+        SaveData save = null;
+        if (loadPath != null) {
+            if (recordPath != null || replayPath != null) {
+                GameOutput.println("❌ A saved game cannot be recorded or replayed.");
+                return;
+            }
+            try {
+                save = SaveFile.read(Path.of(loadPath));
+            } catch (IOException | IllegalArgumentException e) {
+                GameOutput.println("❌ Could not load the saved game: " + e.getMessage());
+                return;
+            }
+        }
+
+        try {
+            if (replayPath != null) {
+                replay(Path.of(replayPath));
+                return;
+            }
+            if (recordPath != null) {
+                GameScanner.setInput(InputJournal.record(Path.of(recordPath), gameSeed, GameScanner.getInput()));
+            }
+        } catch (IOException e) {
+            GameOutput.println("❌ Could not open the input journal: " + e.getMessage());
+            return;
+        }
+
+        // Describe the battle events on the console
+        GameEvents.subscribe(new ConsoleEventRenderer());
+        AutoSaver autoSaver = null;
+        if (savePath != null) {
+            autoSaver = new AutoSaver(Path.of(savePath), new SaveMetrics());
+            GameEvents.subscribe(autoSaver);
+        }
+        try {
+            if (save != null) {
+                play(save);
+            } else {
+                play(gameSeed);
+            }
+        } finally {
+            if (autoSaver != null) {
+                // Let the last save reach the disk before the program ends
+                autoSaver.close();
+                GameOutput.println("💾 Autosave: " + autoSaver.getMetrics());
+            }
+        }
+    }
+
+    /**
+     * Gets the value that follows an option on the command line.
+     *
+     * @param args  The command line arguments.
+     * @param index The position of the value.
+     * @return The value.
+     * @throws IllegalArgumentException if the value is missing.
+     */
+    private static String optionValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1] + ".");
+        }
+        return args[index];
+    }
+
+    /**
+     * Plays a recorded session again at full speed, without output or music, and
+     * reports how far it went.
+     *
+     * @param path The journal of the session.
+     * @throws IOException           if the journal cannot be read.
+     * @throws IllegalStateException if the game ended before using every
+     *                               recorded input, meaning the replay did not
+     *                               follow the recording.
+     */
+    private static void replay(Path path) throws IOException {
+        InputJournal journal = InputJournal.load(path);
+        InputJournal.Replay replay = journal.replay();
+        GameScanner.setInput(replay);
+        GameOutput.mute();
+        Audio.setEnabled(false);
+        GameSession.current().setLegacyEnemyRolls(journal.hasLegacyEnemyRolls());
+
+        long start = System.nanoTime();
+        try {
+            play(journal.getSeed());
+        } catch (NoSuchElementException e) {
+            // The recording stopped in the middle of the game
+            if (!replay.isFinished()) {
+                throw e;
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        if (!replay.isFinished()) {
+            throw new IllegalStateException("Replay of " + path + " ended after " + replay.getPosition() + " of "
+                    + journal.size() + " inputs.");
+        }
+        System.out.printf("Replayed %d inputs of %s (seed %d) in %d ms%n", journal.size(), path, journal.getSeed(),
+                elapsedMs);
+    }
+
+    /**
+     * Plays a new game in the current session until the player chooses to exit,
+     * describing the battles on the output of the session. Used by hosts that run
+     * many sessions at once, such as the game server.
+     *
+     * @param gameSeed The seed of the game.
+     */
+    public static void playSession(long gameSeed) {
+        GameEvents.subscribe(new ConsoleEventRenderer());
+        play(gameSeed);
+    }
+
+    /**
+     * Resumes a saved game in the current session until the player chooses to
+     * exit, describing the battles on the output of the session. Used by the game
+     * server to bring back games it parked while their players were idle.
+     *
+     * @param save The saved game.
+     */
+    public static void resumeSession(SaveData save) {
+        GameEvents.subscribe(new ConsoleEventRenderer());
+        play(save);
+    }
+
+    /**
+     * Plays the game until the player chooses to exit.
+     *
+     * @param gameSeed The seed of the game.
+     */
+    private static void play(long gameSeed) {
         // Initialize the global random instance
         GameRandom.initialize(gameSeed);
-        System.out.println("🎲 Game Seed: " + GameRandom.getSeed());
+        GameOutput.println("🎲 Game Seed: " + GameRandom.getSeed());
 
         // Display ASCII Welcome Screen
         ConsoleScreens.showWelcomeScreen();
@@ -29,21 +203,55 @@ public class Game {
         // Story Introduction
         introduceStory();
 
+        play(null, null);
+    }
+
+    /**
+     * Resumes a saved game, then plays until the player chooses to exit.
+     *
+     * @param save The saved game.
+     */
+    private static void play(SaveData save) {
+        SaveData.Restored restored = save.restore();
+        GameOutput.println("🎲 Game Seed: " + GameRandom.getSeed());
+        GameOutput.println("💾 Resuming the adventure of " + restored.player().getName() + "...");
+        play(save.options(), restored);
+    }
+
+    /**
+     * Plays adventures until the player chooses to exit.
+     *
+     * @param options  The options of the hero to play with, or null to create a
+     *                 new hero.
+     * @param restored A saved game to continue first, or null.
+     */
+    private static void play(HeroCreationOptions options, SaveData.Restored restored) {
         boolean playAgain = true;
-        HeroCreationOptions options = null;
 
         while (playAgain) {
-            if (options == null) {
-                // Get Hero Creation Options
-                options = getHeroCreationOptions();
-            }
+            Hero player;
+            Map gameMap;
+            if (restored != null) {
+                // Continue where the game was saved
+                player = restored.player();
+                gameMap = restored.map();
+                restored = null;
+                GameEvents.adventureStarted(options, player, gameMap);
+                gameMap.resumeExploring(player);
+            } else {
+                if (options == null) {
+                    // Get Hero Creation Options
+                    options = getHeroCreationOptions();
+                }
 
-            // Create Player Character
-            Hero player = createHero(options);
+                // Create Player Character
+                player = createHero(options);
 
-            // Initialize Map
-            Map gameMap = new Map();
-            gameMap.startExploring(player);
+                // Initialize Map
+                gameMap = new Map();
+                GameEvents.adventureStarted(options, player, gameMap);
+                gameMap.startExploring(player);
+            }
 
             // Check if player is still alive for the final battle
             if (player.getCurrentHp() > 0) {
@@ -53,10 +261,10 @@ public class Game {
 
             showEndScreen(player);
 
-            System.out.println("\nWhat would you like to do next?");
-            System.out.println("1️⃣ Try again with the same hero");
-            System.out.println("2️⃣ Create a new hero");
-            System.out.println("3️⃣ Exit game");
+            GameOutput.println("\nWhat would you like to do next?");
+            GameOutput.println("1️⃣ Try again with the same hero");
+            GameOutput.println("2️⃣ Create a new hero");
+            GameOutput.println("3️⃣ Exit game");
 
             int choice = GameScanner.getIntInRange("Enter your choice: ", 1, 3);
 
@@ -64,7 +272,7 @@ public class Game {
                 case 2:
                     // Create a new hero
                     options = null;
-                    System.out.println("\n🦸 A new hero is ready to start the adventure!\n");
+                    GameOutput.println("\n🦸 A new hero is ready to start the adventure!\n");
                     break;
                 case 3:
                     // Exit game
@@ -73,12 +281,12 @@ public class Game {
                 case 1:
                 default:
                     // Try again with the same hero
-                    System.out.println("\n🔄 Restarting the adventure with the same hero...\n");
+                    GameOutput.println("\n🔄 Restarting the adventure with the same hero...\n");
                     break;
             }
 
         }
-        System.out.println("\n🎮  **GAME OVER! THANKS FOR PLAYING.**");
+        GameOutput.println("\n🎮  **GAME OVER! THANKS FOR PLAYING.**");
     }
 
     /**
@@ -91,8 +299,8 @@ public class Game {
         try {
             return Long.parseLong(seedStr);
         } catch (NumberFormatException e) {
-            System.out.println("❌ Invalid seed provided. Using random seed instead.");
-            return System.currentTimeMillis();
+            GameOutput.println("❌ Invalid seed provided. Using random seed instead.");
+            return GameSession.current().getClock().currentTimeMillis();
         }
     }
 
@@ -102,21 +310,21 @@ public class Game {
     private static void introduceStory() {
         Audio.playMusic("src/utils/AudioFiles/intro.wav");
 
-        System.out.println("┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓");
-        System.out.println("                             📝 ** P R O L O G U E **");
-        System.out.println("┣━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┫");
-        System.out.println("  🔬 You were one of PharmaCorp's top scientists, working on the classified");
-        System.out.println("     Project Eden-9.");
-        System.out.println("  ⚠️  But behind the closed doors of the facility, dark secrets lurked...");
-        System.out.println("  💉  Unethical experiments. Human trials gone wrong. A truth too dangerous");
-        System.out.println("     to ignore.");
-        System.out.println("  🛑  The moment you uncovered the reality, you became a liability.");
-        System.out.println("  🏃  Now, with security forces closing in and a labyrinthine lab to escape,");
-        System.out.println("  🔎  Your survival depends on your intelligence, resourcefulness, and the");
-        System.out.println("     choices you make.");
-        System.out.println("┣━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┫");
-        System.out.println("  🔦 The truth is out there. But will you live long enough to expose it?");
-        System.out.println("┗━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┛\n");
+        GameOutput.println("┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓");
+        GameOutput.println("                             📝 ** P R O L O G U E **");
+        GameOutput.println("┣━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┫");
+        GameOutput.println("  🔬 You were one of PharmaCorp's top scientists, working on the classified");
+        GameOutput.println("     Project Eden-9.");
+        GameOutput.println("  ⚠️  But behind the closed doors of the facility, dark secrets lurked...");
+        GameOutput.println("  💉  Unethical experiments. Human trials gone wrong. A truth too dangerous");
+        GameOutput.println("     to ignore.");
+        GameOutput.println("  🛑  The moment you uncovered the reality, you became a liability.");
+        GameOutput.println("  🏃  Now, with security forces closing in and a labyrinthine lab to escape,");
+        GameOutput.println("  🔎  Your survival depends on your intelligence, resourcefulness, and the");
+        GameOutput.println("     choices you make.");
+        GameOutput.println("┣━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┫");
+        GameOutput.println("  🔦 The truth is out there. But will you live long enough to expose it?");
+        GameOutput.println("┗━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┛\n");
 
     }
 
@@ -139,38 +347,38 @@ public class Game {
     private static HeroCreationOptions getHeroCreationOptions() {
         String playerName = "";
         while (!isNameValid(playerName)) {
-            System.out.print("\uD83E\uDDD1\u200D\uD83D\uDD2C Enter your name: ");
+            GameOutput.print("\uD83E\uDDD1\u200D\uD83D\uDD2C Enter your name: ");
             playerName = GameScanner.getString();
         }
 
         // Choose Hero Type
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.printf("  🦸 %s, choose your hero type:\n", playerName);
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("  1️⃣ Pharmacologist Hacker  🧪");
-        System.out.println("     🕵️ A cyber-genius skilled in hacking secure systems.");
-        System.out.println("     ☠️ Masters deadly toxins and biochemical warfare.\n");
-        System.out.println("  2️⃣ Bioengineer  🔬");
-        System.out.println("     🏥 A scientist who enhances the human body.");
-        System.out.println("     🌱 Can regenerate quickly and modify biology for survival.\n");
-        System.out.println("  3️⃣ Tactical Chemist  💣");
-        System.out.println("     🎯 A demolitions expert using precision chemical explosives.");
-        System.out.println("     ⚡ Masters reactive combat and volatile concoctions.\n");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.printf("  🦸 %s, choose your hero type:\n", playerName);
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("  1️⃣ Pharmacologist Hacker  🧪");
+        GameOutput.println("     🕵️ A cyber-genius skilled in hacking secure systems.");
+        GameOutput.println("     ☠️ Masters deadly toxins and biochemical warfare.\n");
+        GameOutput.println("  2️⃣ Bioengineer  🔬");
+        GameOutput.println("     🏥 A scientist who enhances the human body.");
+        GameOutput.println("     🌱 Can regenerate quickly and modify biology for survival.\n");
+        GameOutput.println("  3️⃣ Tactical Chemist  💣");
+        GameOutput.println("     🎯 A demolitions expert using precision chemical explosives.");
+        GameOutput.println("     ⚡ Masters reactive combat and volatile concoctions.\n");
 
         int heroChoice = GameScanner.getIntInRange("Enter your choice ", 1, 3);
 
         // Choose Difficulty
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("               🎮 Choose Your Difficulty:");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("1️⃣ Easy  🟢");
-        System.out.println("   ✅ 300 Stat Points");
-        System.out.println("   💰 20 Gold");
-        System.out.println("   🛡️ A safer start, but danger still lurks...");
-        System.out.println("\n2️⃣ Hard  🔴");
-        System.out.println("   ⚠️ 220 Stat Points");
-        System.out.println("   💰 15 Gold");
-        System.out.println("   ☠️ A true challenge for the brave!\n");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("               🎮 Choose Your Difficulty:");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("1️⃣ Easy  🟢");
+        GameOutput.println("   ✅ 300 Stat Points");
+        GameOutput.println("   💰 20 Gold");
+        GameOutput.println("   🛡️ A safer start, but danger still lurks...");
+        GameOutput.println("\n2️⃣ Hard  🔴");
+        GameOutput.println("   ⚠️ 220 Stat Points");
+        GameOutput.println("   💰 15 Gold");
+        GameOutput.println("   ☠️ A true challenge for the brave!\n");
 
         int difficultyChoice = GameScanner.getIntInRange("Enter your choice ", 1, 2);
         int statPoints = (difficultyChoice == 1) ? 300 : 220;
@@ -181,32 +389,32 @@ public class Game {
         int strength = 10;
         statPoints -= 100;
 
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.printf("🎮 You start with: %d 💗 HP  |  %d 💪 Strength\n", health, strength);
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.printf("🎮 You start with: %d 💗 HP  |  %d 💪 Strength\n", health, strength);
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
         while (statPoints > 0) {
-            System.out.println("🔹 Remaining stat points: " + statPoints);
-            System.out.println("📌 Points can be allocated between HP and Strength.");
-            System.out.println("   ⚡ 1 stat point = 1 💗 HP");
-            System.out.println("   🔥 5 stat points = 1 💪 Strength");
+            GameOutput.println("🔹 Remaining stat points: " + statPoints);
+            GameOutput.println("📌 Points can be allocated between HP and Strength.");
+            GameOutput.println("   ⚡ 1 stat point = 1 💗 HP");
+            GameOutput.println("   🔥 5 stat points = 1 💪 Strength");
 
             // Allocate HP
             int hpPoints = GameScanner.getIntInRange("\n➡️ Allocate points to HP: ", 0, statPoints);
             health += hpPoints;
             statPoints -= hpPoints;
 
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.println("📊 Current Stats:");
-            System.out.printf("   ❤ HP: %d   💪 Strength: %d\n", health, strength);
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            GameOutput.println("📊 Current Stats:");
+            GameOutput.printf("   ❤ HP: %d   💪 Strength: %d\n", health, strength);
+            GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
             // Allocate Strength (if any points remain)
             if (statPoints > 0) {
                 int maxStrength = statPoints / 5;
-                System.out.println("💪 You can allocate up to " + maxStrength + " Strength.");
-                System.out.println("   (1 Strength = 5 stat points)\n");
-                System.out.print("🔸 Would you like to allocate all remaining points to Strength? (Y/N): ");
+                GameOutput.println("💪 You can allocate up to " + maxStrength + " Strength.");
+                GameOutput.println("   (1 Strength = 5 stat points)\n");
+                GameOutput.print("🔸 Would you like to allocate all remaining points to Strength? (Y/N): ");
                 String choice = GameScanner.getString();
 
                 if (choice.equalsIgnoreCase("y")) {
@@ -221,7 +429,7 @@ public class Game {
                     health += statPoints;
                     statPoints = 0;
                 } else {
-                    System.out.println("❌ Invalid choice. Please enter Y or N.");
+                    GameOutput.println("❌ Invalid choice. Please enter Y or N.");
                 }
             }
         }
@@ -253,15 +461,15 @@ public class Game {
         }
 
         // Character Passport display
-        System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("🎫 **CHARACTER PASSPORT** 🎫");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.printf("\uD83E\uDDD1\u200D\uD83D\uDD2C Name: %s\n", options.getPlayerName());
-        System.out.printf("🏷️ Class: %s\n", heroType);
-        System.out.printf("💗 HP: %d\n", options.getHealth());
-        System.out.printf("💪 Strength: %d\n", options.getStrength());
-        System.out.printf("💰 Gold: %d\n", options.getGold());
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("🎫 **CHARACTER PASSPORT** 🎫");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.printf("\uD83E\uDDD1\u200D\uD83D\uDD2C Name: %s\n", options.getPlayerName());
+        GameOutput.printf("🏷️ Class: %s\n", heroType);
+        GameOutput.printf("💗 HP: %d\n", options.getHealth());
+        GameOutput.printf("💪 Strength: %d\n", options.getStrength());
+        GameOutput.printf("💰 Gold: %d\n", options.getGold());
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
         return hero;
     }
@@ -277,11 +485,11 @@ public class Game {
 
         ArrayList<Enemy> finalEnemies = new ArrayList<Enemy>();
         Random random = GameRandom.getInstance();
-        List<Enemy> possibleEnemies = NPCRegistry.FINAL_BOSS;
-        // At least 1 enemy
+        List<EnemyTemplate> possibleEnemies = NPCRegistry.FINAL_BOSS;
+        // At least 1 enemy, and a boss drawn twice is fought twice
         int numberOfEnemies = random.nextInt(possibleEnemies.size()) + 1;
         for (int i = 0; i < numberOfEnemies; i++) {
-            finalEnemies.add(possibleEnemies.get(random.nextInt(possibleEnemies.size())));
+            finalEnemies.add(possibleEnemies.get(random.nextInt(possibleEnemies.size())).spawn());
         }
         Battle finalBattle = new Battle(player, finalEnemies, survivingFriends);
         finalBattle.start();
@@ -293,7 +501,7 @@ public class Game {
      * @param player The hero character.
      */
     private static void showEndScreen(Hero player) {
-        System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
         if (player.getCurrentHp() > 0) {
             escapeTheLabScreen();
@@ -301,7 +509,7 @@ public class Game {
             showDefeatScreen();
         }
 
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
     }
 
 }
@@ -0,0 +1,37 @@
+package src.game;
+
+/**
+ * Tells the time to a game session, so sessions can be run against a clock
+ * other than the system one.
+ */
+public interface GameClock {
+    /**
+     * The clock of the machine.
+     */
+    GameClock SYSTEM = new GameClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    /**
+     * Reads a time only meant to measure elapsed time, like
+     * {@link System#nanoTime()}.
+     *
+     * @return The time, in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Reads the wall clock, like {@link System#currentTimeMillis()}.
+     *
+     * @return The milliseconds since the epoch.
+     */
+    long currentTimeMillis();
+}
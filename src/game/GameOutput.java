@@ -0,0 +1,175 @@
+package src.game;
+
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility class that routes the output of the current game session to its
+ * replaceable sink.
+ * Output goes to the console by default and can be turned off for headless runs.
+ * The console is buffered: a whole screen reaches the terminal at once when
+ * {@link #flush()} is called, which happens before every input read.
+ */
+public class GameOutput {
+    private static final int CONSOLE_BUFFER_SIZE = 1 << 16;
+    // Shared by every session playing on the console
+    static final PrintStream CONSOLE = new PrintStream(
+            new BufferedOutputStream(System.out, CONSOLE_BUFFER_SIZE), false, System.out.charset());
+
+    static {
+        // Whatever is still buffered is written when the program ends
+        Runtime.getRuntime().addShutdownHook(new Thread(CONSOLE::flush));
+    }
+
+    // Private constructor to prevent instantiation
+    private GameOutput() {
+    }
+
+    /**
+     * Replaces the stream that receives the game output.
+     *
+     * @param stream The new output stream, or null to discard all output.
+     */
+    public static void setSink(PrintStream stream) {
+        GameSession.current().setOutput(stream);
+    }
+
+    /**
+     * Gets the stream that receives the game output, so it can be put back after
+     * muting the output for a while.
+     *
+     * @return The output stream, or null if output is discarded.
+     */
+    public static PrintStream getSink() {
+        return GameSession.current().getOutput();
+    }
+
+    /**
+     * Discards all game output until a new sink is set.
+     */
+    public static void mute() {
+        GameSession.current().setOutput(null);
+    }
+
+    /**
+     * Checks if there is a sink receiving the game output.
+     *
+     * @return True if output is being written somewhere, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return getSink() != null;
+    }
+
+    /**
+     * Enables or disables full-screen views that redraw in place with ANSI escape
+     * codes. Only enable it when the sink is a terminal that understands them.
+     *
+     * @param enabled True to use ANSI views, false for plain text.
+     */
+    public static void setAnsi(boolean enabled) {
+        GameSession.current().setAnsi(enabled);
+    }
+
+    /**
+     * Checks if full-screen ANSI views should be used.
+     *
+     * @return True if ANSI views are enabled and output is not discarded.
+     */
+    public static boolean isAnsi() {
+        GameSession session = GameSession.current();
+        return session.isAnsi() && session.getOutput() != null;
+    }
+
+    /**
+     * Gets the character set the sink encodes text with.
+     *
+     * @return The charset of the sink, or UTF-8 if output is discarded.
+     */
+    public static Charset getCharset() {
+        PrintStream sink = getSink();
+        return sink != null ? sink.charset() : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Sends everything written so far to its destination.
+     */
+    public static void flush() {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.flush();
+        }
+    }
+
+    /**
+     * Writes a line of text.
+     *
+     * @param line The text to write.
+     */
+    public static void println(String line) {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.println(line);
+        }
+    }
+
+    /**
+     * Writes an empty line.
+     */
+    public static void println() {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.println();
+        }
+    }
+
+    /**
+     * Writes text without a line break.
+     *
+     * @param text The text to write.
+     */
+    public static void print(String text) {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.print(text);
+        }
+    }
+
+    /**
+     * Writes formatted text.
+     *
+     * @param format The format string.
+     * @param args   The format arguments.
+     */
+    public static void printf(String format, Object... args) {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.printf(format, args);
+        }
+    }
+
+    /**
+     * Writes text without a line break, without copying it to a new string.
+     *
+     * @param text The text to write.
+     */
+    public static void print(CharSequence text) {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.append(text);
+        }
+    }
+
+    /**
+     * Writes text that was encoded in advance, without encoding it again.
+     *
+     * @param text The text to write.
+     */
+    public static void print(EncodedText text) {
+        PrintStream sink = getSink();
+        if (sink != null) {
+            sink.writeBytes(text.getBytes(sink.charset()));
+        }
+    }
+}
@@ -3,36 +3,116 @@ package src.game;
 import java.util.Random;
 
 /**
- * A utility class to provide a globally accessible Random instance with a seed.
+ * A utility class to provide the seeded Random instance of the current game
+ * session. Each session has its own instance, so that games and simulations
+ * can run in parallel while every one of them keeps a deterministic random
+ * stream.
  */
 public class GameRandom {
-    private static Random random;
-    private static long seed;
-
     /**
-     * Initializes the random instance with a given seed.
-     * This should be called once at the start of the game.
+     * Initializes the random instance of the current session with a given seed.
+     * This should be called once at the start of the game, or before every
+     * simulated battle.
      */
     public static void initialize(long gameSeed) {
-        seed = gameSeed;
-        random = new Random(seed);
+        GameSession.current().setRandom(gameSeed, new StateRandom(gameSeed));
     }
 
     /**
-     * Returns the shared Random instance.
+     * Returns the Random instance of the current session.
      * Ensures that the game uses consistent randomness across all classes.
      */
     public static Random getInstance() {
-        if (random == null) {
-            throw new IllegalStateException("GameRandom has not been initialized. Call initialize(seed) first.");
-        }
-        return random;
+        return current();
     }
 
     /**
      * Gets the current game seed.
      */
     public static long getSeed() {
-        return seed;
+        return GameSession.current().getSeed();
+    }
+
+    /**
+     * Gets the position of the random stream of the current session, so a saved
+     * game can continue with the same numbers.
+     *
+     * @return The internal state of the generator.
+     */
+    public static long getState() {
+        return current().state;
+    }
+
+    /**
+     * Moves the random stream of the current session to a saved position.
+     * The instance itself is kept, since entities hold on to it.
+     *
+     * @param gameSeed The seed the game was started with.
+     * @param state    The state returned by {@link #getState()}.
+     */
+    public static void restore(long gameSeed, long state) {
+        GameSession.current().setSeed(gameSeed);
+        current().state = state & StateRandom.MASK;
+    }
+
+    /**
+     * Gets the random instance of the current session.
+     *
+     * @return The instance.
+     * @throws IllegalStateException if it was not initialized.
+     */
+    private static StateRandom current() {
+        StateRandom instance = GameSession.current().getRandom();
+        if (instance == null) {
+            throw new IllegalStateException("GameRandom has not been initialized. Call initialize(seed) first.");
+        }
+        return instance;
+    }
+
+    /**
+     * The generator of java.util.Random, producing the same numbers for the same
+     * seed, with a state that can be read and set. Each instance belongs to one
+     * session, used by one thread at a time, so the state is a plain field
+     * instead of an atomic one.
+     */
+    static final class StateRandom extends Random {
+        private static final long serialVersionUID = 1L;
+        private static final long MULTIPLIER = 0x5DEECE66DL;
+        private static final long ADDEND = 0xBL;
+        private static final long MASK = (1L << 48) - 1;
+
+        private long state;
+
+        /**
+         * Constructs a generator.
+         *
+         * @param seed The seed.
+         */
+        StateRandom(long seed) {
+            super(seed);
+        }
+
+        /**
+         * Resets the generator to a seed, scrambled like java.util.Random does.
+         *
+         * @param seed The seed.
+         */
+        @Override
+        public synchronized void setSeed(long seed) {
+            super.setSeed(seed);
+            state = (seed ^ MULTIPLIER) & MASK;
+        }
+
+        /**
+         * Generates the next random bits.
+         *
+         * @param bits The number of bits.
+         * @return The bits, in the lowest positions.
+         */
+        @Override
+        protected int next(int bits) {
+            state = (state * MULTIPLIER + ADDEND) & MASK;
+            return (int) (state >>> (48 - bits));
+        }
     }
 }
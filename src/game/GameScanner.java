@@ -3,15 +3,38 @@ package src.game;
 import java.util.Scanner;
 
 /**
- * Singleton class for handling user input with helper methods.
+ * Utility class for handling the input of the current game session with helper
+ * methods.
+ * Pending game output is flushed before every read, so the player always sees
+ * the whole screen before being asked for input.
  */
 public class GameScanner {
-    private static final Scanner scanner = new Scanner(System.in);
+    // Shared by every session playing on the console
+    static final InputSource CONSOLE = new Scanner(System.in)::nextLine;
 
     // Private constructor to prevent instantiation
     private GameScanner() {
     }
 
+    /**
+     * Replaces where the player's input is read from in the current session.
+     *
+     * @param source The new input source.
+     * @throws IllegalArgumentException if the source is null.
+     */
+    public static void setInput(InputSource source) {
+        GameSession.current().setInput(source);
+    }
+
+    /**
+     * Gets where the player's input is read from in the current session.
+     *
+     * @return The current input source, the console by default.
+     */
+    public static InputSource getInput() {
+        return GameSession.current().getInput();
+    }
+
     /**
      * Reads an integer input safely, handling invalid input.
      * 
@@ -20,9 +43,10 @@ public class GameScanner {
     public static int getInt() {
         while (true) {
             try {
-                return Integer.parseInt(scanner.nextLine().trim());
+                GameOutput.flush();
+                return Integer.parseInt(getInput().nextLine().trim());
             } catch (NumberFormatException e) {
-                System.out.println("❌ Invalid input. Please enter a number.");
+                GameOutput.println("❌ Invalid input. Please enter a number.");
             }
         }
     }
@@ -36,14 +60,14 @@ public class GameScanner {
      */
     public static int getIntInRange(String prompt, int min, int max) {
         if (!prompt.isEmpty()) {
-            System.out.print(prompt + "(" + min + "," + max + "): ");
+            GameOutput.print(prompt + "(" + min + "," + max + "): ");
         }
         while (true) {
             int value = getInt();
             if (value >= min && value <= max) {
                 return value;
             }
-            System.out.println("❌ Please enter a number between " + min + " and " + max + ".");
+            GameOutput.println("❌ Please enter a number between " + min + " and " + max + ".");
         }
     }
 
@@ -53,14 +77,16 @@ public class GameScanner {
      * @return The user input as a trimmed string.
      */
     public static String getString() {
-        return scanner.nextLine().trim();
+        GameOutput.flush();
+        return getInput().nextLine().trim();
     }
 
     /**
      * Waits for the player to press Enter.
      */
     public static void waitForEnter() {
-        System.out.println("Press Enter to continue ➡️");
-        scanner.nextLine();
+        GameOutput.println("Press Enter to continue ➡️");
+        GameOutput.flush();
+        getInput().nextLine();
     }
 }
@@ -0,0 +1,319 @@
+package src.game;
+
+import src.ai.BattleAI;
+import src.ai.SearchBattleAI;
+import src.entities.NPCRegistry;
+import src.events.GameListener;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Everything one game needs that used to be shared by the whole program: the
+ * random stream, where input comes from, where output goes, whether music
+ * plays, the event listeners, the clock and the NPCs of the registry.
+ * A session is bound to the thread running its game, and the static helpers
+ * such as {@link GameRandom}, {@link GameScanner}, {@link GameOutput},
+ * {@link src.utils.Audio} and {@link src.events.GameEvents} work on the session
+ * of the current thread.
+ * Games in different sessions share no mutable state, so they can run on
+ * separate threads. A session must only be used by one thread at a time.
+ */
+public final class GameSession {
+    // Threads that never bound a session get their own console session
+    private static final ThreadLocal<GameSession> current = ThreadLocal.withInitial(GameSession::new);
+
+    private final GameClock clock;
+    private InputSource input;
+    private PrintStream output;
+    private boolean ansi = false;
+    private boolean music = true;
+    private GameRandom.StateRandom random;
+    private long seed = 0;
+    // Replaced on every change, so publishing never sees a half-updated array
+    private GameListener[] listeners = new GameListener[0];
+    private Supplier<BattleAI> bossAI = SearchBattleAI::new;
+    // Created the first time the game needs an NPC
+    private NPCRegistry npcs;
+    private boolean legacyEnemyRolls = false;
+
+    /**
+     * Constructs a session playing on the console.
+     */
+    public GameSession() {
+        this(GameScanner.CONSOLE, GameOutput.CONSOLE, GameClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a session.
+     *
+     * @param input  Where the player's input is read from.
+     * @param output The stream receiving the game output, or null to discard it.
+     * @param clock  The clock of the session.
+     * @throws IllegalArgumentException if the input or the clock is null.
+     */
+    public GameSession(InputSource input, PrintStream output, GameClock clock) {
+        if (input == null || clock == null) {
+            throw new IllegalArgumentException("Input and clock cannot be null.");
+        }
+        this.input = input;
+        this.output = output;
+        this.clock = clock;
+    }
+
+    /**
+     * Constructs a session for games that run without a player, such as
+     * simulations: output is discarded, no music plays and reading input fails.
+     *
+     * @return The session.
+     */
+    public static GameSession headless() {
+        GameSession session = new GameSession(() -> {
+            throw new NoSuchElementException("A headless session has no input.");
+        }, null, GameClock.SYSTEM);
+        session.setMusicEnabled(false);
+        return session;
+    }
+
+    /**
+     * Gets the session of the current thread.
+     *
+     * @return The session the thread is bound to, or a console session of its own
+     *         if it was never bound to one.
+     */
+    public static GameSession current() {
+        return current.get();
+    }
+
+    /**
+     * Runs a task with this session bound to the current thread, then binds the
+     * thread back to its previous session.
+     *
+     * @param task The task, typically a whole game.
+     */
+    public void run(Runnable task) {
+        GameSession previous = current.get();
+        current.set(this);
+        try {
+            task.run();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * Gets the clock of the session.
+     *
+     * @return The clock.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets where the player's input is read from.
+     *
+     * @return The input source.
+     */
+    public InputSource getInput() {
+        return input;
+    }
+
+    /**
+     * Replaces where the player's input is read from.
+     *
+     * @param source The new input source.
+     * @throws IllegalArgumentException if the source is null.
+     */
+    public void setInput(InputSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Input source cannot be null.");
+        }
+        input = source;
+    }
+
+    /**
+     * Gets the stream receiving the game output.
+     *
+     * @return The stream, or null if output is discarded.
+     */
+    public PrintStream getOutput() {
+        return output;
+    }
+
+    /**
+     * Replaces the stream receiving the game output.
+     *
+     * @param stream The new stream, or null to discard all output.
+     */
+    public void setOutput(PrintStream stream) {
+        output = stream;
+    }
+
+    /**
+     * Checks if full-screen ANSI views are enabled.
+     *
+     * @return True if they are enabled, even if output is discarded.
+     */
+    boolean isAnsi() {
+        return ansi;
+    }
+
+    /**
+     * Enables or disables full-screen ANSI views.
+     *
+     * @param enabled True to use ANSI views, false for plain text.
+     */
+    public void setAnsi(boolean enabled) {
+        ansi = enabled;
+    }
+
+    /**
+     * Checks if music plays in this session.
+     *
+     * @return True if music plays.
+     */
+    public boolean isMusicEnabled() {
+        return music;
+    }
+
+    /**
+     * Enables or disables music, for sessions whose player is not at this
+     * machine or that run without a player.
+     *
+     * @param enabled True to play music, false to skip it.
+     */
+    public void setMusicEnabled(boolean enabled) {
+        music = enabled;
+    }
+
+    /**
+     * Gets the random stream of the session.
+     *
+     * @return The generator, or null if the session has no seed yet.
+     */
+    GameRandom.StateRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the seed the random stream was started with.
+     *
+     * @return The seed.
+     */
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the random stream of the session.
+     *
+     * @param gameSeed  The seed of the stream.
+     * @param generator The generator, already seeded.
+     */
+    void setRandom(long gameSeed, GameRandom.StateRandom generator) {
+        seed = gameSeed;
+        random = generator;
+    }
+
+    /**
+     * Changes the seed reported for the random stream, without touching the
+     * stream itself.
+     *
+     * @param gameSeed The seed.
+     */
+    void setSeed(long gameSeed) {
+        seed = gameSeed;
+    }
+
+    /**
+     * Gets the listeners of the events published in this session.
+     *
+     * @return The listeners. The array is replaced rather than changed, and must
+     *         not be modified.
+     */
+    public GameListener[] getListeners() {
+        return listeners;
+    }
+
+    /**
+     * Adds a listener that receives every event published from now on.
+     *
+     * @param listener The listener to add.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public void subscribe(GameListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        GameListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a listener. Does nothing if it was not subscribed.
+     *
+     * @param listener The listener to remove.
+     */
+    public void unsubscribe(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] updated = new GameListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates the AI of the bosses of a new battle.
+     *
+     * @return The AI.
+     */
+    BattleAI createBossAI() {
+        return bossAI.get();
+    }
+
+    /**
+     * Replaces the AI given to the bosses of every battle created from now on.
+     *
+     * @param factory Creates a new boss AI for each battle.
+     * @throws IllegalArgumentException if the factory is null.
+     */
+    public void setBossAI(Supplier<BattleAI> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Boss AI factory cannot be null.");
+        }
+        bossAI = factory;
+    }
+
+    /**
+     * Makes the registry of the session draw the random numbers it drew before
+     * enemies were templates, to replay an input journal recorded back then.
+     * Must be set before the game first needs an NPC.
+     *
+     * @param legacy True to draw them, false for new games.
+     */
+    public void setLegacyEnemyRolls(boolean legacy) {
+        legacyEnemyRolls = legacy;
+    }
+
+    /**
+     * Gets the NPCs of the session, creating them the first time.
+     * Creating them may draw random numbers, so they are only created when the
+     * game first needs them.
+     *
+     * @return The registry of the session.
+     */
+    public NPCRegistry getNPCs() {
+        if (npcs == null) {
+            npcs = new NPCRegistry(legacyEnemyRolls);
+        }
+        return npcs;
+    }
+}
@@ -0,0 +1,46 @@
+package src.game;
+
+import src.actions.BattleAction;
+import src.entities.Entity;
+import src.entities.Hero;
+
+import java.util.List;
+
+/**
+ * Source of the decisions the hero makes during a battle.
+ * The console implementation asks the player, other implementations can decide
+ * automatically so that battles run without anyone at a terminal.
+ */
+public interface HeroController {
+
+    /**
+     * Chooses the action the hero performs this turn.
+     *
+     * @param battle  The current battle instance.
+     * @param actions The actions the hero can currently perform.
+     * @return The chosen action, or null if the choice was invalid and should be
+     *         asked again.
+     */
+    BattleAction chooseAction(Battle battle, List<BattleAction> actions);
+
+    /**
+     * Chooses the target of an action when there is more than one valid target.
+     *
+     * @param battle  The current battle instance.
+     * @param action  The action being performed.
+     * @param targets The valid targets for the action.
+     * @return The chosen target, or null if the choice was invalid and the turn
+     *         should start over.
+     */
+    Entity chooseTarget(Battle battle, BattleAction action, List<Entity> targets);
+
+    /**
+     * Chooses an item from the hero's inventory.
+     *
+     * @param battle The current battle instance.
+     * @param player The hero using the item.
+     * @return The position of the item in the inventory (starting at 1), or 0 to
+     *         cancel.
+     */
+    int chooseItem(Battle battle, Hero player);
+}
@@ -0,0 +1,175 @@
+package src.game;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A recorded game session: the seed of the game and every line the player
+ * entered, in order.
+ * Since all randomness comes from the seed, feeding the same lines back replays
+ * the session exactly.
+ * The journal is a UTF-8 text file whose first line is the header and the seed,
+ * followed by one line per input. Journals with the version 1 header were
+ * recorded when the NPC registry still drew random numbers for its enemies, and
+ * are replayed with the same draws.
+ */
+public final class InputJournal {
+    private static final String HEADER = "LCJ2";
+    private static final String LEGACY_HEADER = "LCJ1";
+
+    private final long seed;
+    private final List<String> inputs;
+    private final boolean legacyEnemyRolls;
+
+    /**
+     * Constructs a journal from its contents.
+     *
+     * @param seed             The seed of the recorded game.
+     * @param inputs           The recorded lines.
+     * @param legacyEnemyRolls Whether the game was recorded with the version 1
+     *                         format.
+     */
+    private InputJournal(long seed, List<String> inputs, boolean legacyEnemyRolls) {
+        this.seed = seed;
+        this.inputs = inputs;
+        this.legacyEnemyRolls = legacyEnemyRolls;
+    }
+
+    /**
+     * Reads a journal from a file.
+     *
+     * @param path The journal file.
+     * @return The loaded journal.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a journal.
+     */
+    public static InputJournal load(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException(path + " is empty.");
+        }
+
+        String[] header = lines.getFirst().split(" ");
+        if (header.length != 2 || !(header[0].equals(HEADER) || header[0].equals(LEGACY_HEADER))) {
+            throw new IllegalArgumentException(path + " is not an input journal.");
+        }
+        try {
+            return new InputJournal(Long.parseLong(header[1]), lines.subList(1, lines.size()),
+                    header[0].equals(LEGACY_HEADER));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(path + " has an invalid seed: " + header[1]);
+        }
+    }
+
+    /**
+     * Starts recording a session. Every line read from the returned source is
+     * also written to the journal file, which is flushed right away so a session
+     * that crashes is still complete.
+     *
+     * @param path   The journal file, replaced if it exists.
+     * @param seed   The seed of the game being recorded.
+     * @param source Where the lines really come from.
+     * @return A source that records the lines it reads.
+     * @throws IOException if the file cannot be created.
+     */
+    public static InputSource record(Path path, long seed, InputSource source) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writer.write(HEADER + " " + seed);
+        writer.newLine();
+        writer.flush();
+
+        return () -> {
+            String line = source.nextLine();
+            try {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not record input.", e);
+            }
+            return line;
+        };
+    }
+
+    /**
+     * Gets the seed of the recorded game.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks if the game was recorded when the NPC registry still drew random
+     * numbers for its enemies, so the replay must draw them too.
+     *
+     * @return True for version 1 journals.
+     */
+    public boolean hasLegacyEnemyRolls() {
+        return legacyEnemyRolls;
+    }
+
+    /**
+     * Gets the number of recorded lines.
+     *
+     * @return The number of inputs.
+     */
+    public int size() {
+        return inputs.size();
+    }
+
+    /**
+     * Creates a source that returns the recorded lines from the start.
+     *
+     * @return A new replay of the journal.
+     */
+    public Replay replay() {
+        return new Replay();
+    }
+
+    /**
+     * Source that returns the recorded lines one by one.
+     */
+    public final class Replay implements InputSource {
+        private int position = 0;
+
+        /**
+         * Returns the next recorded line.
+         *
+         * @return The line.
+         * @throws NoSuchElementException if every line was already returned.
+         */
+        @Override
+        public String nextLine() {
+            if (position == inputs.size()) {
+                throw new NoSuchElementException("Input journal ended after " + position + " inputs.");
+            }
+            return inputs.get(position++);
+        }
+
+        /**
+         * Gets the number of lines returned so far.
+         *
+         * @return The replay position.
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Checks if every recorded line was returned.
+         *
+         * @return True if the journal is exhausted, false otherwise.
+         */
+        public boolean isFinished() {
+            return position == inputs.size();
+        }
+    }
+}
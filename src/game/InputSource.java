@@ -0,0 +1,19 @@
+package src.game;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Supplies the lines typed by the player, from the console or from a recorded
+ * session.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /**
+     * Reads the next line of input, blocking until it is available.
+     *
+     * @return The line, without its line terminator.
+     * @throws NoSuchElementException if there is no input left.
+     */
+    String nextLine();
+}
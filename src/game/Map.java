@@ -1,7 +1,10 @@
 package src.game;
 
 import src.entities.*;
+import src.events.GameEvents;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -12,6 +15,9 @@ public class Map {
     private final List<Room> rooms;
     private boolean complexExitUnlocked = false;
     private final Random rand;
+    private int currentRoomIndex = -1;
+    // True while the player is in the current room after winning its battle
+    private boolean afterBattle = false;
 
     /**
      * Constructs the game map and initializes rooms.
@@ -23,6 +29,21 @@ public class Map {
         initializeRooms();
     }
 
+    /**
+     * Constructs a map from a saved game.
+     *
+     * @param rooms            The rooms, in their original order.
+     * @param currentRoomIndex The room the player was in.
+     * @param afterBattle      Whether the player just won the battle of that
+     *                         room, rather than finished it.
+     */
+    public Map(List<Room> rooms, int currentRoomIndex, boolean afterBattle) {
+        this.rooms = new ArrayList<>(rooms);
+        this.rand = GameRandom.getInstance();
+        this.currentRoomIndex = currentRoomIndex;
+        this.afterBattle = afterBattle;
+    }
+
     /**
      * Picks a random NPC from the list of available NPCs and removes it to ensure
      * it can't be repeated.
@@ -55,7 +76,7 @@ public class Map {
      * Creates different rooms with predefined enemies and NPCs.
      */
     private void initializeRooms() {
-        List<FriendlyNPC> availableNPCs = new ArrayList<>(NPCRegistry.FRIENDLY_NPC);
+        List<FriendlyNPC> availableNPCs = new ArrayList<>(NPCRegistry.current().getFriendlyNPCs());
 
         // Create rooms with predefined enemies and NPCs
         rooms.add(new Room("Biological Research Lab", NPCRegistry.LAB_ENEMIES,
@@ -81,23 +102,67 @@ public class Map {
      * @param player The hero navigating the rooms.
      */
     public void startExploring(Hero player) {
-        int currentRoomIndex = selectStartingRoom();
+        currentRoomIndex = selectStartingRoom();
+        explore(player, true);
+    }
+
+    /**
+     * Continues a saved game, either after the battle of the current room or
+     * where the player chooses the next room to explore.
+     *
+     * @param player The hero navigating the rooms.
+     */
+    public void resumeExploring(Hero player) {
+        explore(player, false);
+    }
 
+    /**
+     * Moves the player from room to room until the exit is unlocked or the
+     * player dies.
+     *
+     * @param player     The hero navigating the rooms.
+     * @param enterFirst Whether the player enters the current room first, rather
+     *                   than continuing a saved game.
+     */
+    private void explore(Hero player, boolean enterFirst) {
+        boolean enterRoom = enterFirst;
         while (true) {
             Room currentRoom = rooms.get(currentRoomIndex);
-            currentRoom.enter(player);
+            if (enterRoom) {
+                currentRoom.enter(player);
+
+                if (currentRoom.hasBattle()) {
+                    // If the player dies, stop further events
+                    if (player.getCurrentHp() <= 0) {
+                        break;
+                    }
 
-            if (player.getCurrentHp() <= 0) {
-                break;
+                    // The rest of the room can be played again from here
+                    afterBattle = true;
+                    GameEvents.checkpoint(this);
+                }
             }
 
-            checkUnlockConditions();
-            if (this.complexExitUnlocked) {
-                System.out.println("🔓 The Complex Exit is now unlocked!");
-                break;
+            if (enterRoom || afterBattle) {
+                afterBattle = false;
+                currentRoom.finishExploring(player);
+
+                if (player.getCurrentHp() <= 0) {
+                    break;
+                }
+
+                checkUnlockConditions();
+                if (this.complexExitUnlocked) {
+                    GameOutput.println("🔓 The Complex Exit is now unlocked!");
+                    break;
+                }
+
+                // Nothing is in progress while the player picks the next room
+                GameEvents.checkpoint(this);
             }
+            enterRoom = true;
 
-            System.out.println("\n📍 Choose where to go next:");
+            GameOutput.println("\n📍 Choose where to go next:");
             List<Integer> validChoices = new ArrayList<>();
 
             for (int i = 0; i < rooms.size(); i++) {
@@ -110,7 +175,7 @@ public class Map {
                     continue;
                 }
 
-                System.out.println((validChoices.size() + 1) + "️⃣ " + room.getName());
+                GameOutput.println((validChoices.size() + 1) + "️⃣ " + room.getName());
                 validChoices.add(i);
             }
 
@@ -126,21 +191,21 @@ public class Map {
      * @return The index of the selected room.
      */
     private int selectStartingRoom() {
-        System.out.println("\n🌍  **CHOOSE YOUR STARTING LOCATION**");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("\n🌍  **CHOOSE YOUR STARTING LOCATION**");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
         for (int i = 0; i < rooms.size(); i++) {
-            System.out.println((i + 1) + "️⃣ " + rooms.get(i).getName());
+            GameOutput.println((i + 1) + "️⃣ " + rooms.get(i).getName());
         }
-        System.out.println("\n🔒  ❌ Complex Exit is locked.\n");
+        GameOutput.println("\n🔒  ❌ Complex Exit is locked.\n");
 
         while (true) {
-            System.out.print("➡️  Enter your choice: ");
+            GameOutput.print("➡️  Enter your choice: ");
             int choice = GameScanner.getInt() - 1;
             if (choice >= 0 && choice < rooms.size()) {
                 return choice;
             }
-            System.out.println("⚠️ Invalid selection. Please choose a valid starting room.");
+            GameOutput.println("⚠️ Invalid selection. Please choose a valid starting room.");
         }
     }
 
@@ -157,6 +222,34 @@ public class Map {
         this.complexExitUnlocked = true;
     }
 
+    /**
+     * Gets the rooms of the map.
+     *
+     * @return A read-only list of the rooms.
+     */
+    public List<Room> getRooms() {
+        return Collections.unmodifiableList(rooms);
+    }
+
+    /**
+     * Gets the room the player is in.
+     *
+     * @return The index of the room, or -1 before the player chose where to
+     *         start.
+     */
+    public int getCurrentRoomIndex() {
+        return currentRoomIndex;
+    }
+
+    /**
+     * Checks if the player is in the current room after winning its battle.
+     *
+     * @return true after the battle, false once the room is finished.
+     */
+    public boolean isAfterBattle() {
+        return afterBattle;
+    }
+
     /**
      * Retrieves the list of surviving friendly NPCs from completed rooms.
      *
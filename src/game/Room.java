@@ -1,6 +1,7 @@
 package src.game;
 
 import src.entities.Enemy;
+import src.entities.EnemyTemplate;
 import src.entities.FriendlyNPC;
 import src.entities.Hero;
 import src.entities.Vendor;
@@ -9,6 +10,7 @@ import src.status.Burning;
 import src.status.Poisoned;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -28,35 +30,58 @@ public class Room {
      * Constructs a room with predefined enemies and NPC interactions.
      *
      * @param name            The name of the room.
-     * @param possibleEnemies The list of enemies that can appear in this room.
+     * @param possibleEnemies The templates of the enemies that can appear in this
+     *                        room.
      * @param friendlyNPC     The friendly NPC in this room (if any).
      * @param vendor          The vendor, if present.
      */
-    public Room(String name, List<Enemy> possibleEnemies, FriendlyNPC friendlyNPC, Vendor vendor) {
+    public Room(String name, List<EnemyTemplate> possibleEnemies, FriendlyNPC friendlyNPC, Vendor vendor) {
         this.name = name;
         this.random = GameRandom.getInstance();
         this.roomEnemies = new ArrayList<>();
 
         // Randomly select enemies to appear in the room
         if (possibleEnemies != null && !possibleEnemies.isEmpty()) {
-            this.roomEnemies.addAll(possibleEnemies);
+            ArrayList<EnemyTemplate> chosen = new ArrayList<>(possibleEnemies);
             // At least 1 enemy
             int numberOfEnemies = this.random.nextInt(possibleEnemies.size()) + 1;
-            while (this.roomEnemies.size() > numberOfEnemies) {
-                this.roomEnemies.remove(this.random.nextInt(this.roomEnemies.size()));
+            while (chosen.size() > numberOfEnemies) {
+                chosen.remove(this.random.nextInt(chosen.size()));
+            }
+            for (EnemyTemplate template : chosen) {
+                this.roomEnemies.add(template.spawn());
             }
         }
         this.friendlyNPC = friendlyNPC;
         this.vendor = vendor;
     }
 
+    /**
+     * Constructs a room from a saved game, with the enemies that were drawn for
+     * it.
+     *
+     * @param name        The name of the room.
+     * @param roomEnemies The enemies in the room.
+     * @param friendlyNPC The friendly NPC in this room (if any).
+     * @param vendor      The vendor, if present.
+     * @param completed   Whether the player already explored the room.
+     */
+    public Room(String name, List<Enemy> roomEnemies, FriendlyNPC friendlyNPC, Vendor vendor, boolean completed) {
+        this.name = name;
+        this.random = GameRandom.getInstance();
+        this.roomEnemies = new ArrayList<>(roomEnemies);
+        this.friendlyNPC = friendlyNPC;
+        this.vendor = vendor;
+        this.isCompleted = completed;
+    }
+
     private void continueStory(Hero player) {
         boolean continueJourney = false;
 
         while (!continueJourney) {
-            System.out.println("1️⃣ Hero Passport");
-            System.out.println("2️⃣ Check inventory");
-            System.out.println("Or continue the story ➡️");
+            GameOutput.println("1️⃣ Hero Passport");
+            GameOutput.println("2️⃣ Check inventory");
+            GameOutput.println("Or continue the story ➡️");
             String option = GameScanner.getString();
 
             switch (option) {
@@ -68,7 +93,7 @@ public class Room {
                     break;
 
                 default:
-                    System.out.println("\n\uD83C\uDF0D OUR JOURNEY CONTINUES...🥾");
+                    GameOutput.println("\n\uD83C\uDF0D OUR JOURNEY CONTINUES...🥾");
                     continueJourney = true;
                     break;
             }
@@ -80,27 +105,27 @@ public class Room {
 
     private void showInventory(Hero player) {
         while (true) {
-            System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.printf(" 💰 Gold: %d  |  ❤ HP: %d/%d\n", player.getGold(), player.getCurrentHp(),
+            GameOutput.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            GameOutput.printf(" 💰 Gold: %d  |  ❤ HP: %d/%d\n", player.getGold(), player.getCurrentHp(),
                     player.getMaxHp());
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
             player.showInventory();
             if (player.getInventory().getSize() == 0) {
-                System.out.println("📦 Your inventory is empty.");
+                GameOutput.println("📦 Your inventory is empty.");
                 break;
             }
-            System.out.println("\n🎒 Choose an item to use (or 0 to cancel): ");
+            GameOutput.println("\n🎒 Choose an item to use (or 0 to cancel): ");
             int itemChoice = GameScanner.getInt();
 
             if (itemChoice == 0) {
-                System.out.println("❌ Action canceled.\n");
+                GameOutput.println("❌ Action canceled.\n");
                 break;
             }
 
             // Validate selection
             if (itemChoice < 1 || itemChoice > player.getInventory().getSize()) {
-                System.out.println("❌ Invalid selection! Please choose a valid item.");
+                GameOutput.println("❌ Invalid selection! Please choose a valid item.");
                 break;
             }
 
@@ -117,39 +142,41 @@ public class Room {
                         player.addItemToInventory(currentWeapon);
                     }
                 } else {
-                    System.out.println("❌ You can't use this at the moment.");
+                    GameOutput.println("❌ You can't use this at the moment.");
                     return;
                 }
 
                 player.getInventory().removeItem(selectedItem);
                 break;
             } else {
-                System.out.println("❌ Something went wrong! Could not use item.");
+                GameOutput.println("❌ Something went wrong! Could not use item.");
             }
         }
     }
 
     /**
-     * Handles interactions and actions available in the room.
+     * Handles interactions and actions available in the room, up to the end of
+     * its battle. The room is explored until the end by
+     * {@link #finishExploring(Hero)} if the player survives.
      *
      * @param player The hero exploring the room.
      */
     public void enter(Hero player) {
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("🚪 Entering " + name + "...");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("🚪 Entering " + name + "...");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         continueStory(player);
 
         // Interact with NPC (if available)
         if (friendlyNPC != null) {
-            System.out.printf("\n🗣️  You encounter **%s**.\n", friendlyNPC.getName());
+            GameOutput.printf("\n🗣️  You encounter **%s**.\n", friendlyNPC.getName());
             friendlyNPC.interact(player);
             continueStory(player);
         }
 
         // Offer vendor interaction if is a vendor room
         if (this.vendor != null) {
-            System.out.printf("\n🛒  A vendor is present in **%s**.\n", name);
+            GameOutput.printf("\n🛒  A vendor is present in **%s**.\n", name);
             accessVendor(player);
             continueStory(player);
         }
@@ -159,12 +186,26 @@ public class Room {
             Battle battle = new Battle(player, this.roomEnemies,
                     friendlyNPC != null && friendlyNPC.willJoinBattle() ? new ArrayList<>(List.of(friendlyNPC)) : null);
             battle.start();
+        }
+    }
 
-            // If the player dies, stop further events
-            if (player.getCurrentHp() <= 0) {
-                return;
-            }
+    /**
+     * Checks if the room has a battle.
+     *
+     * @return true if enemies are waiting in the room.
+     */
+    public boolean hasBattle() {
+        return !this.roomEnemies.isEmpty();
+    }
 
+    /**
+     * Handles what happens in the room after its battle, then marks the room as
+     * completed. Must not be called if the player died in the battle.
+     *
+     * @param player The hero exploring the room.
+     */
+    public void finishExploring(Hero player) {
+        if (hasBattle()) {
             continueStory(player);
         }
 
@@ -174,7 +215,7 @@ public class Room {
         // Mark the room as completed
         isCompleted = true;
 
-        System.out.println("✅ You finished exploring " + name + ".");
+        GameOutput.println("✅ You finished exploring " + name + ".");
     }
 
     /**
@@ -186,20 +227,20 @@ public class Room {
         this.vendor.generateStoreInventory(player);
 
         while (true) {
-            System.out.println("\nChoose an option:");
-            System.out.println("1️⃣ Buy Items");
-            System.out.println("2️⃣ Sell Items");
-            System.out.println("0️⃣ Exit Shop");
+            GameOutput.println("\nChoose an option:");
+            GameOutput.println("1️⃣ Buy Items");
+            GameOutput.println("2️⃣ Sell Items");
+            GameOutput.println("0️⃣ Exit Shop");
 
             int choice = GameScanner.getInt();
             switch (choice) {
                 case 1 -> this.vendor.buyItems(player);
                 case 2 -> this.vendor.sellItems(player);
                 case 0 -> {
-                    System.out.println("🚪 You leave the vendor.\n");
+                    GameOutput.println("🚪 You leave the vendor.\n");
                     return;
                 }
-                default -> System.out.println("❌ Invalid choice! Try again.");
+                default -> GameOutput.println("❌ Invalid choice! Try again.");
             }
         }
     }
@@ -224,24 +265,24 @@ public class Room {
     }
 
     private void healingFountain(Hero player) {
-        System.out.println("\n🌊 You found a healing fountain!");
+        GameOutput.println("\n🌊 You found a healing fountain!");
         player.removeNegativeStatuses();
         player.heal(25);
-        System.out.println("💧 You feel refreshed and healed for 25 HP!\n");
+        GameOutput.println("💧 You feel refreshed and healed for 25 HP!\n");
     }
 
     /**
      * The player finds a hidden chest containing gold or a powerful item.
      */
     private void treasureChest(Hero player) {
-        System.out.println("🎁 You found a hidden chest!");
+        GameOutput.println("🎁 You found a hidden chest!");
         int rewardType = random.nextInt(2);
         if (rewardType == 0) {
             int goldAmount = random.nextInt(15) + 5; // Between 5 and 20 gold
             player.collectGold(goldAmount);
-            System.out.println("💰 You found " + goldAmount + " gold inside!");
+            GameOutput.println("💰 You found " + goldAmount + " gold inside!");
         } else {
-            System.out.println("🧪 You found a rare chemical!");
+            GameOutput.println("🧪 You found a rare chemical!");
             player.addItemToInventory(new HealthPotion(HealthPotionSize.Large)); // Stronger potion
         }
     }
@@ -250,7 +291,7 @@ public class Room {
      * The player steps on a fire trap.
      */
     private void fireTrap(Hero player) {
-        System.out.println("☠️ You stepped on a 🔥 fire trap! You are burning.");
+        GameOutput.println("☠️ You stepped on a 🔥 fire trap! You are burning.");
         player.applyStatus(new Burning(3, 15));
     }
 
@@ -258,19 +299,17 @@ public class Room {
      * The player finds secret files revealing PharmaCorp's illegal experiments.
      */
     private void secretFile(Hero player) {
-        System.out.println("📜 You discovered a hidden document!");
-        System.out.println("It contains classified information about PharmaCorp's unethical projects...");
-        player.addItemToInventory(
-                new ItemHero("Secret File", "📜 Classified document", 75, null, (Hero p) -> System.out.println(
-                        "You read the secret file and learn about PharmaCorp's illegal experiments. Could probably have sold it for a good price.")));
+        GameOutput.println("📜 You discovered a hidden document!");
+        GameOutput.println("It contains classified information about PharmaCorp's unethical projects...");
+        player.addItemToInventory(ItemRegistry.SECRET_FILE);
     }
 
     /**
      * The player drinks an unknown chemical, which has a random effect.
      */
     private void chemicalSurprise(Hero player) {
-        System.out.println("⚗️ You found a mysterious chemical sample.");
-        System.out.println("Do you want to drink it? (1 = Yes, 2 = No)");
+        GameOutput.println("⚗️ You found a mysterious chemical sample.");
+        GameOutput.println("Do you want to drink it? (1 = Yes, 2 = No)");
 
         int choice = GameScanner.getInt();
         if (choice == 1) {
@@ -278,13 +317,13 @@ public class Room {
             if (effect == 0) {
                 int hpBoost = random.nextInt(15) + 5;
                 player.heal(hpBoost);
-                System.out.println("💊 The chemical healed you for " + hpBoost + " HP!");
+                GameOutput.println("💊 The chemical healed you for " + hpBoost + " HP!");
             } else {
-                System.out.println("💀 The chemical was toxic! You are poisoned.");
+                GameOutput.println("💀 The chemical was toxic! You are poisoned.");
                 player.applyStatus(new Poisoned(5, 5));
             }
         } else {
-            System.out.println("⚠️ You ignored the chemical.");
+            GameOutput.println("⚠️ You ignored the chemical.");
         }
     }
 
@@ -310,6 +349,33 @@ public class Room {
         return null;
     }
 
+    /**
+     * Gets the enemies in the room.
+     *
+     * @return A read-only list of the enemies.
+     */
+    public List<Enemy> getEnemies() {
+        return Collections.unmodifiableList(roomEnemies);
+    }
+
+    /**
+     * Gets the friendly NPC of the room, whether it survived or not.
+     *
+     * @return The friendly NPC, or null if the room has none.
+     */
+    public FriendlyNPC getFriendlyNPC() {
+        return friendlyNPC;
+    }
+
+    /**
+     * Checks if a vendor is present in the room.
+     *
+     * @return true if the room has a vendor.
+     */
+    public boolean hasVendor() {
+        return vendor != null;
+    }
+
     /**
      * Retrieves the name of the room.
      *
@@ -1,6 +1,8 @@
 package src.items;
 
 import src.entities.Hero;
+import src.events.GameEvents;
+import src.events.HealType;
 
 /**
  * Represents a health potion that restores HP when consumed.
@@ -19,11 +21,8 @@ public class HealthPotion extends ItemHero {
         this.healingAmount = getPotionHealing(size);
 
         this.effect = (Hero player) -> {
-            System.out.println(
-                    "💊 " + player.getName() + " drinks " + getPotionName(size) + " and recovers " + healingAmount
-                            + " HP!");
             player.heal(healingAmount);
-            System.out.println("💊 " + player.getName() + " now has " + player.getCurrentHp() + " HP now.");
+            GameEvents.healed(null, player, healingAmount, HealType.POTION);
         };
     }
 
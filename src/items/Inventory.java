@@ -1,5 +1,8 @@
 package src.items;
 
+import src.events.GameEvents;
+import src.game.GameOutput;
+
 import java.util.ArrayList;
 
 /**
@@ -34,9 +37,9 @@ public class Inventory {
     public void addItem(Item item) {
         if (item != null) {
             items.add(item);
-            System.out.println("📦 Added " + item.getName() + " to inventory.");
+            GameEvents.itemAdded(this, item);
         } else {
-            System.out.println("⚠️ Cannot add a null item.");
+            GameOutput.println("⚠️ Cannot add a null item.");
         }
     }
 
@@ -48,9 +51,9 @@ public class Inventory {
     public void removeItem(Item item) {
         if (items.contains(item)) {
             items.remove(item);
-            System.out.println("🗑️ Used " + item.getName() + ".");
+            GameEvents.itemRemoved(this, item);
         } else {
-            System.out.println("⚠️ Item not found in inventory.");
+            GameOutput.println("⚠️ Item not found in inventory.");
         }
     }
 
@@ -58,14 +61,14 @@ public class Inventory {
      * Displays all items currently in the inventory.
      */
     public void showInventory() {
-        System.out.println(" \n 🎒 **INVENTORY**");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println(" \n 🎒 **INVENTORY**");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         if (items.isEmpty()) {
-            System.out.println(" 📦 Empty - You have no items.");
+            GameOutput.println(" 📦 Empty - You have no items.");
         } else {
             for (int i = 0; i < items.size(); i++) {
                 Item item = items.get(i);
-                System.out.println((i + 1) + "️⃣ ");
+                GameOutput.println((i + 1) + "️⃣ ");
                 item.showDetails();
             }
         }
@@ -2,6 +2,7 @@ package src.items;
 
 import src.entities.Hero;
 import src.entities.HeroClass;
+import src.game.GameOutput;
 
 import java.util.Set;
 
@@ -45,13 +46,13 @@ public abstract class Item {
      * allowed classes.
      */
     public void showDetails() {
-        System.out.println("🛠️ Item: " + this.name);
-        System.out.println("ℹ️ " + this.description);
-        System.out.println("💰 Value: " + this.price + " gold");
+        GameOutput.println("🛠️ Item: " + this.name);
+        GameOutput.println("ℹ️ " + this.description);
+        GameOutput.println("💰 Value: " + this.price + " gold");
         if (allowedClasses != null) {
-            System.out.println("🎭 Usable by: " + allowedClasses);
+            GameOutput.println("🎭 Usable by: " + allowedClasses);
         }
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
     }
 
     /**
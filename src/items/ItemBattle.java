@@ -3,7 +3,9 @@ package src.items;
 import java.util.Set;
 import java.util.function.Consumer;
 import src.entities.HeroClass;
+import src.events.GameEvents;
 import src.game.Battle;
+import src.game.GameOutput;
 
 /**
  * Represents a battle-related item that can be used during combat.
@@ -34,9 +36,10 @@ public class ItemBattle extends Item {
      */
     public void use(Battle battle) {
         if (canBeUsedBy(battle.getPlayer())) {
+            GameEvents.itemUsed(battle.getPlayer(), this);
             effect.accept(battle);
         } else {
-            System.out.println("❌ This item cannot be used by your hero class.");
+            GameOutput.println("❌ This item cannot be used by your hero class.");
         }
     }
 }
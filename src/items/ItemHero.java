@@ -4,6 +4,8 @@ import java.util.Set;
 import java.util.function.Consumer;
 import src.entities.Hero;
 import src.entities.HeroClass;
+import src.events.GameEvents;
+import src.game.GameOutput;
 
 /**
  * Represents an item that can be used by a hero, applying effects such as
@@ -33,14 +35,15 @@ public class ItemHero extends Item {
      */
     public void use(Hero player) {
         if (this.effect == null) {
-            System.out.println("❌ This item cannot be used.");
+            GameOutput.println("❌ This item cannot be used.");
             return;
         }
 
         if (canBeUsedBy(player)) {
+            GameEvents.itemUsed(player, this);
             effect.accept(player);
         } else {
-            System.out.println("❌ This item cannot be used by your hero class.");
+            GameOutput.println("❌ This item cannot be used by your hero class.");
         }
     }
 }
@@ -3,7 +3,10 @@ package src.items;
 import src.entities.Entity;
 import src.entities.Hero;
 import src.entities.HeroClass;
+import src.events.DamageType;
+import src.events.GameEvents;
 import src.game.Battle;
+import src.game.GameOutput;
 import src.status.AttackBoost;
 import src.status.Burning;
 import src.status.Regeneration;
@@ -31,7 +34,7 @@ public class ItemRegistry {
             new HealthPotion(HealthPotionSize.Large),
             new ItemHero("Regeneration Serum", "Regenerates HP over time (+30 HP per turn for 3 turns).", 50,
                     Set.of(HeroClass.BIOENGINEER), (Hero player) -> {
-                        System.out.println("🩸 You inject the Regeneration Serum! HP will regenerate each turn.");
+                        GameOutput.println("🩸 You inject the Regeneration Serum! HP will regenerate each turn.");
                         player.applyStatus(new Regeneration(3, 30));
                     }));
 
@@ -47,9 +50,9 @@ public class ItemRegistry {
                             }
                         }
                         if (hasElectronicEnemies) {
-                            System.out.println("💥 You throw an EMP Grenade! Electronic enemies are stunned.");
+                            GameOutput.println("💥 You throw an EMP Grenade! Electronic enemies are stunned.");
                         } else {
-                            System.out.println("⚠️ No enemy was affected by the EMP Grenade!");
+                            GameOutput.println("⚠️ No enemy was affected by the EMP Grenade!");
                         }
                     }));
 
@@ -57,28 +60,32 @@ public class ItemRegistry {
             new ItemBattle("Explosive Charge", "A strong explosive useful for breaking doors or attacking.", 55,
                     Set.of(HeroClass.TACTICAL_CHEMIST),
                     (Battle battle) -> {
-                        System.out.println("💣 You plant an explosive charge!");
+                        GameOutput.println("💣 You plant an explosive charge!");
                         List<Entity> enemies = battle.getEnemies();
                         for (Entity entity : enemies) {
                             entity.takeDamage(30);
-                            System.out.println("💥 " + entity.getName() + " takes 30 damage!");
+                            GameEvents.damageDealt(battle.getPlayer(), entity, 30, DamageType.EXPLOSION);
                         }
                     }),
             new ItemBattle("Fire Bomb", "Throws a fire bomb that burns enemies for 3 turns.", 45,
                     Set.of(HeroClass.TACTICAL_CHEMIST), (Battle battle) -> {
-                        System.out.println("🔥 You throw a Fire Bomb");
+                        GameOutput.println("🔥 You throw a Fire Bomb");
                         List<Entity> enemies = battle.getEnemies();
                         for (Entity entity : enemies) {
                             entity.applyStatus(new Burning(3, 15));
-                            System.out.println("🔥 " + entity.getName() + " is burning!");
+                            GameOutput.println("🔥 " + entity.getName() + " is burning!");
                         }
                     }),
             new ItemHero("Chemical Booster", "Your next attacks are stronger.", 40,
                     Set.of(HeroClass.TACTICAL_CHEMIST), (Hero player) -> {
-                        System.out.println("☣️ Your next attacks are stronger!");
+                        GameOutput.println("☣️ Your next attacks are stronger!");
                         player.applyStatus(new AttackBoost(3, 15));
                     }));
 
+    public static final ItemHero SECRET_FILE = new ItemHero("Secret File", "📜 Classified document", 75, null,
+            (Hero p) -> GameOutput.println(
+                    "You read the secret file and learn about PharmaCorp's illegal experiments. Could probably have sold it for a good price."));
+
     public static final Weapon HACKER_WEAPON = new Weapon(
             "Tranquilizer Dart Gun", "A hacking tool that also weakens enemies.", 10, 25,
             Set.of(HeroClass.PHARMACOLOGIST_HACKER));
@@ -113,4 +120,22 @@ public class ItemRegistry {
                 return List.of();
         }
     }
+
+    /**
+     * Finds an item of the registry by name, used to load saved inventories.
+     *
+     * @param name The name of the item.
+     * @return The item, or null if no item has that name.
+     */
+    public static Item findItem(String name) {
+        for (List<? extends Item> items : List.of(HEALING_ITEMS, WEAPONS, BIOENGINEER_ITEMS, HACKER_ITEMS,
+                CHEMIST_ITEMS, List.of(SECRET_FILE, HACKER_WEAPON, BIOENGINEER_WEAPON, CHEMIST_WEAPON))) {
+            for (Item item : items) {
+                if (item.getName().equals(name)) {
+                    return item;
+                }
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,142 @@
+package src.save;
+
+import src.entities.Hero;
+import src.events.GameListener;
+import src.game.GameOutput;
+import src.game.HeroCreationOptions;
+import src.game.Map;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Saves the game at every checkpoint without making the player wait.
+ * The game thread only takes an immutable {@link SaveData} snapshot; encoding,
+ * writing and syncing the file happen on a background thread. If a save is
+ * still being written when the next checkpoint comes, only the newest snapshot
+ * waiting is written after it, since it replaces the older ones anyway.
+ */
+public class AutoSaver implements GameListener, AutoCloseable {
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final Path path;
+    private final SaveMetrics metrics;
+    private final ExecutorService writer;
+    // The newest snapshot that was not written yet
+    private final AtomicReference<SaveData> pending = new AtomicReference<>();
+    // True while a write task is queued or running
+    private final AtomicBoolean writing = new AtomicBoolean();
+    // Reported on the game thread, which owns the output
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+    private HeroCreationOptions options;
+    private Hero player;
+
+    /**
+     * Constructs an autosaver.
+     *
+     * @param path    The save file, replaced at every checkpoint.
+     * @param metrics The metrics to update.
+     */
+    public AutoSaver(Path path, SaveMetrics metrics) {
+        this.path = path;
+        this.metrics = metrics;
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the metrics of the autosaves.
+     *
+     * @return The metrics.
+     */
+    public SaveMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Remembers the hero of the adventure being played.
+     *
+     * @param options The options the hero was created with.
+     * @param player  The player.
+     * @param map     The map.
+     */
+    @Override
+    public void onAdventureStarted(HeroCreationOptions options, Hero player, Map map) {
+        this.options = options;
+        this.player = player;
+    }
+
+    /**
+     * Takes a snapshot of the game and hands it to the writer thread.
+     *
+     * @param map The map being explored.
+     */
+    @Override
+    public void onCheckpoint(Map map) {
+        IOException failure = lastFailure.getAndSet(null);
+        if (failure != null) {
+            GameOutput.println("⚠️ Could not save the game: " + failure.getMessage());
+        }
+        if (player == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        SaveData snapshot = SaveData.capture(options, player, map);
+        metrics.recordSnapshot(System.nanoTime() - start);
+
+        if (pending.getAndSet(snapshot) != null) {
+            metrics.recordCoalesced();
+        }
+        if (writing.compareAndSet(false, true)) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes snapshots until none is waiting. Runs on the writer thread.
+     */
+    private void writePending() {
+        while (true) {
+            SaveData snapshot = pending.getAndSet(null);
+            if (snapshot == null) {
+                writing.set(false);
+                // A snapshot may have arrived after the check but before the flag was cleared
+                if (pending.get() == null || !writing.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                SaveFile.write(path, snapshot);
+                metrics.recordWrite(System.nanoTime() - start);
+            } catch (IOException e) {
+                metrics.recordFailure();
+                lastFailure.set(e);
+            }
+        }
+    }
+
+    /**
+     * Waits for the last snapshot to be written, then stops the writer thread.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package src.save;
+
+import src.entities.Bioengineer;
+import src.entities.Enemy;
+import src.entities.EnemyTemplate;
+import src.entities.Entity;
+import src.entities.EntityState;
+import src.entities.FriendlyNPC;
+import src.entities.Hero;
+import src.entities.HeroClass;
+import src.entities.NPCRegistry;
+import src.entities.PharmacologistHacker;
+import src.entities.TacticalChemist;
+import src.entities.Vendor;
+import src.game.GameOutput;
+import src.game.GameRandom;
+import src.game.HeroCreationOptions;
+import src.game.Map;
+import src.game.Room;
+import src.items.Item;
+import src.items.ItemRegistry;
+import src.items.Weapon;
+import src.status.AttackBoost;
+import src.status.Burning;
+import src.status.Poisoned;
+import src.status.Regeneration;
+import src.status.TimedStatus;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything needed to resume a game after a battle or where the player
+ * chooses the next room: the hero, the rooms of the map and the position of the
+ * random stream.
+ * Items, enemies and NPCs are stored by name and linked back to the registries
+ * when the game is restored, so anything the registries no longer know is left
+ * out instead of failing the load.
+ *
+ * @param seed        The seed the game was started with.
+ * @param randomState The position of the random stream.
+ * @param options     The options the hero was created with, used to try again
+ *                    with the same hero.
+ * @param hero        The hero.
+ * @param rooms       The rooms of the map, in order.
+ * @param currentRoom The room the player is in.
+ * @param afterBattle Whether the player just won the battle of the current
+ *                    room, rather than finished it.
+ */
+public record SaveData(long seed, long randomState, HeroCreationOptions options, HeroData hero,
+        List<RoomData> rooms, int currentRoom, boolean afterBattle) {
+
+    // Names of the status types in saved games
+    static final String BURNING = "burning";
+    static final String POISONED = "poisoned";
+    static final String REGENERATION = "regeneration";
+    static final String ATTACK_BOOST = "attack_boost";
+
+    /**
+     * Copies the room list so the saved data cannot change.
+     */
+    public SaveData {
+        rooms = List.copyOf(rooms);
+    }
+
+    /**
+     * A saved status effect.
+     *
+     * @param kind           The type of the status, such as {@link #BURNING}.
+     * @param remainingTurns The remaining turns (-1 for permanent effects).
+     * @param power          The damage, healing or boost of the status.
+     */
+    public record StatusData(String kind, int remainingTurns, int power) {
+    }
+
+    /**
+     * The saved state of an entity.
+     *
+     * @param name            The name of the entity.
+     * @param currentHp       The current HP.
+     * @param maxHp           The maximum HP.
+     * @param strength        The base strength.
+     * @param disabledTurns   The disabled turns.
+     * @param actionCooldowns The cooldown of every action, in order.
+     * @param statuses        The statuses.
+     */
+    public record EntityData(String name, int currentHp, int maxHp, int strength, int disabledTurns,
+            List<Integer> actionCooldowns, List<StatusData> statuses) {
+
+        /**
+         * Copies the lists so the saved data cannot change.
+         */
+        public EntityData {
+            actionCooldowns = List.copyOf(actionCooldowns);
+            statuses = List.copyOf(statuses);
+        }
+    }
+
+    /**
+     * The saved hero.
+     *
+     * @param heroClass The class of the hero.
+     * @param entity    The state of the hero.
+     * @param gold      The gold.
+     * @param weapon    The name of the equipped weapon, or null.
+     * @param items     The names of the items in the inventory.
+     */
+    public record HeroData(HeroClass heroClass, EntityData entity, int gold, String weapon, List<String> items) {
+
+        /**
+         * Copies the item list so the saved data cannot change.
+         */
+        public HeroData {
+            items = List.copyOf(items);
+        }
+    }
+
+    /**
+     * A saved room.
+     *
+     * @param name         The name of the room.
+     * @param completed    Whether the player explored the room.
+     * @param enemies      The enemies drawn for the room.
+     * @param friend       The friendly NPC of the room, or null.
+     * @param friendJoins  Whether the NPC agreed to join battles.
+     * @param friendHelped Whether the NPC already assisted the player.
+     * @param vendor       Whether a vendor is present.
+     */
+    public record RoomData(String name, boolean completed, List<EntityData> enemies, EntityData friend,
+            boolean friendJoins, boolean friendHelped, boolean vendor) {
+
+        /**
+         * Copies the enemy list so the saved data cannot change.
+         */
+        public RoomData {
+            enemies = List.copyOf(enemies);
+        }
+    }
+
+    /**
+     * Captures the state of a game being explored.
+     *
+     * @param options The options the hero was created with.
+     * @param player  The hero.
+     * @param map     The map.
+     * @return The saved data.
+     */
+    public static SaveData capture(HeroCreationOptions options, Hero player, Map map) {
+        EntityState state = new EntityState();
+
+        player.saveState(state);
+        ArrayList<String> items = new ArrayList<>();
+        for (Item item : state.getItems()) {
+            items.add(item.getName());
+        }
+        Weapon weapon = state.getEquipedWeapon();
+        HeroData hero = new HeroData(player.getHeroClass(), captureEntity(player, state), player.getGold(),
+                weapon == null ? null : weapon.getName(), items);
+
+        ArrayList<RoomData> rooms = new ArrayList<>();
+        for (Room room : map.getRooms()) {
+            ArrayList<EntityData> enemies = new ArrayList<>();
+            for (Enemy enemy : room.getEnemies()) {
+                enemy.saveState(state);
+                enemies.add(captureEntity(enemy, state));
+            }
+            FriendlyNPC npc = room.getFriendlyNPC();
+            EntityData friend = null;
+            if (npc != null) {
+                npc.saveState(state);
+                friend = captureEntity(npc, state);
+            }
+            rooms.add(new RoomData(room.getName(), room.isCompleted(), enemies, friend,
+                    npc != null && npc.willJoinBattle(), npc != null && npc.hasAlreadyHelped(), room.hasVendor()));
+        }
+
+        return new SaveData(GameRandom.getSeed(), GameRandom.getState(), options, hero, rooms,
+                map.getCurrentRoomIndex(), map.isAfterBattle());
+    }
+
+    /**
+     * Converts the saved state of an entity.
+     *
+     * @param entity The entity.
+     * @param state  The state just saved from the entity.
+     * @return The saved data.
+     */
+    private static EntityData captureEntity(Entity entity, EntityState state) {
+        ArrayList<Integer> cooldowns = new ArrayList<>();
+        for (int i = 0; i < entity.getActions().size(); i++) {
+            cooldowns.add(state.getActionCooldown(i));
+        }
+        ArrayList<StatusData> statuses = new ArrayList<>();
+        List<TimedStatus> saved = state.getStatuses();
+        for (int i = 0; i < saved.size(); i++) {
+            StatusData status = captureStatus(saved.get(i), state.getStatusTurns(i));
+            if (status != null) {
+                statuses.add(status);
+            }
+        }
+        return new EntityData(entity.getName(), state.getCurrentHp(), state.getMaxHp(), state.getStrength(),
+                state.getDisabledTurns(), cooldowns, statuses);
+    }
+
+    /**
+     * Converts a status effect.
+     *
+     * @param status         The status.
+     * @param remainingTurns The remaining turns of the status.
+     * @return The saved data, or null for statuses that cannot be saved.
+     */
+    private static StatusData captureStatus(TimedStatus status, int remainingTurns) {
+        if (status instanceof Burning burning) {
+            return new StatusData(BURNING, remainingTurns, burning.getDamagePerTurn());
+        } else if (status instanceof Poisoned poisoned) {
+            return new StatusData(POISONED, remainingTurns, poisoned.getDamagePerTurn());
+        } else if (status instanceof Regeneration regeneration) {
+            return new StatusData(REGENERATION, remainingTurns, regeneration.getHealAmount());
+        } else if (status instanceof AttackBoost boost) {
+            return new StatusData(ATTACK_BOOST, remainingTurns, boost.getStrengthBoost());
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds the hero and the map, then moves the random stream of the current
+     * thread to where it was when the game was saved.
+     * Enemies are spawned from their templates, while the friendly NPCs of the
+     * session registry are updated in place, like they would be in the game that
+     * was saved.
+     *
+     * @return The restored hero and map.
+     */
+    public Restored restore() {
+        GameRandom.initialize(seed);
+
+        // Creating the hero announces its starting items and statuses
+        PrintStream sink = GameOutput.getSink();
+        GameOutput.mute();
+        Hero player;
+        try {
+            player = createHero();
+        } finally {
+            GameOutput.setSink(sink);
+        }
+        EntityState state = new EntityState();
+        restoreEntity(player, hero.entity(), state);
+        for (String name : hero.items()) {
+            Item item = ItemRegistry.findItem(name);
+            if (item != null) {
+                state.addItem(item);
+            }
+        }
+        player.restoreState(state);
+        player.collectGold(hero.gold() - player.getGold());
+
+        NPCRegistry npcs = NPCRegistry.current();
+        ArrayList<Room> restoredRooms = new ArrayList<>();
+        for (RoomData room : rooms) {
+            ArrayList<Enemy> enemies = new ArrayList<>();
+            for (EntityData data : room.enemies()) {
+                EnemyTemplate template = NPCRegistry.findEnemy(data.name());
+                if (template != null) {
+                    Enemy enemy = template.spawn();
+                    restoreEntity(enemy, data, state);
+                    enemy.restoreState(state);
+                    enemies.add(enemy);
+                }
+            }
+            FriendlyNPC npc = room.friend() == null ? null : npcs.findFriendlyNPC(room.friend().name());
+            if (npc != null) {
+                restoreEntity(npc, room.friend(), state);
+                npc.restoreState(state);
+                npc.restoreProgress(room.friendJoins(), room.friendHelped());
+            }
+            restoredRooms.add(new Room(room.name(), enemies, npc, room.vendor() ? new Vendor() : null,
+                    room.completed()));
+        }
+
+        GameRandom.restore(seed, randomState);
+        return new Restored(player, new Map(restoredRooms, currentRoom, afterBattle));
+    }
+
+    /**
+     * A restored game.
+     *
+     * @param player The hero.
+     * @param map    The map, with the player in the room it was saved in.
+     */
+    public record Restored(Hero player, Map map) {
+    }
+
+    /**
+     * Creates a hero of the saved class.
+     *
+     * @return The hero, before its saved state is restored.
+     */
+    private Hero createHero() {
+        String name = hero.entity().name();
+        int maxHp = hero.entity().maxHp();
+        int strength = hero.entity().strength();
+        return switch (hero.heroClass()) {
+            case BIOENGINEER -> new Bioengineer(name, maxHp, strength, hero.gold());
+            case PHARMACOLOGIST_HACKER -> new PharmacologistHacker(name, maxHp, strength, hero.gold());
+            case TACTICAL_CHEMIST -> new TacticalChemist(name, maxHp, strength, hero.gold());
+        };
+    }
+
+    /**
+     * Fills a state with the saved data of an entity, keeping the equipped weapon
+     * of the hero. A saved weapon that no longer exists is replaced by the weapon
+     * the entity was created with.
+     *
+     * @param entity The entity the state is meant for.
+     * @param data   The saved data.
+     * @param state  The state to overwrite.
+     */
+    private void restoreEntity(Entity entity, EntityData data, EntityState state) {
+        Weapon weapon = entity.getEquipedWeapon();
+        if (entity instanceof Hero && hero.weapon() != null
+                && ItemRegistry.findItem(hero.weapon()) instanceof Weapon saved) {
+            weapon = saved;
+        }
+        state.set(data.currentHp(), data.maxHp(), data.strength(), data.disabledTurns(), weapon,
+                entity.getActions().size());
+        for (int i = 0; i < data.actionCooldowns().size(); i++) {
+            state.setActionCooldown(i, data.actionCooldowns().get(i));
+        }
+        for (StatusData status : data.statuses()) {
+            TimedStatus restored = restoreStatus(status);
+            if (restored != null) {
+                state.addStatus(restored, status.remainingTurns());
+            }
+        }
+    }
+
+    /**
+     * Creates a saved status effect.
+     *
+     * @param status The saved data.
+     * @return The status, or null if its type is unknown.
+     */
+    private static TimedStatus restoreStatus(StatusData status) {
+        return switch (status.kind()) {
+            case BURNING -> new Burning(status.remainingTurns(), status.power());
+            case POISONED -> new Poisoned(status.remainingTurns(), status.power());
+            case REGENERATION -> new Regeneration(status.remainingTurns(), status.power());
+            case ATTACK_BOOST -> new AttackBoost(status.remainingTurns(), status.power());
+            default -> null;
+        };
+    }
+}
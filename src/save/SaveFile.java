@@ -0,0 +1,678 @@
+package src.save;
+
+import src.entities.HeroClass;
+import src.game.HeroCreationOptions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes saved games in a compact binary format.
+ * A file starts with {@link #MAGIC} and a 2-byte version, followed by the
+ * fields of the save and a CRC32 of everything before it. Every field is its
+ * number and the length of its value as varints, then the value: a zigzag
+ * varint for numbers and booleans, UTF-8 bytes for text, or nested fields.
+ * Readers skip the fields they do not know, so new fields can be added without
+ * breaking older saves or older readers.
+ */
+public final class SaveFile {
+    private static final byte[] MAGIC = { 'L', 'C', 'S', 'V' };
+    public static final int VERSION = 1;
+    private static final int CHECKSUM_SIZE = 4;
+
+    // Fields of a save
+    private static final int SEED = 1;
+    private static final int RANDOM_STATE = 2;
+    private static final int OPTIONS = 3;
+    private static final int HERO = 4;
+    private static final int ROOM = 5;
+    private static final int CURRENT_ROOM = 6;
+    private static final int AFTER_BATTLE = 7;
+
+    // Fields of the hero creation options
+    private static final int OPTION_NAME = 1;
+    private static final int OPTION_HERO_CHOICE = 2;
+    private static final int OPTION_HEALTH = 3;
+    private static final int OPTION_STRENGTH = 4;
+    private static final int OPTION_GOLD = 5;
+
+    // Fields of the hero
+    private static final int HERO_CLASS = 1;
+    private static final int HERO_ENTITY = 2;
+    private static final int HERO_GOLD = 3;
+    private static final int HERO_WEAPON = 4;
+    private static final int HERO_ITEM = 5;
+
+    // Fields of an entity
+    private static final int ENTITY_NAME = 1;
+    private static final int ENTITY_HP = 2;
+    private static final int ENTITY_MAX_HP = 3;
+    private static final int ENTITY_STRENGTH = 4;
+    private static final int ENTITY_DISABLED_TURNS = 5;
+    private static final int ENTITY_COOLDOWN = 6;
+    private static final int ENTITY_STATUS = 7;
+
+    // Fields of a status
+    private static final int STATUS_KIND = 1;
+    private static final int STATUS_TURNS = 2;
+    private static final int STATUS_POWER = 3;
+
+    // Fields of a room
+    private static final int ROOM_NAME = 1;
+    private static final int ROOM_COMPLETED = 2;
+    private static final int ROOM_ENEMY = 3;
+    private static final int ROOM_FRIEND = 4;
+    private static final int ROOM_FRIEND_JOINS = 5;
+    private static final int ROOM_FRIEND_HELPED = 6;
+    private static final int ROOM_VENDOR = 7;
+
+    // Private constructor to prevent instantiation
+    private SaveFile() {
+    }
+
+    /**
+     * Writes a save, replacing the file at once so a crash never leaves a half
+     * written save behind. The data is forced to the disk before the file is
+     * replaced, and the folder is synced afterwards where the system allows it.
+     *
+     * @param path The file.
+     * @param save The saved game.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Path path, SaveData save) throws IOException {
+        ByteBuffer buffer = encode(save);
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // Makes the rename itself durable
+        Path folder = path.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some systems cannot open or sync folders, the save is written anyway
+        }
+    }
+
+    /**
+     * Reads a save.
+     *
+     * @param path The file.
+     * @return The saved game.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid save.
+     */
+    public static SaveData read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Save file is too large.");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is in memory
+            }
+            buffer.flip();
+            return decode(buffer);
+        }
+    }
+
+    /**
+     * Encodes a save into a compact array, for saves kept in memory or stored
+     * somewhere other than a save file.
+     *
+     * @param save The saved game.
+     * @return The bytes, in the save file format.
+     */
+    public static byte[] toBytes(SaveData save) {
+        ByteBuffer buffer = encode(save);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes a save encoded by {@link #toBytes}.
+     *
+     * @param bytes The bytes.
+     * @return The saved game.
+     * @throws IllegalArgumentException if the bytes are not a valid save.
+     */
+    public static SaveData fromBytes(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Encodes a save, header and checksum included.
+     *
+     * @param save The saved game.
+     * @return The bytes, ready to be written.
+     */
+    static ByteBuffer encode(SaveData save) {
+        Encoder out = new Encoder();
+        out.writeBytes(MAGIC);
+        out.writeByte(VERSION >>> 8);
+        out.writeByte(VERSION);
+
+        out.writeLong(SEED, save.seed());
+        out.writeLong(RANDOM_STATE, save.randomState());
+        if (save.options() != null) {
+            HeroCreationOptions options = save.options();
+            Encoder fields = new Encoder();
+            fields.writeText(OPTION_NAME, options.getPlayerName());
+            fields.writeLong(OPTION_HERO_CHOICE, options.getHeroChoice());
+            fields.writeLong(OPTION_HEALTH, options.getHealth());
+            fields.writeLong(OPTION_STRENGTH, options.getStrength());
+            fields.writeLong(OPTION_GOLD, options.getGold());
+            out.writeMessage(OPTIONS, fields);
+        }
+
+        SaveData.HeroData hero = save.hero();
+        Encoder heroFields = new Encoder();
+        heroFields.writeText(HERO_CLASS, hero.heroClass().name());
+        heroFields.writeMessage(HERO_ENTITY, encodeEntity(hero.entity()));
+        heroFields.writeLong(HERO_GOLD, hero.gold());
+        if (hero.weapon() != null) {
+            heroFields.writeText(HERO_WEAPON, hero.weapon());
+        }
+        for (String item : hero.items()) {
+            heroFields.writeText(HERO_ITEM, item);
+        }
+        out.writeMessage(HERO, heroFields);
+
+        for (SaveData.RoomData room : save.rooms()) {
+            Encoder fields = new Encoder();
+            fields.writeText(ROOM_NAME, room.name());
+            fields.writeBoolean(ROOM_COMPLETED, room.completed());
+            for (SaveData.EntityData enemy : room.enemies()) {
+                fields.writeMessage(ROOM_ENEMY, encodeEntity(enemy));
+            }
+            if (room.friend() != null) {
+                fields.writeMessage(ROOM_FRIEND, encodeEntity(room.friend()));
+                fields.writeBoolean(ROOM_FRIEND_JOINS, room.friendJoins());
+                fields.writeBoolean(ROOM_FRIEND_HELPED, room.friendHelped());
+            }
+            fields.writeBoolean(ROOM_VENDOR, room.vendor());
+            out.writeMessage(ROOM, fields);
+        }
+        out.writeLong(CURRENT_ROOM, save.currentRoom());
+        out.writeBoolean(AFTER_BATTLE, save.afterBattle());
+
+        CRC32 crc = new CRC32();
+        crc.update(out.bytes, 0, out.size);
+        int checksum = (int) crc.getValue();
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.writeByte(checksum >>> shift);
+        }
+        return ByteBuffer.wrap(out.bytes, 0, out.size);
+    }
+
+    /**
+     * Encodes the fields of an entity.
+     *
+     * @param entity The saved entity.
+     * @return The fields.
+     */
+    private static Encoder encodeEntity(SaveData.EntityData entity) {
+        Encoder fields = new Encoder();
+        fields.writeText(ENTITY_NAME, entity.name());
+        fields.writeLong(ENTITY_HP, entity.currentHp());
+        fields.writeLong(ENTITY_MAX_HP, entity.maxHp());
+        fields.writeLong(ENTITY_STRENGTH, entity.strength());
+        fields.writeLong(ENTITY_DISABLED_TURNS, entity.disabledTurns());
+        for (int cooldown : entity.actionCooldowns()) {
+            fields.writeLong(ENTITY_COOLDOWN, cooldown);
+        }
+        for (SaveData.StatusData status : entity.statuses()) {
+            Encoder statusFields = new Encoder();
+            statusFields.writeText(STATUS_KIND, status.kind());
+            statusFields.writeLong(STATUS_TURNS, status.remainingTurns());
+            statusFields.writeLong(STATUS_POWER, status.power());
+            fields.writeMessage(ENTITY_STATUS, statusFields);
+        }
+        return fields;
+    }
+
+    /**
+     * Decodes a save, checking its header and checksum.
+     *
+     * @param buffer The bytes of the file.
+     * @return The saved game.
+     * @throws IllegalArgumentException if the bytes are not a valid save.
+     */
+    static SaveData decode(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        int headerSize = MAGIC.length + 2;
+        if (bytes.length < headerSize + CHECKSUM_SIZE
+                || !Arrays.equals(bytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            throw new IllegalArgumentException("Not a saved game.");
+        }
+        int version = ((bytes[MAGIC.length] & 0xFF) << 8) | (bytes[MAGIC.length + 1] & 0xFF);
+        if (version > VERSION) {
+            throw new IllegalArgumentException("Saved game version " + version + " is newer than this game.");
+        }
+        int end = bytes.length - CHECKSUM_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, end);
+        int checksum = 0;
+        for (int i = end; i < bytes.length; i++) {
+            checksum = (checksum << 8) | (bytes[i] & 0xFF);
+        }
+        if (checksum != (int) crc.getValue()) {
+            throw new IllegalArgumentException("Saved game is damaged.");
+        }
+
+        Decoder in = new Decoder(bytes, headerSize, end);
+        long seed = 0;
+        long randomState = 0;
+        HeroCreationOptions options = null;
+        SaveData.HeroData hero = null;
+        ArrayList<SaveData.RoomData> rooms = new ArrayList<>();
+        int currentRoom = -1;
+        boolean afterBattle = false;
+        while (in.next()) {
+            switch (in.field) {
+                case SEED -> seed = in.readLong();
+                case RANDOM_STATE -> randomState = in.readLong();
+                case OPTIONS -> options = decodeOptions(in.readMessage());
+                case HERO -> hero = decodeHero(in.readMessage());
+                case ROOM -> rooms.add(decodeRoom(in.readMessage()));
+                case CURRENT_ROOM -> currentRoom = in.readInt();
+                case AFTER_BATTLE -> afterBattle = in.readBoolean();
+                default -> in.skip();
+            }
+        }
+        if (hero == null) {
+            throw new IllegalArgumentException("Saved game has no hero.");
+        }
+        return new SaveData(seed, randomState, options, hero, rooms, currentRoom, afterBattle);
+    }
+
+    /**
+     * Decodes the hero creation options.
+     *
+     * @param in The fields.
+     * @return The options.
+     */
+    private static HeroCreationOptions decodeOptions(Decoder in) {
+        String name = "";
+        int heroChoice = 0;
+        int health = 0;
+        int strength = 0;
+        int gold = 0;
+        while (in.next()) {
+            switch (in.field) {
+                case OPTION_NAME -> name = in.readText();
+                case OPTION_HERO_CHOICE -> heroChoice = in.readInt();
+                case OPTION_HEALTH -> health = in.readInt();
+                case OPTION_STRENGTH -> strength = in.readInt();
+                case OPTION_GOLD -> gold = in.readInt();
+                default -> in.skip();
+            }
+        }
+        return new HeroCreationOptions(name, heroChoice, health, strength, gold);
+    }
+
+    /**
+     * Decodes the hero.
+     *
+     * @param in The fields.
+     * @return The hero.
+     * @throws IllegalArgumentException if the hero class is unknown.
+     */
+    private static SaveData.HeroData decodeHero(Decoder in) {
+        HeroClass heroClass = null;
+        SaveData.EntityData entity = null;
+        int gold = 0;
+        String weapon = null;
+        ArrayList<String> items = new ArrayList<>();
+        while (in.next()) {
+            switch (in.field) {
+                case HERO_CLASS -> heroClass = HeroClass.valueOf(in.readText());
+                case HERO_ENTITY -> entity = decodeEntity(in.readMessage());
+                case HERO_GOLD -> gold = in.readInt();
+                case HERO_WEAPON -> weapon = in.readText();
+                case HERO_ITEM -> items.add(in.readText());
+                default -> in.skip();
+            }
+        }
+        if (heroClass == null || entity == null) {
+            throw new IllegalArgumentException("Saved hero is incomplete.");
+        }
+        return new SaveData.HeroData(heroClass, entity, gold, weapon, items);
+    }
+
+    /**
+     * Decodes a room.
+     *
+     * @param in The fields.
+     * @return The room.
+     */
+    private static SaveData.RoomData decodeRoom(Decoder in) {
+        String name = "";
+        boolean completed = false;
+        ArrayList<SaveData.EntityData> enemies = new ArrayList<>();
+        SaveData.EntityData friend = null;
+        boolean friendJoins = false;
+        boolean friendHelped = false;
+        boolean vendor = false;
+        while (in.next()) {
+            switch (in.field) {
+                case ROOM_NAME -> name = in.readText();
+                case ROOM_COMPLETED -> completed = in.readBoolean();
+                case ROOM_ENEMY -> enemies.add(decodeEntity(in.readMessage()));
+                case ROOM_FRIEND -> friend = decodeEntity(in.readMessage());
+                case ROOM_FRIEND_JOINS -> friendJoins = in.readBoolean();
+                case ROOM_FRIEND_HELPED -> friendHelped = in.readBoolean();
+                case ROOM_VENDOR -> vendor = in.readBoolean();
+                default -> in.skip();
+            }
+        }
+        return new SaveData.RoomData(name, completed, enemies, friend, friendJoins, friendHelped, vendor);
+    }
+
+    /**
+     * Decodes an entity.
+     *
+     * @param in The fields.
+     * @return The entity.
+     */
+    private static SaveData.EntityData decodeEntity(Decoder in) {
+        String name = "";
+        int currentHp = 0;
+        int maxHp = 0;
+        int strength = 0;
+        int disabledTurns = 0;
+        ArrayList<Integer> cooldowns = new ArrayList<>();
+        ArrayList<SaveData.StatusData> statuses = new ArrayList<>();
+        while (in.next()) {
+            switch (in.field) {
+                case ENTITY_NAME -> name = in.readText();
+                case ENTITY_HP -> currentHp = in.readInt();
+                case ENTITY_MAX_HP -> maxHp = in.readInt();
+                case ENTITY_STRENGTH -> strength = in.readInt();
+                case ENTITY_DISABLED_TURNS -> disabledTurns = in.readInt();
+                case ENTITY_COOLDOWN -> cooldowns.add(in.readInt());
+                case ENTITY_STATUS -> statuses.add(decodeStatus(in.readMessage()));
+                default -> in.skip();
+            }
+        }
+        return new SaveData.EntityData(name, currentHp, maxHp, strength, disabledTurns, cooldowns, statuses);
+    }
+
+    /**
+     * Decodes a status effect.
+     *
+     * @param in The fields.
+     * @return The status.
+     */
+    private static SaveData.StatusData decodeStatus(Decoder in) {
+        String kind = "";
+        int turns = 0;
+        int power = 0;
+        while (in.next()) {
+            switch (in.field) {
+                case STATUS_KIND -> kind = in.readText();
+                case STATUS_TURNS -> turns = in.readInt();
+                case STATUS_POWER -> power = in.readInt();
+                default -> in.skip();
+            }
+        }
+        return new SaveData.StatusData(kind, turns, power);
+    }
+
+    /**
+     * Growable buffer that writes fields.
+     */
+    private static final class Encoder {
+        private byte[] bytes = new byte[256];
+        private int size = 0;
+
+        /**
+         * Writes a number field.
+         *
+         * @param field The field number.
+         * @param value The value, zigzag encoded so negative numbers stay short.
+         */
+        void writeLong(int field, long value) {
+            writeVarint(field);
+            long zigzag = (value << 1) ^ (value >> 63);
+            writeVarint(varintSize(zigzag));
+            writeVarint(zigzag);
+        }
+
+        /**
+         * Writes a boolean field.
+         *
+         * @param field The field number.
+         * @param value The value.
+         */
+        void writeBoolean(int field, boolean value) {
+            writeLong(field, value ? 1 : 0);
+        }
+
+        /**
+         * Writes a text field.
+         *
+         * @param field The field number.
+         * @param value The value.
+         */
+        void writeText(int field, String value) {
+            byte[] text = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(field);
+            writeVarint(text.length);
+            writeBytes(text);
+        }
+
+        /**
+         * Writes a field made of other fields.
+         *
+         * @param field  The field number.
+         * @param fields The nested fields.
+         */
+        void writeMessage(int field, Encoder fields) {
+            writeVarint(field);
+            writeVarint(fields.size);
+            ensureCapacity(fields.size);
+            System.arraycopy(fields.bytes, 0, bytes, size, fields.size);
+            size += fields.size;
+        }
+
+        /**
+         * Writes an unsigned varint.
+         *
+         * @param value The value.
+         */
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Writes raw bytes.
+         *
+         * @param data The bytes.
+         */
+        void writeBytes(byte[] data) {
+            ensureCapacity(data.length);
+            System.arraycopy(data, 0, bytes, size, data.length);
+            size += data.length;
+        }
+
+        /**
+         * Writes one raw byte.
+         *
+         * @param value The byte, in the lowest 8 bits.
+         */
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Counts the bytes of a varint.
+         *
+         * @param value The value.
+         * @return The encoded size.
+         */
+        private static int varintSize(long value) {
+            int length = 1;
+            while ((value & ~0x7FL) != 0) {
+                value >>>= 7;
+                length++;
+            }
+            return length;
+        }
+
+        /**
+         * Grows the buffer to fit more bytes.
+         *
+         * @param extra The bytes about to be written.
+         */
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + extra, bytes.length * 2));
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of a range of bytes one by one.
+     */
+    private static final class Decoder {
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+        // Number and value range of the current field
+        private int field;
+        private int valueEnd;
+
+        /**
+         * Constructs a decoder.
+         *
+         * @param bytes The bytes.
+         * @param start The offset of the first field.
+         * @param end   The offset right after the last field.
+         */
+        Decoder(byte[] bytes, int start, int end) {
+            this.bytes = bytes;
+            this.position = start;
+            this.end = end;
+            this.valueEnd = start;
+        }
+
+        /**
+         * Moves to the next field.
+         *
+         * @return True if there is one, false at the end.
+         * @throws IllegalArgumentException if the field does not fit.
+         */
+        boolean next() {
+            position = valueEnd;
+            if (position >= end) {
+                return false;
+            }
+            field = (int) readVarint();
+            long length = readVarint();
+            if (length < 0 || length > end - position) {
+                throw new IllegalArgumentException("Saved game is damaged.");
+            }
+            valueEnd = position + (int) length;
+            return true;
+        }
+
+        /**
+         * Reads the current field as a number.
+         *
+         * @return The value.
+         */
+        long readLong() {
+            long zigzag = readVarint();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        /**
+         * Reads the current field as an int.
+         *
+         * @return The value.
+         */
+        int readInt() {
+            return (int) readLong();
+        }
+
+        /**
+         * Reads the current field as a boolean.
+         *
+         * @return The value.
+         */
+        boolean readBoolean() {
+            return readLong() != 0;
+        }
+
+        /**
+         * Reads the current field as text.
+         *
+         * @return The value.
+         */
+        String readText() {
+            return new String(bytes, position, valueEnd - position, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads the current field as nested fields.
+         *
+         * @return A decoder of the nested fields.
+         */
+        Decoder readMessage() {
+            return new Decoder(bytes, position, valueEnd);
+        }
+
+        /**
+         * Ignores the current field.
+         */
+        void skip() {
+            // next() always continues after the value
+        }
+
+        /**
+         * Reads an unsigned varint inside the current range.
+         *
+         * @return The value.
+         * @throws IllegalArgumentException if the varint does not fit.
+         */
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= end) {
+                    throw new IllegalArgumentException("Saved game is damaged.");
+                }
+                int b = bytes[position++] & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Saved game is damaged.");
+        }
+    }
+}
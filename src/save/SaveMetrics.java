@@ -0,0 +1,142 @@
+package src.save;
+
+/**
+ * Collects statistics about autosaves: how long the game thread spent taking
+ * snapshots, how long the background writes took and how many snapshots were
+ * replaced by a newer one before they could be written.
+ * Shared by the game thread and the writer thread.
+ */
+public class SaveMetrics {
+    private long snapshots;
+    private long totalSnapshotNanos;
+    private long maxSnapshotNanos;
+    private long writes;
+    private long totalWriteNanos;
+    private long maxWriteNanos;
+    private long coalesced;
+    private long failures;
+
+    /**
+     * Records a snapshot taken on the game thread.
+     *
+     * @param elapsedNanos The time the snapshot took.
+     */
+    public synchronized void recordSnapshot(long elapsedNanos) {
+        snapshots++;
+        totalSnapshotNanos += elapsedNanos;
+        maxSnapshotNanos = Math.max(maxSnapshotNanos, elapsedNanos);
+    }
+
+    /**
+     * Records a save written to the disk, encoding and syncing included.
+     *
+     * @param elapsedNanos The time the write took.
+     */
+    public synchronized void recordWrite(long elapsedNanos) {
+        writes++;
+        totalWriteNanos += elapsedNanos;
+        maxWriteNanos = Math.max(maxWriteNanos, elapsedNanos);
+    }
+
+    /**
+     * Records a snapshot that was never written because a newer one replaced it.
+     */
+    public synchronized void recordCoalesced() {
+        coalesced++;
+    }
+
+    /**
+     * Records a write that failed.
+     */
+    public synchronized void recordFailure() {
+        failures++;
+    }
+
+    /**
+     * Gets the number of snapshots taken.
+     *
+     * @return The snapshots.
+     */
+    public synchronized long getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Gets the number of saves written.
+     *
+     * @return The writes.
+     */
+    public synchronized long getWrites() {
+        return writes;
+    }
+
+    /**
+     * Gets the number of snapshots replaced before they were written.
+     *
+     * @return The coalesced snapshots.
+     */
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Gets the number of writes that failed.
+     *
+     * @return The failures.
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the average time of a snapshot.
+     *
+     * @return The average, in nanoseconds.
+     */
+    public synchronized double getAverageSnapshotNanos() {
+        return snapshots == 0 ? 0 : (double) totalSnapshotNanos / snapshots;
+    }
+
+    /**
+     * Gets the longest time a snapshot took.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public synchronized long getMaxSnapshotNanos() {
+        return maxSnapshotNanos;
+    }
+
+    /**
+     * Gets the average time of a write.
+     *
+     * @return The average, in nanoseconds.
+     */
+    public synchronized double getAverageWriteNanos() {
+        return writes == 0 ? 0 : (double) totalWriteNanos / writes;
+    }
+
+    /**
+     * Gets the longest time a write took.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public synchronized long getMaxWriteNanos() {
+        return maxWriteNanos;
+    }
+
+    /**
+     * Summarizes the metrics on one line.
+     *
+     * @return The summary.
+     */
+    @Override
+    public synchronized String toString() {
+        if (snapshots == 0) {
+            return "no autosaves";
+        }
+        return String.format(
+                "%d snapshots | avg %.3f ms, max %.3f ms | %d writes | avg %.3f ms, max %.3f ms | %d coalesced | %d failed",
+                snapshots, totalSnapshotNanos / 1e6 / snapshots, maxSnapshotNanos / 1e6, writes,
+                writes == 0 ? 0 : totalWriteNanos / 1e6 / writes, maxWriteNanos / 1e6, coalesced, failures);
+    }
+}
@@ -0,0 +1,265 @@
+package src.server;
+
+import src.game.GameSession;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many players from one program over TCP: every connection plays its own
+ * game, in its own {@link GameSession}, on its own virtual thread.
+ * Players connect with telnet or netcat. A player waiting at a prompt only
+ * parks a virtual thread rather than holding a platform thread, and once idle
+ * for long the game itself is parked out of memory until the player types
+ * again (see {@link IdleSessionManager}).
+ * Usage: GameServer [port] [seed] [--ansi] [--go-ahead] [--idle seconds] [--max-live games]
+ *        [--parked-memory kilobytes]
+ */
+public final class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 4000;
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final int BACKLOG = 1024;
+    // Bytes of parked games kept in memory before they are spilled to disk
+    public static final long DEFAULT_PARKED_MEMORY = 16L << 20;
+    // Every diagnostic of the server goes through this logger
+    static final System.Logger LOG = System.getLogger(GameServer.class.getPackageName());
+
+    private final ServerSocket serverSocket;
+    private final long baseSeed;
+    private final boolean ansi;
+    private final boolean goAhead;
+    private final IdleSessionManager sessions;
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    /**
+     * Starts a server on the local machine and waits for players.
+     *
+     * @param args The port, the seed of the first game, --ansi to redraw the
+     *             battle panel in place, --go-ahead to mark every prompt with
+     *             IAC GA, --idle with the seconds before an idle game is parked,
+     *             --max-live with the games kept in memory and --parked-memory
+     *             with the kilobytes of parked games kept in memory.
+     * @throws IOException if the port cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        Long seed = null;
+        boolean ansi = false;
+        boolean goAhead = false;
+        long idleSeconds = DEFAULT_IDLE_TIMEOUT.toSeconds();
+        int maxLiveGames = Integer.MAX_VALUE;
+        long parkedMemory = DEFAULT_PARKED_MEMORY;
+        int position = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ansi" -> ansi = true;
+                case "--go-ahead" -> goAhead = true;
+                case "--idle" -> idleSeconds = Long.parseLong(optionValue(args, ++i));
+                case "--max-live" -> maxLiveGames = Integer.parseInt(optionValue(args, ++i));
+                case "--parked-memory" -> parkedMemory = Long.parseLong(optionValue(args, ++i)) << 10;
+                default -> {
+                    if (position++ == 0) {
+                        port = Integer.parseInt(args[i]);
+                    } else {
+                        seed = Long.parseLong(args[i]);
+                    }
+                }
+            }
+        }
+
+        try (GameServer server = new GameServer(port, seed != null ? seed : System.currentTimeMillis(), ansi,
+                goAhead, Duration.ofSeconds(idleSeconds), maxLiveGames, parkedMemory)) {
+            System.out.printf("Lab Chaos server listening on port %d%n", server.getPort());
+            server.serve();
+        }
+    }
+
+    /**
+     * Gets the value that follows an option on the command line.
+     *
+     * @param args  The command line arguments.
+     * @param index The position of the value.
+     * @return The value.
+     * @throws IllegalArgumentException if the value is missing.
+     */
+    private static String optionValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1] + ".");
+        }
+        return args[index];
+    }
+
+    /**
+     * Opens the server socket on the loopback address, parking games idle for
+     * {@link #DEFAULT_IDLE_TIMEOUT} with no limit on the games kept in memory and
+     * {@link #DEFAULT_PARKED_MEMORY} bytes of parked games kept in memory.
+     *
+     * @param port     The port, or 0 for any free port.
+     * @param baseSeed The seed of the first game, each connection after it
+     *                 plays the next seed.
+     * @param ansi     Whether players get the battle panel redrawn in place.
+     * @param goAhead  Whether every prompt is followed by IAC GA, so scripted
+     *                 clients know when to answer.
+     * @throws IOException if the port cannot be opened.
+     */
+    public GameServer(int port, long baseSeed, boolean ansi, boolean goAhead) throws IOException {
+        this(port, baseSeed, ansi, goAhead, DEFAULT_IDLE_TIMEOUT, Integer.MAX_VALUE, DEFAULT_PARKED_MEMORY);
+    }
+
+    /**
+     * Opens the server socket on the loopback address.
+     *
+     * @param port         The port, or 0 for any free port.
+     * @param baseSeed     The seed of the first game, each connection after it
+     *                     plays the next seed.
+     * @param ansi         Whether players get the battle panel redrawn in place.
+     * @param goAhead      Whether every prompt is followed by IAC GA, so scripted
+     *                     clients know when to answer.
+     * @param idleTimeout  How long a player can be idle before the game is
+     *                     parked out of memory.
+     * @param maxLiveGames How many games are kept in memory before the least
+     *                     recently active are parked.
+     * @param parkedMemory The bytes of parked games kept in memory before the
+     *                     ones parked the longest ago are spilled to disk.
+     * @throws IOException if the port cannot be opened.
+     */
+    public GameServer(int port, long baseSeed, boolean ansi, boolean goAhead, Duration idleTimeout,
+            int maxLiveGames, long parkedMemory) throws IOException {
+        this.serverSocket = new ServerSocket();
+        // Restarting the server should not wait for old connections to time out
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.baseSeed = baseSeed;
+        this.ansi = ansi;
+        this.goAhead = goAhead;
+        SessionStore store = new SessionStore(parkedMemory);
+        this.sessions = new IdleSessionManager(idleTimeout.toNanos(), maxLiveGames, store);
+    }
+
+    /**
+     * Gets the port players connect to.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of players connected right now.
+     *
+     * @return The sessions being played.
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Gets the number of players that connected since the server started.
+     *
+     * @return The connections accepted.
+     */
+    public long getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * Gets the number of games held in memory, being played or waiting for an
+     * active player.
+     *
+     * @return The live games.
+     */
+    public int getLiveGames() {
+        return sessions.getLiveGames();
+    }
+
+    /**
+     * Gets the number of games parked in memory, in their compact saved form.
+     *
+     * @return The games parked in memory.
+     */
+    public int getParkedInMemory() {
+        return sessions.getStore().getInMemory();
+    }
+
+    /**
+     * Gets the number of games parked on disk.
+     *
+     * @return The games parked on disk.
+     */
+    public int getParkedOnDisk() {
+        return sessions.getStore().getOnDisk();
+    }
+
+    /**
+     * Gets the number of games parked since the server started.
+     *
+     * @return The parks.
+     */
+    public long getParks() {
+        return sessions.getParks();
+    }
+
+    /**
+     * Gets the number of parked games played again since the server started.
+     *
+     * @return The rehydrations.
+     */
+    public long getRehydrations() {
+        return sessions.getRehydrations();
+    }
+
+    /**
+     * Accepts players until the server is closed, starting a virtual thread for
+     * each of them.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOG.log(System.Logger.Level.WARNING, "Could not accept a player.", e);
+                }
+                continue;
+            }
+            long id = connections.getAndIncrement();
+            activeSessions.incrementAndGet();
+            Thread.ofVirtual().name("session-" + id).start(() -> play(socket, id));
+        }
+    }
+
+    /**
+     * Serves a connected player until they exit or disconnect.
+     *
+     * @param socket The connection of the player.
+     * @param id     The number of the connection.
+     */
+    private void play(Socket socket, long id) {
+        try {
+            new PlayerConnection(socket, id, baseSeed + id, ansi, goAhead, sessions).run();
+        } finally {
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting players and parking games. Games already being played go
+     * on until their players leave, but games spilled to disk are deleted.
+     *
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessions.close();
+    }
+}
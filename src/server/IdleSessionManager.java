@@ -0,0 +1,222 @@
+package src.server;
+
+import src.save.SaveData;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the memory of the server proportional to the players who are playing
+ * rather than to the players who are connected.
+ * Games in memory are kept from the least to the most recently active. A
+ * sweeper parks the games whose players have been idle too long, and the least
+ * recently active games while there are more in memory than allowed, in a
+ * {@link SessionStore}. Only games waiting at a safe prompt can be parked, so
+ * the limit is a target rather than a hard cap. A parked game is rehydrated
+ * when its player types the next line.
+ */
+final class IdleSessionManager {
+    private static final long SWEEP_INTERVAL_MILLIS = 100;
+
+    private final long idleTimeoutNanos;
+    private final int maxLiveGames;
+    private final SessionStore store;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Games in memory, the least recently active first
+    private final LinkedHashMap<Long, PlayerConnection> live = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong parks = new AtomicLong();
+    private final AtomicLong rehydrations = new AtomicLong();
+    private final Thread sweeper;
+
+    /**
+     * Constructs a manager and starts its sweeper.
+     *
+     * @param idleTimeoutNanos How long a player can be idle before the game is
+     *                         parked.
+     * @param maxLiveGames     How many games are kept in memory before the least
+     *                         recently active are parked.
+     * @param store            Where parked games are kept.
+     */
+    IdleSessionManager(long idleTimeoutNanos, int maxLiveGames, SessionStore store) {
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.maxLiveGames = maxLiveGames;
+        this.store = store;
+        this.sweeper = Thread.ofVirtual().name("idle-sweeper").start(this::sweepUntilClosed);
+    }
+
+    /**
+     * Records that a game is in memory, new or rehydrated.
+     *
+     * @param connection The connection of the game.
+     */
+    void activate(PlayerConnection connection) {
+        lock.lock();
+        try {
+            live.put(connection.getId(), connection);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the player of a game typed a line, making it the most recently
+     * active game.
+     *
+     * @param connection The connection of the game.
+     */
+    void touch(PlayerConnection connection) {
+        lock.lock();
+        try {
+            live.get(connection.getId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets a game that ended.
+     *
+     * @param connection The connection of the game.
+     */
+    void finish(PlayerConnection connection) {
+        lock.lock();
+        try {
+            live.remove(connection.getId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Parks a game that stopped at a safe prompt.
+     *
+     * @param connection The connection of the game.
+     * @param save       The game at its last checkpoint.
+     */
+    void park(PlayerConnection connection, SaveData save) {
+        store.put(connection.getId(), save);
+        parks.incrementAndGet();
+    }
+
+    /**
+     * Takes a parked game back to play it again.
+     *
+     * @param connection The connection of the game.
+     * @return The game at the checkpoint it was parked at, or null if it was lost.
+     */
+    SaveData rehydrate(PlayerConnection connection) {
+        SaveData save = store.take(connection.getId());
+        if (save != null) {
+            rehydrations.incrementAndGet();
+        }
+        return save;
+    }
+
+    /**
+     * Drops a parked game whose player left.
+     *
+     * @param connection The connection of the game.
+     */
+    void discard(PlayerConnection connection) {
+        store.remove(connection.getId());
+    }
+
+    /**
+     * Gets the number of games in memory.
+     *
+     * @return The live games.
+     */
+    int getLiveGames() {
+        lock.lock();
+        try {
+            return live.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of games parked since the server started.
+     *
+     * @return The parks.
+     */
+    long getParks() {
+        return parks.get();
+    }
+
+    /**
+     * Gets the number of parked games played again since the server started.
+     *
+     * @return The rehydrations.
+     */
+    long getRehydrations() {
+        return rehydrations.get();
+    }
+
+    /**
+     * Gets the store of parked games.
+     *
+     * @return The store.
+     */
+    SessionStore getStore() {
+        return store;
+    }
+
+    /**
+     * Stops parking games and deletes the spilled ones.
+     */
+    void close() {
+        sweeper.interrupt();
+        try {
+            sweeper.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        store.close();
+    }
+
+    /**
+     * Sweeps the games in memory at a fixed interval until the manager is closed.
+     */
+    private void sweepUntilClosed() {
+        while (true) {
+            try {
+                Thread.sleep(SWEEP_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            sweep();
+        }
+    }
+
+    /**
+     * Parks the idle games and, while there are too many games in memory, the
+     * least recently active ones.
+     */
+    private void sweep() {
+        long now = System.nanoTime();
+        ArrayList<PlayerConnection> parked = new ArrayList<>();
+        lock.lock();
+        try {
+            int excess = live.size() - maxLiveGames;
+            for (PlayerConnection connection : live.values()) {
+                boolean idle = now - connection.getLastInputNanos() >= idleTimeoutNanos;
+                if (excess <= 0 && !idle) {
+                    // Every game after this one was active more recently
+                    break;
+                }
+                if (connection.requestPark()) {
+                    parked.add(connection);
+                    excess--;
+                }
+            }
+            for (PlayerConnection connection : parked) {
+                live.remove(connection.getId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package src.server;
+
+import src.entities.Hero;
+import src.events.GameListener;
+import src.game.Game;
+import src.game.GameClock;
+import src.game.GameSession;
+import src.game.HeroCreationOptions;
+import src.game.Map;
+import src.save.SaveData;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A player connected to the game server.
+ * The connection thread reads the lines the player types, and a game thread
+ * plays the game with them. When the game waits at the first prompt after a
+ * checkpoint, nothing but the checkpoint is needed to play on from there, so
+ * the {@link IdleSessionManager} can park the game: the game thread unwinds,
+ * the checkpoint goes to the store, and the hero, the map and the output
+ * buffer are left to the garbage collector. The next line the player types
+ * rehydrates the game from the checkpoint with the output muted until it is
+ * back at the same prompt, so the player sees nothing of it.
+ */
+final class PlayerConnection implements GameListener {
+    // Large enough for any screen, so a screen goes out in one write
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    /**
+     * Unwinds the game thread when its game is parked. Carries no stack trace,
+     * since it is not an error.
+     */
+    private static final class Parked extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Parked() {
+            super("The game was parked.", null, false, false);
+        }
+    }
+
+    private final Socket socket;
+    private final long id;
+    private final long seed;
+    private final boolean ansi;
+    private final boolean goAhead;
+    private final IdleSessionManager manager;
+    // Opened by run, before the game thread starts
+    private TelnetInput input;
+    private OutputStream socketOutput;
+    private volatile long lastInputNanos = System.nanoTime();
+
+    // Guarded by the lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition lineTyped = lock.newCondition();
+    private final ArrayDeque<String> lines = new ArrayDeque<>();
+    private boolean atSafePrompt = false;
+    private boolean parkRequested = false;
+    private boolean parked = false;
+    private boolean disconnected = false;
+
+    // Only used by the game thread
+    private PrintStream output;
+    private HeroCreationOptions options;
+    private Hero player;
+    // The last checkpoint, until the game reads the next line
+    private SaveData checkpoint;
+    // The next read answers a prompt shown before the game was parked
+    private boolean rehydrating = false;
+
+    /**
+     * Constructs a connection.
+     *
+     * @param socket  The socket of the player.
+     * @param id      The number of the connection.
+     * @param seed    The seed of the game.
+     * @param ansi    Whether the player gets the battle panel redrawn in place.
+     * @param goAhead Whether every prompt is followed by IAC GA.
+     * @param manager The manager parking idle games.
+     */
+    PlayerConnection(Socket socket, long id, long seed, boolean ansi, boolean goAhead, IdleSessionManager manager) {
+        this.socket = socket;
+        this.id = id;
+        this.seed = seed;
+        this.ansi = ansi;
+        this.goAhead = goAhead;
+        this.manager = manager;
+    }
+
+    /**
+     * Gets the number of the connection.
+     *
+     * @return The number.
+     */
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Gets when the player last typed a line the game read.
+     *
+     * @return The time, in System.nanoTime() terms.
+     */
+    long getLastInputNanos() {
+        return lastInputNanos;
+    }
+
+    /**
+     * Starts the game, then reads the lines the player types until they
+     * disconnect or the game ends. Runs on the thread of the connection.
+     */
+    void run() {
+        try {
+            socket.setTcpNoDelay(true);
+            input = new TelnetInput(socket.getInputStream());
+            socketOutput = socket.getOutputStream();
+        } catch (IOException e) {
+            reportFailure(e);
+            closeSocket();
+            return;
+        }
+        startGame(false);
+        try {
+            while (true) {
+                String line = input.nextLine();
+                boolean resume;
+                lock.lock();
+                try {
+                    lines.add(line);
+                    lineTyped.signal();
+                    resume = parked;
+                    parked = false;
+                } finally {
+                    lock.unlock();
+                }
+                if (resume) {
+                    startGame(true);
+                }
+            }
+        } catch (NoSuchElementException e) {
+            // The player left, or the game ended and closed the socket
+        } finally {
+            boolean wasParked;
+            lock.lock();
+            try {
+                disconnected = true;
+                lineTyped.signal();
+                wasParked = parked;
+                parked = false;
+            } finally {
+                lock.unlock();
+            }
+            if (wasParked) {
+                manager.discard(this);
+                closeSocket();
+            }
+        }
+    }
+
+    /**
+     * Asks the game to park. Called by the manager.
+     *
+     * @return True if the game waits at a safe prompt with no line typed ahead
+     *         and will park, false otherwise.
+     */
+    boolean requestPark() {
+        lock.lock();
+        try {
+            if (!atSafePrompt || parkRequested || !lines.isEmpty() || disconnected) {
+                return false;
+            }
+            parkRequested = true;
+            lineTyped.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remembers the hero of the adventure being played.
+     *
+     * @param options The options the hero was created with.
+     * @param player  The player.
+     * @param map     The map.
+     */
+    @Override
+    public void onAdventureStarted(HeroCreationOptions options, Hero player, Map map) {
+        this.options = options;
+        this.player = player;
+    }
+
+    /**
+     * Takes a snapshot of the game, to park it at the next prompt.
+     *
+     * @param map The map being explored.
+     */
+    @Override
+    public void onCheckpoint(Map map) {
+        checkpoint = SaveData.capture(options, player, map);
+    }
+
+    /**
+     * Starts a game thread.
+     *
+     * @param resume Whether to rehydrate the parked game rather than start a new
+     *               one.
+     */
+    private void startGame(boolean resume) {
+        Thread.ofVirtual().name("game-" + id).start(() -> play(resume));
+    }
+
+    /**
+     * Plays the game until it ends or is parked with no line waiting. Runs on the
+     * game thread.
+     *
+     * @param resume Whether to rehydrate the parked game rather than start a new
+     *               one.
+     */
+    private void play(boolean resume) {
+        try {
+            while (true) {
+                SaveData save = null;
+                if (resume) {
+                    save = manager.rehydrate(this);
+                    if (save == null) {
+                        socketOutput.write("The server is shutting down.\r\n".getBytes(StandardCharsets.UTF_8));
+                        break;
+                    }
+                }
+                if (!playUntilParked(save)) {
+                    break;
+                }
+                lock.lock();
+                try {
+                    parkRequested = false;
+                    if (disconnected) {
+                        manager.discard(this);
+                        break;
+                    }
+                    if (lines.isEmpty()) {
+                        parked = true;
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                // The player typed while the game was being parked
+                resume = true;
+            }
+        } catch (NoSuchElementException e) {
+            // The player left in the middle of the game
+        } catch (IOException | RuntimeException e) {
+            reportFailure(e);
+        }
+        manager.finish(this);
+        closeSocket();
+    }
+
+    /**
+     * Plays a new or rehydrated game in a session of its own.
+     *
+     * @param save The parked game to rehydrate, or null to start a new one.
+     * @return True if the game was parked, false if it ended.
+     */
+    private boolean playUntilParked(SaveData save) {
+        output = new PrintStream(new TelnetOutput(
+                new BufferedOutputStream(socketOutput, OUTPUT_BUFFER_SIZE)), false, StandardCharsets.UTF_8);
+        checkpoint = null;
+        rehydrating = save != null;
+        lastInputNanos = System.nanoTime();
+        manager.activate(this);
+
+        // A rehydrated game stays muted until it is back at the prompt the player answers
+        GameSession session = new GameSession(this::nextLine, rehydrating ? null : output, GameClock.SYSTEM);
+        session.setAnsi(ansi);
+        // Music would play on the server, not for the player
+        session.setMusicEnabled(false);
+        session.subscribe(this);
+        try {
+            session.run(save == null ? () -> Game.playSession(seed) : () -> Game.resumeSession(save));
+            return false;
+        } catch (Parked e) {
+            manager.park(this, checkpoint);
+            return true;
+        } finally {
+            output.flush();
+            // Leave the game to the garbage collector while parked
+            output = null;
+            options = null;
+            player = null;
+            checkpoint = null;
+        }
+    }
+
+    /**
+     * Waits for the next line the player types. Runs on the game thread.
+     *
+     * @return The line.
+     * @throws NoSuchElementException if the player disconnected.
+     * @throws Parked                 if the manager parks the game.
+     */
+    private String nextLine() {
+        if (rehydrating) {
+            rehydrating = false;
+            GameSession.current().setOutput(output);
+        } else if (goAhead) {
+            output.write(TelnetOutput.GO_AHEAD, 0, TelnetOutput.GO_AHEAD.length);
+            output.flush();
+        }
+
+        String line;
+        lock.lock();
+        try {
+            atSafePrompt = checkpoint != null;
+            while (true) {
+                if (parkRequested) {
+                    throw new Parked();
+                }
+                if (!lines.isEmpty()) {
+                    break;
+                }
+                if (disconnected) {
+                    throw new NoSuchElementException("The player disconnected.");
+                }
+                lineTyped.awaitUninterruptibly();
+            }
+            line = lines.poll();
+        } finally {
+            atSafePrompt = false;
+            lock.unlock();
+        }
+        checkpoint = null;
+        lastInputNanos = System.nanoTime();
+        manager.touch(this);
+        return line;
+    }
+
+    /**
+     * Logs the failure that ended the session.
+     *
+     * @param failure The failure.
+     */
+    private void reportFailure(Exception failure) {
+        GameServer.LOG.log(System.Logger.Level.WARNING, () -> "Session " + id + " failed.", failure);
+    }
+
+    /**
+     * Closes the socket, which also ends the connection thread if it is still
+     * reading.
+     */
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package src.server;
+
+import src.save.SaveData;
+import src.save.SaveFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the games the server parked while their players were idle.
+ * Parked games are encoded in the save file format, about a kilobyte each.
+ * They stay in memory up to a byte budget; past it, the games parked the
+ * longest ago are spilled to files in a temporary folder, created on the first
+ * spill, and read back when their players return. Spilled files are not synced
+ * to the disk: they only need to outlive the idle time of a player, not a
+ * crash of the server.
+ * The lock of the store only guards its maps: files are written, read and
+ * deleted outside it, so a slow disk does not hold up the other players. Every
+ * spill goes to a file of its own, and a game stays in memory until its file is
+ * fully written, so each file belongs to a single park of a single player.
+ */
+final class SessionStore {
+    /**
+     * A game picked to be spilled.
+     *
+     * @param id     The number of the connection the game belongs to.
+     * @param bytes  The encoded game.
+     * @param number The number of the spill, naming its file.
+     */
+    private record Spill(long id, byte[] bytes, long number) {
+    }
+
+    private final long memoryBudget;
+    // A lock rather than synchronized, so virtual threads waiting here do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    // Games parked in memory, the least recently parked first
+    private final LinkedHashMap<Long, byte[]> inMemory = new LinkedHashMap<>();
+    // Games being written to disk, still taken from memory until the write is done
+    private final HashMap<Long, byte[]> spilling = new HashMap<>();
+    // The file of every game spilled to disk
+    private final HashMap<Long, Path> onDisk = new HashMap<>();
+    private long memoryBytes = 0;
+    private long spills = 0;
+    private boolean closed = false;
+    // Guards the creation and deletion of the folder only
+    private final ReentrantLock folderLock = new ReentrantLock();
+    private Path folder;
+
+    /**
+     * Constructs an empty store.
+     *
+     * @param memoryBudget The bytes of parked games kept in memory before the
+     *                     oldest are spilled to disk.
+     */
+    SessionStore(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Parks a game, spilling the oldest games in memory to the folder if the
+     * budget is exceeded.
+     *
+     * @param id   The number of the connection the game belongs to.
+     * @param save The game.
+     */
+    void put(long id, SaveData save) {
+        byte[] bytes = SaveFile.toBytes(save);
+        ArrayList<Spill> picked = new ArrayList<>();
+        lock.lock();
+        try {
+            inMemory.put(id, bytes);
+            memoryBytes += bytes.length;
+            Iterator<Map.Entry<Long, byte[]>> oldest = inMemory.entrySet().iterator();
+            while (memoryBytes > memoryBudget && !closed && oldest.hasNext()) {
+                Map.Entry<Long, byte[]> entry = oldest.next();
+                spilling.put(entry.getKey(), entry.getValue());
+                picked.add(new Spill(entry.getKey(), entry.getValue(), spills++));
+                memoryBytes -= entry.getValue().length;
+                oldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Spill spill : picked) {
+            spill(spill);
+        }
+    }
+
+    /**
+     * Takes a parked game out of the store.
+     *
+     * @param id The number of the connection the game belongs to.
+     * @return The game, or null if it is not parked here.
+     * @throws UncheckedIOException if the spilled game cannot be read back.
+     */
+    SaveData take(long id) {
+        byte[] bytes;
+        Path file = null;
+        lock.lock();
+        try {
+            bytes = inMemory.remove(id);
+            if (bytes != null) {
+                memoryBytes -= bytes.length;
+            } else {
+                // A game still being spilled is taken from memory, its writer deletes the file
+                bytes = spilling.remove(id);
+                if (bytes == null) {
+                    file = onDisk.remove(id);
+                    if (file == null) {
+                        return null;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (file != null) {
+            try {
+                bytes = Files.readAllBytes(file);
+                Files.delete(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read a parked game back.", e);
+            }
+        }
+        return SaveFile.fromBytes(bytes);
+    }
+
+    /**
+     * Drops a parked game whose player left.
+     *
+     * @param id The number of the connection the game belongs to.
+     */
+    void remove(long id) {
+        Path file = null;
+        lock.lock();
+        try {
+            byte[] bytes = inMemory.remove(id);
+            if (bytes != null) {
+                memoryBytes -= bytes.length;
+            } else if (spilling.remove(id) == null) {
+                file = onDisk.remove(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (file != null) {
+            delete(file);
+        }
+    }
+
+    /**
+     * Gets the number of games parked in memory.
+     *
+     * @return The games in memory, including the ones being spilled.
+     */
+    int getInMemory() {
+        lock.lock();
+        try {
+            return inMemory.size() + spilling.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of games spilled to the folder.
+     *
+     * @return The games on disk.
+     */
+    int getOnDisk() {
+        lock.lock();
+        try {
+            return onDisk.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the spilled games and the folder. Games parked in memory can still
+     * be taken, but nothing is spilled anymore.
+     */
+    void close() {
+        ArrayList<Path> files;
+        lock.lock();
+        try {
+            closed = true;
+            files = new ArrayList<>(onDisk.values());
+            onDisk.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (Path file : files) {
+            delete(file);
+        }
+        deleteFolder();
+    }
+
+    /**
+     * Writes a game picked by put to its file, then records it as spilled. The
+     * game stays in memory if it was taken during the write, if the store was
+     * closed meanwhile or if the write failed.
+     *
+     * @param spill The game to write.
+     */
+    private void spill(Spill spill) {
+        Path file;
+        try {
+            file = getFolder().resolve(spill.id() + "-" + spill.number() + ".sav");
+            Files.write(file, spill.bytes());
+        } catch (IOException e) {
+            GameServer.LOG.log(System.Logger.Level.WARNING, "Could not spill a parked game.", e);
+            keepInMemory(spill);
+            return;
+        }
+
+        boolean spilled = false;
+        boolean wasClosed;
+        lock.lock();
+        try {
+            wasClosed = closed;
+            if (!closed && spilling.get(spill.id()) == spill.bytes()) {
+                spilling.remove(spill.id());
+                onDisk.put(spill.id(), file);
+                spilled = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!spilled) {
+            delete(file);
+            keepInMemory(spill);
+            if (wasClosed) {
+                deleteFolder();
+            }
+        }
+    }
+
+    /**
+     * Puts a game that could not be spilled back in memory, over the budget,
+     * unless it was taken or dropped meanwhile.
+     *
+     * @param spill The game.
+     */
+    private void keepInMemory(Spill spill) {
+        lock.lock();
+        try {
+            if (spilling.get(spill.id()) == spill.bytes()) {
+                spilling.remove(spill.id());
+                inMemory.put(spill.id(), spill.bytes());
+                memoryBytes += spill.bytes().length;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the folder games are spilled to, creating it the first time.
+     *
+     * @return The folder.
+     * @throws IOException if the folder cannot be created.
+     */
+    private Path getFolder() throws IOException {
+        folderLock.lock();
+        try {
+            if (folder == null) {
+                folder = Files.createTempDirectory("lab-chaos-parked");
+            }
+            return folder;
+        } finally {
+            folderLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the folder, unless a spill is still writing to it; the spill then
+     * deletes it once done.
+     */
+    private void deleteFolder() {
+        folderLock.lock();
+        try {
+            if (folder != null) {
+                Files.deleteIfExists(folder);
+            }
+        } catch (DirectoryNotEmptyException e) {
+            // Left to the spill still writing to it
+        } catch (IOException e) {
+            GameServer.LOG.log(System.Logger.Level.WARNING, "Could not delete the parked games.", e);
+        } finally {
+            folderLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes a spilled game.
+     *
+     * @param file The file of the game.
+     */
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            GameServer.LOG.log(System.Logger.Level.WARNING, "Could not delete a parked game.", e);
+        }
+    }
+}
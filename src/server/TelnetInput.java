@@ -0,0 +1,124 @@
+package src.server;
+
+import src.game.InputSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the lines a player types into a telnet or raw TCP client.
+ * Telnet option negotiation is skipped, and lines may end with CR LF, CR NUL
+ * or LF. Blocking reads park a virtual thread instead of holding a platform
+ * thread, and the buffers stay small so idle players cost little memory.
+ */
+public final class TelnetInput implements InputSource {
+    // Telnet commands
+    static final int IAC = 255;
+    private static final int SB = 250;
+    private static final int SE = 240;
+    private static final int WILL = 251;
+    private static final int DONT = 254;
+    // Longest line kept, anything after it is dropped
+    private static final int MAX_LINE_LENGTH = 1024;
+    private static final int READ_BUFFER_SIZE = 256;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private byte[] line = new byte[64];
+    private boolean lastWasCr = false;
+
+    /**
+     * Constructs an input reading from a connection.
+     *
+     * @param in The input stream of the connection.
+     */
+    public TelnetInput(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the next line, blocking until the player sends one.
+     *
+     * @return The line, without its line terminator.
+     * @throws NoSuchElementException if the connection was closed.
+     */
+    @Override
+    public String nextLine() {
+        int length = 0;
+        while (true) {
+            int b = read();
+            if (b < 0) {
+                if (length == 0) {
+                    throw new NoSuchElementException("The player disconnected.");
+                }
+                break;
+            }
+            if (b == IAC) {
+                skipCommand();
+                continue;
+            }
+            // CR LF and CR NUL end a single line
+            boolean afterCr = lastWasCr;
+            lastWasCr = b == '\r';
+            if (afterCr && (b == '\n' || b == 0)) {
+                continue;
+            }
+            if (b == '\r' || b == '\n') {
+                break;
+            }
+            if (length < MAX_LINE_LENGTH) {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_LENGTH));
+                }
+                line[length++] = (byte) b;
+            }
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skips a telnet command whose IAC byte was just read. The server does not
+     * negotiate any option, so commands are dropped without a reply.
+     */
+    private void skipCommand() {
+        int command = read();
+        if (command >= WILL && command <= DONT) {
+            // The option of the negotiation
+            read();
+        } else if (command == SB) {
+            // Subnegotiation lasts until IAC SE
+            int previous = 0;
+            int b;
+            while ((b = read()) >= 0 && !(previous == IAC && b == SE)) {
+                previous = b;
+            }
+        }
+    }
+
+    /**
+     * Reads one byte from the connection.
+     *
+     * @return The byte, or -1 if the connection was closed.
+     */
+    private int read() {
+        if (position == limit) {
+            try {
+                limit = in.read(buffer);
+            } catch (IOException e) {
+                // A reset connection ends the input like a closed one
+                limit = -1;
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+}
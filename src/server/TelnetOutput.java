@@ -0,0 +1,64 @@
+package src.server;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes game output to a telnet or raw TCP client, turning every line feed into
+ * the CR LF that network terminals expect.
+ */
+public final class TelnetOutput extends FilterOutputStream {
+    /**
+     * The telnet Go Ahead command (IAC GA), sent after a prompt to tell clients
+     * such as bots that the server now waits for their input.
+     */
+    static final byte[] GO_AHEAD = { (byte) TelnetInput.IAC, (byte) 249 };
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    /**
+     * Constructs an output writing to a connection.
+     *
+     * @param out The output stream of the connection.
+     */
+    public TelnetOutput(OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Writes one byte.
+     *
+     * @param b The byte.
+     * @throws IOException if the connection fails.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        if (b == '\n') {
+            out.write(CRLF);
+        } else {
+            out.write(b);
+        }
+    }
+
+    /**
+     * Writes bytes, passing the runs between line feeds through in one piece.
+     *
+     * @param b   The bytes.
+     * @param off The first byte to write.
+     * @param len The number of bytes to write.
+     * @throws IOException if the connection fails.
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int start = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] == '\n') {
+                out.write(b, start, i - start);
+                out.write(CRLF);
+                start = i + 1;
+            }
+        }
+        out.write(b, start, end - start);
+    }
+}
@@ -0,0 +1,869 @@
+package src.simulation;
+
+import src.actions.AttackAction;
+import src.actions.BattleAction;
+import src.actions.HackAction;
+import src.actions.HealAction;
+import src.actions.IncendiaryStrikeAction;
+import src.actions.SpecialAttackAction;
+import src.actions.UseItemAction;
+import src.entities.Entity;
+import src.entities.Hero;
+import src.game.Battle;
+import src.items.HealthPotion;
+import src.items.Item;
+import src.items.Weapon;
+import src.status.AttackBoost;
+import src.status.Burning;
+import src.status.Poisoned;
+import src.status.Regeneration;
+import src.status.TimedStatus;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A battle stored as plain arrays, for simulating millions of battles.
+ * Every combatant is a row index and every property (HP, strength, cooldowns,
+ * statuses...) is an array, so a battle can be reset and replayed without
+ * creating a single object.
+ * The rules mirror the object model exactly, including the order in which
+ * random numbers are drawn: the hero plays like the AutoHeroController and
+ * every other entity like the RandomBattleAI. Given the same seed, a battle
+ * ends with the same HP for every entity as a Battle using those controllers.
+ * Only health potions are modelled in the hero's inventory.
+ */
+public class ArrayBattle {
+    public static final byte ALLY = 0;
+    public static final byte ENEMY = 1;
+
+    // Action kinds
+    private static final byte ATTACK = 0;
+    private static final byte SPECIAL_ATTACK = 1;
+    private static final byte HEAL = 2;
+    private static final byte HACK = 3;
+    private static final byte INCENDIARY_STRIKE = 4;
+    private static final byte USE_ITEM = 5;
+    private static final int MAX_ACTIONS = 6;
+
+    // Status kinds
+    private static final byte BURNING = 0;
+    private static final byte POISONED = 1;
+    private static final byte REGENERATION = 2;
+    private static final byte ATTACK_BOOST = 3;
+
+    // Entity flags
+    private static final int ELECTRONIC = 1;
+
+    // Same rule as the AutoHeroController
+    private static final int POTION_HP_PERCENT = 35;
+
+    private int size;
+    private int capacity;
+    private int turnCount;
+    private Random random;
+
+    private int[] hp;
+    private int[] maxHp;
+    private int[] strength;
+    private int[] weaponPower;
+    private int[] disabledTurns;
+    private int[] flags;
+    private double[] damageTakenMultiplier;
+    private byte[] side;
+
+    // MAX_ACTIONS slots per entity, in the order the entity lists its actions
+    private int[] actionCount;
+    private byte[] actionKind;
+    private int[] actionCooldown;
+
+    // statusStride slots per entity, in the order the statuses were applied
+    private int statusStride = 4;
+    private int[] statusCount;
+    private byte[] statusKind;
+    private int[] statusTurns;
+    private int[] statusAmount;
+
+    // Heal amounts of the player's health potions, in inventory order
+    private int[] potions = new int[4];
+    private int potionCount;
+
+    // Rosters holding entity indexes, with the same order as in Battle
+    private int[] combatants;
+    private int combatantCount;
+    private int[] aliveAllies;
+    private int aliveAllyCount;
+    private int[] aliveEnemies;
+    private int aliveEnemyCount;
+    private int[] acting;
+    // Reused by every decision
+    private int[] targets;
+    private int[] executable = new int[MAX_ACTIONS];
+    private int[] executableTarget = new int[MAX_ACTIONS];
+
+    /**
+     * Constructs an empty battle.
+     */
+    public ArrayBattle() {
+        allocate(8);
+    }
+
+    /**
+     * Removes every entity so a new battle can be set up.
+     */
+    public void clear() {
+        size = 0;
+        turnCount = 0;
+        potionCount = 0;
+        combatantCount = 0;
+        aliveAllyCount = 0;
+        aliveEnemyCount = 0;
+    }
+
+    /**
+     * Adds an entity to the battle, copying its current state. The first entity
+     * added is the player and must be a hero on the ally side; like in Battle,
+     * friendly NPCs should be added before enemies as they act in that order.
+     *
+     * @param entity The entity to copy.
+     * @param team   The side the entity fights on.
+     * @return The index of the entity.
+     * @throws IllegalArgumentException if the entity uses an action or status
+     *                                  that cannot be simulated.
+     */
+    public int add(Entity entity, byte team) {
+        if (size == 0 && (!(entity instanceof Hero) || team != ALLY)) {
+            throw new IllegalArgumentException("The first entity must be the player's hero.");
+        }
+
+        int index = newEntity(team);
+        hp[index] = entity.getCurrentHp();
+        maxHp[index] = entity.getMaxHp();
+        // The strength from boosts is added back by their statuses
+        int boost = 0;
+        for (TimedStatus status : entity.getStatuses()) {
+            if (status instanceof AttackBoost attackBoost) {
+                boost += attackBoost.getStrengthBoost();
+            }
+        }
+        strength[index] = entity.getStrength() - boost;
+        Weapon weapon = entity.getEquipedWeapon();
+        weaponPower[index] = weapon != null ? weapon.getAttackPower() : 0;
+        disabledTurns[index] = entity.getDisabledTurns();
+        flags[index] = entity.isElectronic() ? ELECTRONIC : 0;
+        damageTakenMultiplier[index] = entity.getDamageTakenMultiplier();
+
+        for (BattleAction action : entity.getActions()) {
+            int slot = index * MAX_ACTIONS + actionCount[index]++;
+            actionKind[slot] = getActionKind(action);
+            actionCooldown[slot] = action.getDisabledTurns();
+        }
+
+        for (TimedStatus status : entity.getStatuses()) {
+            switch (status) {
+                case Burning burning -> applyStatus(index, BURNING, status.getRemainingTurns(),
+                        burning.getDamagePerTurn());
+                case Poisoned poisoned -> applyStatus(index, POISONED, status.getRemainingTurns(),
+                        poisoned.getDamagePerTurn());
+                case Regeneration regeneration -> applyStatus(index, REGENERATION, status.getRemainingTurns(),
+                        regeneration.getHealAmount());
+                case AttackBoost attackBoost -> applyStatus(index, ATTACK_BOOST, status.getRemainingTurns(),
+                        attackBoost.getStrengthBoost());
+                default -> throw new IllegalArgumentException("Unsupported status: " + status.getName());
+            }
+        }
+
+        if (index == 0) {
+            for (Item item : ((Hero) entity).getInventory().getInventory()) {
+                if (item instanceof HealthPotion potion) {
+                    addPotion(potion.getEffectValue());
+                }
+            }
+        }
+        join(index);
+        return index;
+    }
+
+    /**
+     * Adds a copy of an entity of another battle, typically a template that is
+     * never played. Only the player (index 0) copies the inventory.
+     *
+     * @param source The battle holding the entity.
+     * @param row    The index of the entity in that battle.
+     * @param team   The side the entity fights on.
+     * @return The index of the entity in this battle.
+     */
+    public int add(ArrayBattle source, int row, byte team) {
+        int index = newEntity(team);
+        hp[index] = source.hp[row];
+        maxHp[index] = source.maxHp[row];
+        strength[index] = source.strength[row];
+        weaponPower[index] = source.weaponPower[row];
+        disabledTurns[index] = source.disabledTurns[row];
+        flags[index] = source.flags[row];
+        damageTakenMultiplier[index] = source.damageTakenMultiplier[row];
+
+        actionCount[index] = source.actionCount[row];
+        System.arraycopy(source.actionKind, row * MAX_ACTIONS, actionKind, index * MAX_ACTIONS, MAX_ACTIONS);
+        System.arraycopy(source.actionCooldown, row * MAX_ACTIONS, actionCooldown, index * MAX_ACTIONS, MAX_ACTIONS);
+
+        for (int i = 0; i < source.statusCount[row]; i++) {
+            int slot = row * source.statusStride + i;
+            applyStatus(index, source.statusKind[slot], source.statusTurns[slot], source.statusAmount[slot]);
+        }
+
+        if (index == 0 && row == 0) {
+            for (int i = 0; i < source.potionCount; i++) {
+                addPotion(source.potions[i]);
+            }
+        }
+        join(index);
+        return index;
+    }
+
+    /**
+     * Plays the battle until the player is knocked out or no enemy is left,
+     * including the rewards of a victory.
+     *
+     * @param random The random generator, drawn from in the same order as the
+     *               object model does.
+     */
+    public void run(Random random) {
+        this.random = random;
+
+        while (!combatEnded()) {
+            playerTurn();
+            factionTurn(ALLY);
+            factionTurn(ENEMY);
+            doEndOfTurnEffects();
+            turnCount++;
+        }
+
+        if (hp[0] > 0) {
+            // Level up, as Battle.start does
+            maxHp[0] += Battle.LEVEL_UP_HP;
+            hp[0] += Battle.LEVEL_UP_HP;
+            strength[0] += Battle.LEVEL_UP_STRENGTH;
+        }
+    }
+
+    /**
+     * Gets the number of entities in the battle.
+     *
+     * @return The number of entities, including the fallen ones.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return The number of completed turns.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Gets the current HP of an entity.
+     *
+     * @param index The index of the entity, 0 for the player.
+     * @return The entity's current HP.
+     */
+    public int getHp(int index) {
+        return hp[index];
+    }
+
+    /**
+     * Gets the maximum HP of an entity.
+     *
+     * @param index The index of the entity, 0 for the player.
+     * @return The entity's max HP.
+     */
+    public int getMaxHp(int index) {
+        return maxHp[index];
+    }
+
+    /**
+     * Checks if the player won: the battle is over and they are still standing.
+     *
+     * @return True if the player won.
+     */
+    public boolean isWon() {
+        return hp[0] > 0 && aliveEnemyCount == 0;
+    }
+
+    /**
+     * Checks if the combat has ended.
+     *
+     * @return True if the battle is over.
+     */
+    private boolean combatEnded() {
+        return hp[0] <= 0 || aliveEnemyCount == 0;
+    }
+
+    /**
+     * Plays the player's turn like the AutoHeroController: the highest priority
+     * action on the weakest target, retried until an action succeeds.
+     */
+    private void playerTurn() {
+        boolean turnCompleted = false;
+        while (!turnCompleted) {
+            int chosen = -1;
+            int first = -1;
+            int bestPriority = -1;
+            for (int slot = 0; slot < actionCount[0]; slot++) {
+                if (actionCooldown[slot] > 0) {
+                    continue;
+                }
+                if (first < 0) {
+                    first = slot;
+                }
+                int priority = getPriority(actionKind[slot]);
+                if (priority > bestPriority) {
+                    bestPriority = priority;
+                    chosen = slot;
+                }
+            }
+            if (chosen < 0) {
+                chosen = first;
+            }
+
+            int targetCount = collectTargets(0, actionKind[chosen]);
+            int target = targetCount > 0 ? getWeakest(targetCount) : -1;
+            turnCompleted = execute(0, chosen, target);
+            removeFallenEntities();
+        }
+    }
+
+    /**
+     * Gets the priority the AutoHeroController gives an action.
+     *
+     * @param kind The kind of action.
+     * @return The priority, -1 if the action should not be chosen.
+     */
+    private int getPriority(byte kind) {
+        return switch (kind) {
+            case USE_ITEM -> hp[0] * 100 <= maxHp[0] * POTION_HP_PERCENT && potionCount > 0 ? 5 : -1;
+            case INCENDIARY_STRIKE -> 4;
+            case HEAL -> hp[0] * 2 < maxHp[0] ? 4 : -1;
+            case SPECIAL_ATTACK -> 3;
+            case HACK -> collectTargets(0, HACK) == 0 ? -1 : 2;
+            default -> 1;
+        };
+    }
+
+    /**
+     * Plays the turn of every entity on one side like the RandomBattleAI.
+     *
+     * @param team The side whose entities act.
+     */
+    private void factionTurn(byte team) {
+        // Copy the initial entities of the side as sides may change during the turn
+        int actingCount = 0;
+        for (int i = 0; i < combatantCount; i++) {
+            if (side[combatants[i]] == team) {
+                acting[actingCount++] = combatants[i];
+            }
+        }
+
+        for (int i = 0; i < actingCount; i++) {
+            if (combatEnded()) {
+                return;
+            }
+            int entity = acting[i];
+            if (hp[entity] <= 0 || disabledTurns[entity] > 0) {
+                continue;
+            }
+
+            // Actions with at least one target, and the weakest of those targets
+            int executableCount = 0;
+            for (int k = 0; k < actionCount[entity]; k++) {
+                int slot = entity * MAX_ACTIONS + k;
+                if (actionCooldown[slot] > 0) {
+                    continue;
+                }
+                int targetCount = collectTargets(entity, actionKind[slot]);
+                if (targetCount > 0) {
+                    executable[executableCount] = slot;
+                    executableTarget[executableCount++] = getWeakest(targetCount);
+                }
+            }
+            if (executableCount == 0) {
+                // Nothing can be done this turn, so the entity waits
+                continue;
+            }
+
+            int choice = random.nextInt(executableCount);
+            execute(entity, executable[choice], executableTarget[choice]);
+            removeFallenEntities();
+        }
+    }
+
+    /**
+     * Collects the valid targets of an action into the targets array.
+     *
+     * @param actor The entity performing the action.
+     * @param kind  The kind of action.
+     * @return The number of targets, 0 for actions without targets.
+     */
+    private int collectTargets(int actor, byte kind) {
+        int[] enemies = side[actor] == ENEMY ? aliveAllies : aliveEnemies;
+        int enemyCount = side[actor] == ENEMY ? aliveAllyCount : aliveEnemyCount;
+        int count = 0;
+        switch (kind) {
+            case ATTACK, SPECIAL_ATTACK -> {
+                System.arraycopy(enemies, 0, targets, 0, enemyCount);
+                count = enemyCount;
+            }
+            case HACK -> {
+                for (int i = 0; i < enemyCount; i++) {
+                    if ((flags[enemies[i]] & ELECTRONIC) != 0) {
+                        targets[count++] = enemies[i];
+                    }
+                }
+            }
+            case HEAL -> {
+                int[] allies = side[actor] == ENEMY ? aliveEnemies : aliveAllies;
+                int allyCount = side[actor] == ENEMY ? aliveEnemyCount : aliveAllyCount;
+                for (int i = 0; i < allyCount; i++) {
+                    if (hp[allies[i]] != maxHp[allies[i]]) {
+                        targets[count++] = allies[i];
+                    }
+                }
+            }
+            default -> {
+                // Item and area actions have no target
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the target with the lowest HP, the first one on ties.
+     *
+     * @param count The number of targets in the targets array.
+     * @return The index of the weakest target.
+     */
+    private int getWeakest(int count) {
+        int weakest = targets[0];
+        for (int i = 1; i < count; i++) {
+            if (hp[targets[i]] < hp[weakest]) {
+                weakest = targets[i];
+            }
+        }
+        return weakest;
+    }
+
+    /**
+     * Executes an action with the same rules and random draws as its class.
+     *
+     * @param actor  The entity performing the action.
+     * @param slot   The action slot.
+     * @param target The target, or -1 if there is none.
+     * @return True if the action was executed.
+     */
+    private boolean execute(int actor, int slot, int target) {
+        switch (actionKind[slot]) {
+            case ATTACK -> {
+                if (target < 0) {
+                    return false;
+                }
+                double strengthRoll = random.nextDouble();
+                double weaponRoll = random.nextDouble();
+                takeDamage(target, AttackAction.computeDamage(getStrength(actor), weaponPower[actor], strengthRoll,
+                        weaponRoll));
+            }
+            case SPECIAL_ATTACK -> {
+                if (target < 0) {
+                    return false;
+                }
+                double strengthRoll = random.nextDouble();
+                double weaponRoll = random.nextDouble();
+                takeDamage(target, SpecialAttackAction.computeDamage(getStrength(actor), weaponPower[actor],
+                        strengthRoll, weaponRoll));
+                actionCooldown[slot] = SpecialAttackAction.COOLDOWN_TURNS;
+            }
+            case HEAL -> {
+                if (target < 0) {
+                    return false;
+                }
+                heal(target, HealAction.rollHeal(getStrength(actor), random));
+                actionCooldown[slot] = HealAction.COOLDOWN_TURNS;
+            }
+            case HACK -> {
+                if (target < 0 || (flags[target] & ELECTRONIC) == 0) {
+                    return false;
+                }
+                if (random.nextInt(100) < HackAction.SUCCESS_RATE) {
+                    moveToAllies(target);
+                    disabledTurns[target] += 1;
+                    actionCooldown[slot] = HackAction.SUCCESS_COOLDOWN_TURNS;
+                } else {
+                    actionCooldown[slot] = HackAction.FAILURE_COOLDOWN_TURNS;
+                }
+            }
+            case INCENDIARY_STRIKE -> {
+                int[] enemies = side[actor] == ENEMY ? aliveAllies : aliveEnemies;
+                int enemyCount = side[actor] == ENEMY ? aliveAllyCount : aliveEnemyCount;
+                for (int i = 0; i < enemyCount; i++) {
+                    applyStatus(enemies[i], BURNING, IncendiaryStrikeAction.BURN_DURATION,
+                            IncendiaryStrikeAction.BURN_DAMAGE);
+                }
+                actionCooldown[slot] = IncendiaryStrikeAction.COOLDOWN_TURNS;
+            }
+            default -> {
+                // Use the first health potion
+                if (potionCount == 0) {
+                    return false;
+                }
+                heal(0, potions[0]);
+                System.arraycopy(potions, 1, potions, 0, --potionCount);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the end of turn to every entity, then removes the fallen ones.
+     */
+    private void doEndOfTurnEffects() {
+        endTurn(0);
+        for (int i = 0; i < combatantCount; i++) {
+            if (side[combatants[i]] == ALLY) {
+                endTurn(combatants[i]);
+            }
+        }
+        for (int i = 0; i < combatantCount; i++) {
+            if (side[combatants[i]] == ENEMY) {
+                endTurn(combatants[i]);
+            }
+        }
+
+        int kept = 0;
+        for (int i = 0; i < combatantCount; i++) {
+            if (hp[combatants[i]] > 0) {
+                combatants[kept++] = combatants[i];
+            }
+        }
+        combatantCount = kept;
+        removeFallenEntities();
+    }
+
+    /**
+     * Ends the turn of an entity: statuses, disabled turns and cooldowns.
+     *
+     * @param entity The entity.
+     */
+    private void endTurn(int entity) {
+        if (hp[entity] == 0) {
+            return;
+        }
+
+        int first = entity * statusStride;
+        for (int slot = first; slot < first + statusCount[entity]; slot++) {
+            switch (statusKind[slot]) {
+                case BURNING, POISONED ->
+                    takeDamage(entity, (int) (statusAmount[slot] * (0.8 + (random.nextDouble() * 0.2))));
+                case REGENERATION -> {
+                    if (hp[entity] != maxHp[entity]) {
+                        heal(entity, (int) (statusAmount[slot] * (0.5 + (random.nextDouble() * 0.7))));
+                    }
+                }
+                default -> {
+                    // Attack boosts only change the strength
+                }
+            }
+            if (statusTurns[slot] > 0) {
+                statusTurns[slot]--;
+            }
+        }
+
+        // Remove the expired statuses, keeping the order of the others
+        int kept = first;
+        for (int slot = first; slot < first + statusCount[entity]; slot++) {
+            if (statusTurns[slot] != 0) {
+                statusKind[kept] = statusKind[slot];
+                statusTurns[kept] = statusTurns[slot];
+                statusAmount[kept++] = statusAmount[slot];
+            }
+        }
+        statusCount[entity] = kept - first;
+
+        if (disabledTurns[entity] > 0) {
+            disabledTurns[entity]--;
+        }
+        for (int slot = entity * MAX_ACTIONS; slot < entity * MAX_ACTIONS + actionCount[entity]; slot++) {
+            if (actionCooldown[slot] > 0) {
+                actionCooldown[slot]--;
+            }
+        }
+    }
+
+    /**
+     * Gets the strength of an entity, including boosts from statuses.
+     *
+     * @param entity The entity.
+     * @return The total strength.
+     */
+    private int getStrength(int entity) {
+        int total = strength[entity];
+        int first = entity * statusStride;
+        for (int slot = first; slot < first + statusCount[entity]; slot++) {
+            if (statusKind[slot] == ATTACK_BOOST) {
+                total += statusAmount[slot];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Applies damage like Entity.takeDamage, including the damage reduction of
+     * the entity.
+     *
+     * @param entity The entity hit.
+     * @param amount The damage dealt.
+     */
+    private void takeDamage(int entity, int amount) {
+        if (damageTakenMultiplier[entity] != 1) {
+            amount = (int) (amount * damageTakenMultiplier[entity]);
+        }
+        hp[entity] -= amount;
+        if (hp[entity] < 0) {
+            hp[entity] = 0;
+        }
+    }
+
+    /**
+     * Heals an entity without exceeding its max HP.
+     *
+     * @param entity The entity healed.
+     * @param amount The HP restored.
+     */
+    private void heal(int entity, int amount) {
+        hp[entity] += amount;
+        if (hp[entity] > maxHp[entity]) {
+            hp[entity] = maxHp[entity];
+        }
+    }
+
+    /**
+     * Moves an entity from the enemy side to the ally side.
+     *
+     * @param entity The entity converted.
+     */
+    private void moveToAllies(int entity) {
+        if (side[entity] != ENEMY) {
+            return;
+        }
+        side[entity] = ALLY;
+
+        int position = -1;
+        for (int i = 0; i < aliveEnemyCount; i++) {
+            if (aliveEnemies[i] == entity) {
+                position = i;
+                break;
+            }
+        }
+        if (position >= 0) {
+            System.arraycopy(aliveEnemies, position + 1, aliveEnemies, position, aliveEnemyCount - position - 1);
+            aliveEnemyCount--;
+            if (hp[entity] > 0) {
+                aliveAllies[aliveAllyCount++] = entity;
+            }
+        }
+    }
+
+    /**
+     * Removes the knocked out entities from the alive rosters. The player stays
+     * in the ally roster.
+     */
+    private void removeFallenEntities() {
+        aliveEnemyCount = removeFallen(aliveEnemies, aliveEnemyCount, 0);
+        aliveAllyCount = removeFallen(aliveAllies, aliveAllyCount, 1);
+    }
+
+    /**
+     * Removes the knocked out entities from a roster, keeping the order of the
+     * remaining ones.
+     *
+     * @param roster The roster to clean up.
+     * @param count  The number of entities in the roster.
+     * @param from   The first position that can be removed.
+     * @return The new number of entities in the roster.
+     */
+    private int removeFallen(int[] roster, int count, int from) {
+        int kept = from;
+        for (int i = from; i < count; i++) {
+            if (hp[roster[i]] > 0) {
+                roster[kept++] = roster[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Adds a status to an entity, after its current statuses.
+     *
+     * @param entity The entity affected.
+     * @param kind   The kind of status.
+     * @param turns  The remaining turns, -1 for permanent statuses.
+     * @param amount The damage, heal or boost of the status.
+     */
+    private void applyStatus(int entity, byte kind, int turns, int amount) {
+        if (statusCount[entity] == statusStride) {
+            growStatuses();
+        }
+        int slot = entity * statusStride + statusCount[entity]++;
+        statusKind[slot] = kind;
+        statusTurns[slot] = turns;
+        statusAmount[slot] = amount;
+    }
+
+    /**
+     * Adds a health potion at the end of the player's inventory.
+     *
+     * @param healAmount The HP the potion restores.
+     */
+    private void addPotion(int healAmount) {
+        if (potionCount == potions.length) {
+            potions = Arrays.copyOf(potions, potionCount * 2);
+        }
+        potions[potionCount++] = healAmount;
+    }
+
+    /**
+     * Creates a new, empty entity row.
+     *
+     * @param team The side of the entity.
+     * @return The index of the new entity.
+     */
+    private int newEntity(byte team) {
+        if (size == capacity) {
+            grow(capacity * 2);
+        }
+        int index = size++;
+        side[index] = team;
+        actionCount[index] = 0;
+        statusCount[index] = 0;
+        return index;
+    }
+
+    /**
+     * Adds a new entity to the rosters, like Battle does when it is constructed.
+     *
+     * @param index The index of the entity.
+     */
+    private void join(int index) {
+        if (index == 0) {
+            // The player is always the first of the allies
+            aliveAllies[aliveAllyCount++] = 0;
+            return;
+        }
+        combatants[combatantCount++] = index;
+        if (hp[index] > 0) {
+            if (side[index] == ALLY) {
+                aliveAllies[aliveAllyCount++] = index;
+            } else {
+                aliveEnemies[aliveEnemyCount++] = index;
+            }
+        }
+    }
+
+    /**
+     * Gets the kind of an action.
+     *
+     * @param action The action.
+     * @return The action kind.
+     * @throws IllegalArgumentException if the action cannot be simulated.
+     */
+    private static byte getActionKind(BattleAction action) {
+        return switch (action) {
+            case SpecialAttackAction ignored -> SPECIAL_ATTACK;
+            case AttackAction ignored -> ATTACK;
+            case HealAction ignored -> HEAL;
+            case HackAction ignored -> HACK;
+            case IncendiaryStrikeAction ignored -> INCENDIARY_STRIKE;
+            case UseItemAction ignored -> USE_ITEM;
+            default -> throw new IllegalArgumentException("Unsupported action: " + action.getName());
+        };
+    }
+
+    /**
+     * Allocates the arrays for the given number of entities.
+     *
+     * @param newCapacity The number of entities.
+     */
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        hp = new int[newCapacity];
+        maxHp = new int[newCapacity];
+        strength = new int[newCapacity];
+        weaponPower = new int[newCapacity];
+        disabledTurns = new int[newCapacity];
+        flags = new int[newCapacity];
+        damageTakenMultiplier = new double[newCapacity];
+        side = new byte[newCapacity];
+        actionCount = new int[newCapacity];
+        actionKind = new byte[newCapacity * MAX_ACTIONS];
+        actionCooldown = new int[newCapacity * MAX_ACTIONS];
+        statusCount = new int[newCapacity];
+        statusKind = new byte[newCapacity * statusStride];
+        statusTurns = new int[newCapacity * statusStride];
+        statusAmount = new int[newCapacity * statusStride];
+        combatants = new int[newCapacity];
+        aliveAllies = new int[newCapacity];
+        aliveEnemies = new int[newCapacity];
+        acting = new int[newCapacity];
+        targets = new int[newCapacity];
+    }
+
+    /**
+     * Grows the entity arrays, keeping their contents.
+     *
+     * @param newCapacity The new number of entities.
+     */
+    private void grow(int newCapacity) {
+        capacity = newCapacity;
+        hp = Arrays.copyOf(hp, newCapacity);
+        maxHp = Arrays.copyOf(maxHp, newCapacity);
+        strength = Arrays.copyOf(strength, newCapacity);
+        weaponPower = Arrays.copyOf(weaponPower, newCapacity);
+        disabledTurns = Arrays.copyOf(disabledTurns, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        damageTakenMultiplier = Arrays.copyOf(damageTakenMultiplier, newCapacity);
+        side = Arrays.copyOf(side, newCapacity);
+        actionCount = Arrays.copyOf(actionCount, newCapacity);
+        actionKind = Arrays.copyOf(actionKind, newCapacity * MAX_ACTIONS);
+        actionCooldown = Arrays.copyOf(actionCooldown, newCapacity * MAX_ACTIONS);
+        statusCount = Arrays.copyOf(statusCount, newCapacity);
+        statusKind = Arrays.copyOf(statusKind, newCapacity * statusStride);
+        statusTurns = Arrays.copyOf(statusTurns, newCapacity * statusStride);
+        statusAmount = Arrays.copyOf(statusAmount, newCapacity * statusStride);
+        combatants = Arrays.copyOf(combatants, newCapacity);
+        aliveAllies = Arrays.copyOf(aliveAllies, newCapacity);
+        aliveEnemies = Arrays.copyOf(aliveEnemies, newCapacity);
+        acting = Arrays.copyOf(acting, newCapacity);
+        targets = Arrays.copyOf(targets, newCapacity);
+    }
+
+    /**
+     * Doubles the number of status slots of every entity.
+     */
+    private void growStatuses() {
+        int newStride = statusStride * 2;
+        byte[] newKind = new byte[capacity * newStride];
+        int[] newTurns = new int[capacity * newStride];
+        int[] newAmount = new int[capacity * newStride];
+        for (int entity = 0; entity < size; entity++) {
+            System.arraycopy(statusKind, entity * statusStride, newKind, entity * newStride, statusCount[entity]);
+            System.arraycopy(statusTurns, entity * statusStride, newTurns, entity * newStride, statusCount[entity]);
+            System.arraycopy(statusAmount, entity * statusStride, newAmount, entity * newStride, statusCount[entity]);
+        }
+        statusStride = newStride;
+        statusKind = newKind;
+        statusTurns = newTurns;
+        statusAmount = newAmount;
+    }
+}
@@ -0,0 +1,308 @@
+package src.simulation;
+
+import src.ai.RandomBattleAI;
+import src.ai.SearchBattleAI;
+import src.entities.Bioengineer;
+import src.entities.Enemy;
+import src.entities.EnemyTemplate;
+import src.entities.Hero;
+import src.entities.HeroClass;
+import src.entities.NPCRegistry;
+import src.entities.PharmacologistHacker;
+import src.entities.TacticalChemist;
+import src.game.AutoHeroController;
+import src.game.Battle;
+import src.game.GameOutput;
+import src.game.GameRandom;
+import src.game.GameSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs large numbers of seeded headless battles in parallel to measure game
+ * balance.
+ * Every battle gets its own seed derived from its index, so the results are
+ * the same regardless of how many threads are used.
+ */
+public class BattleSimulator {
+    // Number of battles a single fork/join task runs before splitting
+    private static final int BATCH_SIZE = 1024;
+    // Bosses search to a fixed depth without a time limit so results are reproducible
+    private static final int BOSS_SEARCH_DEPTH = 2;
+
+    private final HeroClass heroClass;
+    private final int heroHp;
+    private final int heroStrength;
+    private final long baseSeed;
+    private final List<EnemyTemplate> bossTemplates;
+    private final SimulationEngine engine;
+    // The hero (row 0) and every boss (from row 1), copied into each array battle
+    private final ArrayBattle arrayTemplates;
+
+    /**
+     * Constructs a simulator for final boss battles played by the game's own
+     * battle model.
+     *
+     * @param heroClass    The class of the hero fighting every battle.
+     * @param heroHp       The hero's maximum HP.
+     * @param heroStrength The hero's strength.
+     * @param baseSeed     The seed all battle seeds are derived from.
+     */
+    public BattleSimulator(HeroClass heroClass, int heroHp, int heroStrength, long baseSeed) {
+        this(heroClass, heroHp, heroStrength, baseSeed, SimulationEngine.OBJECTS);
+    }
+
+    /**
+     * Constructs a simulator for final boss battles.
+     *
+     * @param heroClass    The class of the hero fighting every battle.
+     * @param heroHp       The hero's maximum HP.
+     * @param heroStrength The hero's strength.
+     * @param baseSeed     The seed all battle seeds are derived from.
+     * @param engine       How the battles are played.
+     */
+    public BattleSimulator(HeroClass heroClass, int heroHp, int heroStrength, long baseSeed,
+            SimulationEngine engine) {
+        this.heroClass = heroClass;
+        this.heroHp = heroHp;
+        this.heroStrength = heroStrength;
+        this.baseSeed = baseSeed;
+        this.bossTemplates = NPCRegistry.FINAL_BOSS;
+        this.engine = engine;
+
+        this.arrayTemplates = new ArrayBattle();
+        if (engine != SimulationEngine.OBJECTS) {
+            arrayTemplates.add(createHero(), ArrayBattle.ALLY);
+            for (EnemyTemplate boss : bossTemplates) {
+                arrayTemplates.add(boss.spawn(), ArrayBattle.ENEMY);
+            }
+        }
+    }
+
+    /**
+     * Runs a number of battles using the given pool.
+     *
+     * @param pool    The pool the battles run on.
+     * @param battles The number of battles to run.
+     * @return The combined result of all battles.
+     */
+    public SimulationResult run(ForkJoinPool pool, long battles) {
+        return pool.invoke(new SimulationTask(0, battles));
+    }
+
+    /**
+     * Derives the seed of a single battle from the base seed (SplitMix64).
+     *
+     * @param index The index of the battle.
+     * @return The seed for that battle.
+     */
+    public long seedFor(long index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Runs a single battle on the current thread and records its outcome.
+     *
+     * @param index  The index of the battle.
+     * @param result The result the outcome is added to.
+     * @param arena  The array battle reused by the current task.
+     * @param random The random generator reused by the current task.
+     */
+    private void runBattle(long index, SimulationResult result, ArrayBattle arena, Random random) {
+        switch (engine) {
+            case OBJECTS -> {
+                Battle battle = runObjectBattle(index, false, new ArrayList<>(), result);
+                Hero hero = battle.getPlayer();
+                result.addBattle(hero.getCurrentHp() > 0, battle.getTurnCount(), hero.getCurrentHp());
+            }
+            case ARRAYS -> {
+                runArrayBattle(index, arena, random);
+                result.addBattle(arena.isWon(), arena.getTurnCount(), arena.getHp(0));
+            }
+            case VERIFY -> {
+                ArrayList<Enemy> enemies = new ArrayList<>();
+                Battle battle = runObjectBattle(index, true, enemies, result);
+                runArrayBattle(index, arena, random);
+                verify(index, battle, enemies, arena);
+                Hero hero = battle.getPlayer();
+                result.addBattle(hero.getCurrentHp() > 0, battle.getTurnCount(), hero.getCurrentHp());
+            }
+        }
+    }
+
+    /**
+     * Plays a battle with the game's own battle model.
+     *
+     * @param index    The index of the battle.
+     * @param randomAI Whether every NPC plays randomly, like in an array battle.
+     * @param enemies  Filled with the enemies of the battle.
+     * @param result   The result of the current task, where the boss decisions
+     *                 are recorded.
+     * @return The finished battle.
+     */
+    private Battle runObjectBattle(long index, boolean randomAI, ArrayList<Enemy> enemies,
+            SimulationResult result) {
+        GameRandom.initialize(seedFor(index));
+        Random random = GameRandom.getInstance();
+
+        Hero hero = createHero();
+
+        // Same enemy selection as the final battle of the game
+        int numberOfEnemies = random.nextInt(bossTemplates.size()) + 1;
+        for (int i = 0; i < numberOfEnemies; i++) {
+            enemies.add(bossTemplates.get(random.nextInt(bossTemplates.size())).spawn());
+        }
+
+        Battle battle = new Battle(hero, enemies, null, new AutoHeroController());
+        if (randomAI) {
+            RandomBattleAI ai = new RandomBattleAI();
+            battle.setAI(ai);
+            battle.setBossAI(ai);
+        } else {
+            battle.setBossAI(new SearchBattleAI(Long.MAX_VALUE, BOSS_SEARCH_DEPTH, result.getSearchMetrics()));
+        }
+        battle.start();
+        return battle;
+    }
+
+    /**
+     * Plays a battle as arrays, drawing the same random numbers as the object
+     * model.
+     *
+     * @param index  The index of the battle.
+     * @param arena  The array battle to reuse.
+     * @param random The random generator to reseed.
+     */
+    private void runArrayBattle(long index, ArrayBattle arena, Random random) {
+        random.setSeed(seedFor(index));
+
+        arena.clear();
+        arena.add(arrayTemplates, 0, ArrayBattle.ALLY);
+        int numberOfEnemies = random.nextInt(bossTemplates.size()) + 1;
+        for (int i = 0; i < numberOfEnemies; i++) {
+            arena.add(arrayTemplates, 1 + random.nextInt(bossTemplates.size()), ArrayBattle.ENEMY);
+        }
+        arena.run(random);
+    }
+
+    /**
+     * Checks that both models ended a battle in exactly the same state.
+     *
+     * @param index   The index of the battle.
+     * @param battle  The battle played by the object model.
+     * @param enemies The enemies of that battle.
+     * @param arena   The same battle played as arrays.
+     * @throws IllegalStateException if the two battles differ.
+     */
+    private void verify(long index, Battle battle, List<Enemy> enemies, ArrayBattle arena) {
+        Hero hero = battle.getPlayer();
+        boolean same = battle.getTurnCount() == arena.getTurnCount()
+                && hero.getCurrentHp() == arena.getHp(0)
+                && hero.getMaxHp() == arena.getMaxHp(0)
+                && enemies.size() == arena.getSize() - 1;
+        for (int i = 0; same && i < enemies.size(); i++) {
+            same = enemies.get(i).getCurrentHp() == arena.getHp(i + 1);
+        }
+        if (!same) {
+            throw new IllegalStateException("Battle " + index + " (seed " + seedFor(index)
+                    + ") differs between the object and array models.");
+        }
+    }
+
+    /**
+     * Creates a fresh hero of the simulated class.
+     *
+     * @return The created hero.
+     */
+    private Hero createHero() {
+        return switch (heroClass) {
+            case PHARMACOLOGIST_HACKER -> new PharmacologistHacker("Hacker", heroHp, heroStrength, 0);
+            case BIOENGINEER -> new Bioengineer("Bioengineer", heroHp, heroStrength, 0);
+            case TACTICAL_CHEMIST -> new TacticalChemist("Chemist", heroHp, heroStrength, 0);
+        };
+    }
+
+    /**
+     * Fork/join task running a range of battle indexes.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        SimulationTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= BATCH_SIZE) {
+                SimulationResult result = new SimulationResult();
+                ArrayBattle arena = new ArrayBattle();
+                Random random = new Random(0);
+                // Worker threads get a session of their own, without output
+                GameSession.headless().run(() -> {
+                    for (long i = from; i < to; i++) {
+                        runBattle(i, result, arena, random);
+                    }
+                });
+                return result;
+            }
+
+            long middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, middle);
+            left.fork();
+            SimulationResult right = new SimulationTask(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Runs the simulation for every hero class against the final boss.
+     * Usage: BattleSimulator [battles] [seed] [threads] [heroHp] [heroStrength]
+     * [objects|arrays|verify]
+     */
+    public static void main(String[] args) {
+        long battles = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int heroHp = args.length > 3 ? Integer.parseInt(args[3]) : 150;
+        int heroStrength = args.length > 4 ? Integer.parseInt(args[4]) : 30;
+        SimulationEngine engine = args.length > 5 ? SimulationEngine.valueOf(args[5].toUpperCase())
+                : SimulationEngine.OBJECTS;
+
+        // Heroes built on this thread draw from the random generator too
+        GameRandom.initialize(seed);
+        GameOutput.mute();
+
+        System.out.printf("Simulating %d battles per hero class on %d threads (seed %d)%n", battles, threads, seed);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (HeroClass heroClass : HeroClass.values()) {
+                BattleSimulator simulator = new BattleSimulator(heroClass, heroHp, heroStrength, seed, engine);
+
+                long start = System.nanoTime();
+                SimulationResult result = simulator.run(pool, battles);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                System.out.printf("%-22s win rate %6.2f%% | avg turns %5.2f | avg HP left %6.1f | %,.0f battles/s%n",
+                        heroClass, result.getWinRate(), result.getAverageTurns(), result.getAverageHpLeft(),
+                        result.getBattles() / seconds);
+                if (result.getSearchMetrics().getDecisions() > 0) {
+                    System.out.println("    boss search: " + result.getSearchMetrics());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package src.simulation;
+
+/**
+ * How the simulator plays its battles.
+ */
+public enum SimulationEngine {
+    // The game's own Battle and AIs (the search AI for bosses)
+    OBJECTS,
+    // ArrayBattle, with every NPC playing randomly
+    ARRAYS,
+    // Both ArrayBattle and Battle with the random AI, failing on any difference
+    VERIFY
+}
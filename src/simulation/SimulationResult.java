@@ -0,0 +1,99 @@
+package src.simulation;
+
+import src.ai.SearchMetrics;
+
+/**
+ * Accumulates the outcome of a series of simulated battles.
+ * Results are plain sums, so merging partial results gives the same totals no
+ * matter how the battles were split between threads.
+ */
+public class SimulationResult {
+    private long battles;
+    private long heroWins;
+    private long totalTurns;
+    private long totalHpLeft;
+    private final SearchMetrics searchMetrics = new SearchMetrics();
+
+    /**
+     * Records the outcome of one battle.
+     *
+     * @param heroWon Whether the hero survived the battle.
+     * @param turns   The number of turns the battle lasted.
+     * @param hpLeft  The hero's HP at the end of the battle.
+     */
+    public void addBattle(boolean heroWon, int turns, int hpLeft) {
+        battles++;
+        totalTurns += turns;
+        if (heroWon) {
+            heroWins++;
+            totalHpLeft += hpLeft;
+        }
+    }
+
+    /**
+     * Adds the outcomes recorded by another result to this one.
+     *
+     * @param other The result to merge.
+     * @return This result, for chaining.
+     */
+    public SimulationResult merge(SimulationResult other) {
+        battles += other.battles;
+        heroWins += other.heroWins;
+        totalTurns += other.totalTurns;
+        totalHpLeft += other.totalHpLeft;
+        searchMetrics.merge(other.searchMetrics);
+        return this;
+    }
+
+    public long getBattles() {
+        return battles;
+    }
+
+    public long getHeroWins() {
+        return heroWins;
+    }
+
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    public long getTotalHpLeft() {
+        return totalHpLeft;
+    }
+
+    /**
+     * Gets the statistics of the boss decisions made in these battles.
+     *
+     * @return The boss search metrics.
+     */
+    public SearchMetrics getSearchMetrics() {
+        return searchMetrics;
+    }
+
+    /**
+     * Gets the percentage of battles won by the hero.
+     *
+     * @return The win rate, from 0 to 100.
+     */
+    public double getWinRate() {
+        return battles == 0 ? 0 : heroWins * 100.0 / battles;
+    }
+
+    /**
+     * Gets the average number of turns per battle.
+     *
+     * @return The average battle length.
+     */
+    public double getAverageTurns() {
+        return battles == 0 ? 0 : (double) totalTurns / battles;
+    }
+
+    /**
+     * Gets the average HP the hero had left after winning.
+     *
+     * @return The average HP left on victory.
+     */
+    public double getAverageHpLeft() {
+        return heroWins == 0 ? 0 : (double) totalHpLeft / heroWins;
+    }
+}
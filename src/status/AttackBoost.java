@@ -25,4 +25,14 @@ public class AttackBoost extends TimedStatus {
     public int getStrengthBoost() {
         return strengthBoost;
     }
+
+    /**
+     * Adds the strength boost to the entity's modifiers.
+     *
+     * @param modifiers The modifiers of the affected entity.
+     */
+    @Override
+    public void contributeTo(StatModifiers modifiers) {
+        modifiers.add(Stat.STRENGTH, strengthBoost);
+    }
 }
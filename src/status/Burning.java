@@ -1,6 +1,8 @@
 package src.status;
 
 import src.entities.Entity;
+import src.events.DamageType;
+import src.events.GameEvents;
 
 /**
  * Represents a status effect that causes an entity to take burn damage at the
@@ -31,7 +33,25 @@ public class Burning extends EndOfTurnStatus {
     public void applyEffect(Entity entity) {
         int adjustedDamage = (int) (damagePerTurn * (0.8 + (random.nextDouble() * 0.2)));
         entity.takeDamage(adjustedDamage);
-        System.out.println(entity.getName() + " takes " + adjustedDamage + " 🔥burn damage!");
+        GameEvents.damageDealt(null, entity, adjustedDamage, DamageType.BURN);
     }
 
+    /**
+     * Gets the base strength of the effect.
+     *
+     * @return The burn damage dealt every turn, before the random reduction.
+     */
+    public int getDamagePerTurn() {
+        return damagePerTurn;
+    }
+
+    /**
+     * Estimates the average burn damage dealt every turn.
+     *
+     * @return The expected HP change per turn (negative).
+     */
+    @Override
+    public double getExpectedHpChangePerTurn() {
+        return -damagePerTurn * 0.9;
+    }
 }
@@ -42,6 +42,16 @@ public abstract class EndOfTurnStatus extends TimedStatus {
         return isNegative;
     }
 
+    /**
+     * Estimates the average HP change caused by this status every turn.
+     * Negative values mean damage, positive values mean healing.
+     *
+     * @return The expected HP change per turn.
+     */
+    public double getExpectedHpChangePerTurn() {
+        return 0;
+    }
+
     /**
      * Applies the effect of the status at the end of the turn.
      *
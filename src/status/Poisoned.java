@@ -1,6 +1,8 @@
 package src.status;
 
 import src.entities.Entity;
+import src.events.DamageType;
+import src.events.GameEvents;
 
 /**
  * Represents a poisoned status effect that deals damage to an entity at the end
@@ -30,6 +32,25 @@ public class Poisoned extends EndOfTurnStatus {
     public void applyEffect(Entity entity) {
         int adjustedDamage = (int) (damagePerTurn * (0.8 + (random.nextDouble() * 0.2)));
         entity.takeDamage(adjustedDamage);
-        System.out.println(entity.getName() + " takes " + adjustedDamage + " ☠️poison damage!");
+        GameEvents.damageDealt(null, entity, adjustedDamage, DamageType.POISON);
+    }
+
+    /**
+     * Gets the base strength of the effect.
+     *
+     * @return The poison damage dealt every turn, before the random reduction.
+     */
+    public int getDamagePerTurn() {
+        return damagePerTurn;
+    }
+
+    /**
+     * Estimates the average poison damage dealt every turn.
+     *
+     * @return The expected HP change per turn (negative).
+     */
+    @Override
+    public double getExpectedHpChangePerTurn() {
+        return -damagePerTurn * 0.9;
     }
 }
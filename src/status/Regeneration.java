@@ -1,6 +1,8 @@
 package src.status;
 
 import src.entities.Entity;
+import src.events.GameEvents;
+import src.events.HealType;
 
 /**
  * Represents a regeneration status effect that restores health to an entity at
@@ -36,6 +38,25 @@ public class Regeneration extends EndOfTurnStatus {
 
         int adjustedHealAmount = (int) (healAmount * (0.5 + (random.nextDouble() * 0.7)));
         entity.heal(adjustedHealAmount);
-        System.out.println(entity.getName() + " heals for " + adjustedHealAmount + " 💗!");
+        GameEvents.healed(null, entity, adjustedHealAmount, HealType.REGENERATION);
+    }
+
+    /**
+     * Gets the base strength of the effect.
+     *
+     * @return The HP healed every turn, before the random adjustment.
+     */
+    public int getHealAmount() {
+        return healAmount;
+    }
+
+    /**
+     * Estimates the average healing done every turn.
+     *
+     * @return The expected HP change per turn.
+     */
+    @Override
+    public double getExpectedHpChangePerTurn() {
+        return healAmount * 0.85;
     }
 }
@@ -0,0 +1,8 @@
+package src.status;
+
+/**
+ * Stats of an entity that statuses can modify.
+ */
+public enum Stat {
+    STRENGTH
+}
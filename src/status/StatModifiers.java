@@ -0,0 +1,42 @@
+package src.status;
+
+/**
+ * The combined modifiers of all statuses affecting an entity, one value per
+ * stat.
+ * Entities rebuild it only when their statuses change, so reading a modified
+ * stat never has to go through the statuses.
+ */
+public class StatModifiers {
+    private static final Stat[] STATS = Stat.values();
+
+    private final int[] values = new int[STATS.length];
+
+    /**
+     * Gets the combined modifier of a stat.
+     *
+     * @param stat The stat.
+     * @return The amount added to the stat.
+     */
+    public int get(Stat stat) {
+        return values[stat.ordinal()];
+    }
+
+    /**
+     * Adds to the modifier of a stat.
+     *
+     * @param stat   The stat.
+     * @param amount The amount to add, negative to reduce the stat.
+     */
+    public void add(Stat stat, int amount) {
+        values[stat.ordinal()] += amount;
+    }
+
+    /**
+     * Resets every modifier to 0.
+     */
+    public void clear() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0;
+        }
+    }
+}
@@ -62,6 +62,26 @@ public abstract class TimedStatus {
         return remainingTurns;
     }
 
+    /**
+     * Sets the remaining number of turns, used when a saved battle is restored.
+     *
+     * @param remainingTurns The remaining turn count (-1 for permanent effects).
+     */
+    public void setRemainingTurns(int remainingTurns) {
+        this.remainingTurns = remainingTurns;
+    }
+
+    /**
+     * Adds the stat modifiers of this status. Called whenever the statuses of an
+     * entity change, so the contribution must stay the same for the whole
+     * lifetime of the status.
+     *
+     * @param modifiers The modifiers of the affected entity.
+     */
+    public void contributeTo(StatModifiers modifiers) {
+        // Most statuses do not modify stats
+    }
+
     /**
      * Reduces the duration of the status effect by one turn if it is not permanent.
      */
@@ -1,12 +1,25 @@
 package src.utils;
 
+import src.game.GameOutput;
+import src.game.GameSession;
+
 import javax.sound.sampled.*;
 import java.io.*;
 
 /**
  * Utility class for playing audio files in the game.
+ * Music only plays if the game session of the current thread enables it.
  */
 public class Audio {
+    /**
+     * Enables or disables music in the game session of the current thread, for
+     * sessions that run without a player.
+     *
+     * @param enabled True to play music, false to skip it.
+     */
+    public static void setEnabled(boolean enabled) {
+        GameSession.current().setMusicEnabled(enabled);
+    }
 
     /**
      * Plays an audio file (.wav) during the execution of the program.
@@ -14,12 +27,17 @@ public class Audio {
      * @param path The path to the audio file.
      */
     public static void playMusic(String path) {
+        if (!GameSession.current().isMusicEnabled()) {
+            return;
+        }
+        // Show the current screen before the music blocks the game
+        GameOutput.flush();
         try {
             File audio = new File(path);
 
             // Check if the file exists and is valid
             if (!audio.exists() || !audio.isFile()) {
-                System.out.println("❌ Error: Audio file not found -> " + path);
+                GameOutput.println("❌ Error: Audio file not found -> " + path);
                 return;
             }
 
@@ -36,16 +54,16 @@ public class Audio {
             clip.drain();
 
         } catch (UnsupportedAudioFileException e) {
-            System.out.println("❌ Error: Unsupported audio format. Ensure the .wav file is PCM 16-bit.");
+            GameOutput.println("❌ Error: Unsupported audio format. Ensure the .wav file is PCM 16-bit.");
             e.printStackTrace();
         } catch (IOException e) {
-            System.out.println("❌ Error: Issue loading the audio file.");
+            GameOutput.println("❌ Error: Issue loading the audio file.");
             e.printStackTrace();
         } catch (LineUnavailableException e) {
-            System.out.println("❌ Error: Audio line unavailable.");
+            GameOutput.println("❌ Error: Audio line unavailable.");
             e.printStackTrace();
         } catch (Exception e) {
-            System.out.println("❌ Unknown error occurred while playing audio.");
+            GameOutput.println("❌ Unknown error occurred while playing audio.");
             e.printStackTrace();
         }
     }
@@ -1,73 +1,116 @@
 package src.utils;
 
+import src.game.EncodedText;
+import src.game.GameOutput;
+
 /**
  * Stores ASCII art for the game's interface.
+ * Every screen is encoded once when the class is loaded and written to the
+ * output in a single call.
  */
 public class ConsoleScreens {
+    private static final EncodedText WELCOME_SCREEN = EncodedText.ofLines(
+            "\n",
+            "████████╗ █████╗ ██████╗ ███████╗███╗   ██╗██████╗  █████╗ ██╗  ██╗",
+            "╚══██╔══╝██╔══██╗██╔══██╗██╔════╝████╗  ██║██╔══██╗██╔══██╗██║ ██╔╝",
+            "   ██║   ███████║██████╔╝█████╗  ██╔██╗ ██║██████╔╝███████║█████╔╝ ",
+            "   ██║   ██╔══██║██╔══██╗██╔══╝  ██║╚██╗██║██╔═══╝ ██╔══██║██╔═██╗ ",
+            "   ██║   ██║  ██║██║  ██║███████╗██║ ╚████║██║     ██║  ██║██║  ██╗",
+            "   ╚═╝   ╚═╝  ╚═╝╚═╝  ╚═╝╚══════╝╚═╝  ╚═══╝╚═╝     ╚═╝  ╚═╝╚═╝  ╚═╝",
+            "====================================================================",
+            "                 Welcome to **LABORATORY OF CHAOS**                 ",
+            "             🧪  Escape PharmaCorp! Save the world!  🌍            ",
+            "====================================================================",
+            "          A text-based RPG adventure game by Andreia Santos       \n");
+
+    private static final EncodedText BATTLE_SCREEN = EncodedText.ofLines(
+            "\n       ⚔️  **BATTLE MODE INITIATED**  ⚔️",
+            "───────────────────────────────────────────────────────",
+            "💥  The battlefield is set. Enemies are closing in...",
+            "⚠️  Prepare for combat! Choose your strategy wisely.",
+            "───────────────────────────────────────────────────────");
+
+    private static final EncodedText VICTORY_HEADER = EncodedText.ofLines(
+            "\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            "          🏆 🎉  V I C T O R Y ! 🎉 🏆",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+
+    private static final EncodedText VICTORY_FOOTER = EncodedText.ofLines(
+            "🔥 You have defeated your enemy in an epic battle! 🔥",
+            "💪 Your skill and strategy have led you to glory! 💪",
+            "\n🌟 Congratulations! 🌟\n");
+
+    private static final EncodedText DEFEAT_SCREEN = EncodedText.ofLines(
+            "\n💀  **FATAL ERROR: LIFE SIGNS LOST** 💀",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            "🧬  Your vision fades as the cold steel floor meets you...",
+            "📂  All your research, all your efforts—erased.",
+            "🏢  PharmaCorp continues its experiments, unchallenged.",
+            "☠️  The truth dies with you...",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
 
+    private static final EncodedText FINAL_BATTLE_SCREEN = EncodedText.ofLines(
+            "\n       🔥⚔️  **FINAL SHOWDOWN BEGINS!**  ⚔️🔥",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            "💀  The battlefield trembles as your final enemy approaches...",
+            "🌩️  The storm rages. The fate of everything rests on this battle.",
+            "⚠️  **FIGHT WITH EVERYTHING YOU HAVE! THIS IS YOUR LAST CHANCE!**",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+
+    private static final EncodedText ESCAPE_SCREEN = EncodedText.ofLines(
+            "\n🚨 **ESCAPE SUCCESSFUL!** 🚨",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            "🏆  **CONGRATULATIONS! YOU ESCAPED THE LAB!**",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            "🏃‍♂️  As you sprint through the final security doors...",
+            "🌫️  The cold night air hits your face—freedom, at last.",
+            "🔎  But PharmaCorp's influence extends far beyond these walls...",
+            "⚖️  Will you expose their secrets or disappear into the shadows?",
+            "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+
+    /**
+     * Displays the title screen.
+     */
     public static void showWelcomeScreen() {
-        System.out.println("\n");
-        System.out.println("████████╗ █████╗ ██████╗ ███████╗███╗   ██╗██████╗  █████╗ ██╗  ██╗");
-        System.out.println("╚══██╔══╝██╔══██╗██╔══██╗██╔════╝████╗  ██║██╔══██╗██╔══██╗██║ ██╔╝");
-        System.out.println("   ██║   ███████║██████╔╝█████╗  ██╔██╗ ██║██████╔╝███████║█████╔╝ ");
-        System.out.println("   ██║   ██╔══██║██╔══██╗██╔══╝  ██║╚██╗██║██╔═══╝ ██╔══██║██╔═██╗ ");
-        System.out.println("   ██║   ██║  ██║██║  ██║███████╗██║ ╚████║██║     ██║  ██║██║  ██╗");
-        System.out.println("   ╚═╝   ╚═╝  ╚═╝╚═╝  ╚═╝╚══════╝╚═╝  ╚═══╝╚═╝     ╚═╝  ╚═╝╚═╝  ╚═╝");
-        System.out.println("====================================================================");
-        System.out.println("                 Welcome to **LABORATORY OF CHAOS**                 ");
-        System.out.println("             🧪  Escape PharmaCorp! Save the world!  🌍            ");
-        System.out.println("====================================================================");
-        System.out.println("          A text-based RPG adventure game by Andreia Santos       \n");
+        GameOutput.print(WELCOME_SCREEN);
     }
 
+    /**
+     * Displays the start of a battle.
+     */
     public static void showBattleScreen() {
-        System.out.println("\n       ⚔️  **BATTLE MODE INITIATED**  ⚔️");
-        System.out.println("───────────────────────────────────────────────────────");
-        System.out.println("💥  The battlefield is set. Enemies are closing in...");
-        System.out.println("⚠️  Prepare for combat! Choose your strategy wisely.");
-        System.out.println("───────────────────────────────────────────────────────");
+        GameOutput.print(BATTLE_SCREEN);
     }
 
+    /**
+     * Displays the end of a won battle.
+     *
+     * @param name The name of the hero.
+     */
     public static void showVictoryScreen(String name) {
-        System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("          🏆 🎉  V I C T O R Y ! 🎉 🏆");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("🎉 " + name + " won the battle!");
-        System.out.println("🔥 You have defeated your enemy in an epic battle! 🔥");
-        System.out.println("💪 Your skill and strategy have led you to glory! 💪");
-        System.out.println("\n🌟 Congratulations! 🌟\n");
-
+        GameOutput.print(VICTORY_HEADER);
+        GameOutput.println("🎉 " + name + " won the battle!");
+        GameOutput.print(VICTORY_FOOTER);
     }
 
+    /**
+     * Displays the end of the game when the hero dies.
+     */
     public static void showDefeatScreen() {
-        System.out.println("\n💀  **FATAL ERROR: LIFE SIGNS LOST** 💀");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("🧬  Your vision fades as the cold steel floor meets you...");
-        System.out.println("📂  All your research, all your efforts—erased.");
-        System.out.println("🏢  PharmaCorp continues its experiments, unchallenged.");
-        System.out.println("☠️  The truth dies with you...");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-
+        GameOutput.print(DEFEAT_SCREEN);
     }
 
+    /**
+     * Displays the start of the final battle.
+     */
     public static void showFinalBattleScreen() {
-        System.out.println("\n       🔥⚔️  **FINAL SHOWDOWN BEGINS!**  ⚔️🔥");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("💀  The battlefield trembles as your final enemy approaches...");
-        System.out.println("🌩️  The storm rages. The fate of everything rests on this battle.");
-        System.out.println("⚠️  **FIGHT WITH EVERYTHING YOU HAVE! THIS IS YOUR LAST CHANCE!**");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.print(FINAL_BATTLE_SCREEN);
     }
 
+    /**
+     * Displays the end of the game when the hero escapes.
+     */
     public static void escapeTheLabScreen() {
-        System.out.println("\n🚨 **ESCAPE SUCCESSFUL!** 🚨");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("🏆  **CONGRATULATIONS! YOU ESCAPED THE LAB!**");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println("🏃‍♂️  As you sprint through the final security doors...");
-        System.out.println("🌫️  The cold night air hits your face—freedom, at last.");
-        System.out.println("🔎  But PharmaCorp's influence extends far beyond these walls...");
-        System.out.println("⚖️  Will you expose their secrets or disappear into the shadows?");
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        GameOutput.print(ESCAPE_SCREEN);
     }
 }